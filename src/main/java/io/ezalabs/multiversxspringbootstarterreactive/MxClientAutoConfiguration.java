@@ -1,9 +1,20 @@
 package io.ezalabs.multiversxspringbootstarterreactive;
 
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxCachingProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxCoalescingProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxClientMetrics;
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxLoadBalancedProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxMicrometerClientMetrics;
 import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
 import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClientImpl;
 import io.ezalabs.multiversxspringbootstarterreactive.config.MxClientConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,18 +22,46 @@ import io.ezalabs.multiversxspringbootstarterreactive.properties.MxClientPropert
 
 @Configuration
 @EnableConfigurationProperties(MxClientProperties.class)
+@AutoConfigureAfter(name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 public class MxClientAutoConfiguration {
 
   @Bean
-  public MxClientConfig clientConfig(MxClientProperties props) {
-    return new MxClientConfig(props);
+  public MxClientConfig clientConfig(MxClientProperties props, ObjectProvider<MxClientMetrics> metrics) {
+    return new MxClientConfig(props, props.isMetricsEnabled() ? metrics.getIfAvailable() : null);
   }
 
   @Bean
   @ConditionalOnBean(MxClientConfig.class)
-  public MxProxyClient proxyClient(MxClientConfig config) {
-    return new MxProxyClientImpl(config);
+  public MxProxyClient proxyClient(MxClientConfig config, MxClientProperties props) {
+    MxProxyClient client = config.getProxyUrls().isEmpty()
+        ? new MxProxyClientImpl(config)
+        : new MxLoadBalancedProxyClient(config.getProxyUrls(),
+            url -> new MxProxyClientImpl(config, url),
+            config.getProxyProbeInterval());
+
+    if (props.isCoalescingEnabled()) {
+      client = new MxCoalescingProxyClient(client);
+    }
+
+    if (props.isCacheEnabled()) {
+      client = new MxCachingProxyClient(client, props.getCacheMaxSize(),
+          Duration.ofMillis(props.getCacheShortTtlMillis()));
+    }
+
+    return client;
   }
 
+  @Configuration
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+  static class MxClientMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean(MxClientMetrics.class)
+    public MxClientMetrics clientMetrics(MeterRegistry registry) {
+      return new MxMicrometerClientMetrics(registry);
+    }
+
+  }
 
 }
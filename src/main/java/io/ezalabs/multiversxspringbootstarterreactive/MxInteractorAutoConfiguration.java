@@ -1,6 +1,9 @@
 package io.ezalabs.multiversxspringbootstarterreactive;
 
 import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.BlockConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -14,10 +17,18 @@ import io.ezalabs.multiversxspringbootstarterreactive.interactor.esdt.MxESDTInte
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.esdt.MxESDTInteractorImpl;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.network.MxNetworkInteractor;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.network.MxNetworkInteractorImpl;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.smartcontract.ContractQueryCache;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.smartcontract.MxSmartContractInteractor;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.smartcontract.MxSmartContractInteractorImpl;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction.MxTransactionInteractor;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction.MxHyperblockTransactionTracker;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction.MxNonceManager;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction.MxPollingTransactionTracker;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction.MxTransactionInteractorImpl;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction.MxTransactionTracker;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction.TransactionBatchOptions;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction.TransactionCostEstimator;
+import io.ezalabs.multiversxspringbootstarterreactive.properties.MxClientProperties;
 
 @Configuration
 @ConditionalOnClass({MxNetworkInteractor.class, MxAccountInteractor.class, MxTransactionInteractor.class})
@@ -26,6 +37,8 @@ public class MxInteractorAutoConfiguration {
 
   @Autowired
   private MxProxyClient mxProxyClient;
+  @Autowired
+  private MxClientProperties clientProperties;
 
   @Bean
   public MxNetworkInteractor networkInteractor() {
@@ -37,14 +50,44 @@ public class MxInteractorAutoConfiguration {
     return new MxAccountInteractorImpl(mxProxyClient);
   }
 
+  @Bean
+  public MxNonceManager nonceManager() {
+    return new MxNonceManager(accountInteractor());
+  }
+
+  @Bean
+  public MxTransactionTracker transactionTracker() {
+    return switch (clientProperties.getTransactionConfirmationMode()) {
+      case HYPERBLOCK -> new MxHyperblockTransactionTracker(mxProxyClient, blockInteractor(),
+          TransactionConstants.TRACKER_RECENT_TRANSACTIONS, Duration.ofMillis(BlockConstants.QUERY_RETRY_BACKOFF_MILLIS),
+          Duration.ofMillis(clientProperties.getTransactionConfirmationTimeoutMillis()));
+      case POLLING -> new MxPollingTransactionTracker(mxProxyClient,
+          Duration.ofMillis(clientProperties.getTransactionConfirmationTimeoutMillis()));
+    };
+  }
+
   @Bean
   public MxTransactionInteractor transactionInteractor() {
-    return new MxTransactionInteractorImpl(mxProxyClient, accountInteractor());
+    var batchOptions = TransactionBatchOptions.builder()
+        .chunkSize(clientProperties.getSendMultipleChunkSize())
+        .concurrency(clientProperties.getSendMultipleConcurrency())
+        .build();
+    var costEstimator = clientProperties.isOfflineCostEstimationEnabled() ? new TransactionCostEstimator() : null;
+    return new MxTransactionInteractorImpl(mxProxyClient, accountInteractor(), nonceManager(), batchOptions,
+        transactionTracker(), costEstimator);
   }
 
   @Bean
   public MxSmartContractInteractor smartContractInteractor() {
-    return new MxSmartContractInteractorImpl(mxProxyClient, transactionInteractor());
+    if (!clientProperties.isScQueryCacheEnabled()) {
+      return new MxSmartContractInteractorImpl(mxProxyClient, transactionInteractor());
+    }
+
+    var queryCache = new ContractQueryCache(mxProxyClient,
+        clientProperties.getScQueryCacheMaxSize(),
+        Duration.ofMillis(clientProperties.getScQueryCacheTtlMillis()),
+        Duration.ofMillis(clientProperties.getScQueryCacheNonceRefreshMillis()));
+    return new MxSmartContractInteractorImpl(mxProxyClient, transactionInteractor(), queryCache);
   }
 
   @Bean
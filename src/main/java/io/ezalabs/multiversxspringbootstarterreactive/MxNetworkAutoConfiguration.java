@@ -1,6 +1,8 @@
 package io.ezalabs.multiversxspringbootstarterreactive;
 
 import io.ezalabs.multiversxspringbootstarterreactive.config.MxNetworkConfigSupplier;
+import io.ezalabs.multiversxspringbootstarterreactive.properties.MxClientProperties;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.context.annotation.Bean;
@@ -15,8 +17,10 @@ public class MxNetworkAutoConfiguration {
   private MxNetworkInteractor networkInteractor;
 
   @Bean
-  public MxNetworkConfigSupplier proxyNetworkConfig() {
-    return new MxNetworkConfigSupplier(networkInteractor);
+  public MxNetworkConfigSupplier proxyNetworkConfig(MxClientProperties props) {
+    return new MxNetworkConfigSupplier(networkInteractor,
+        Duration.ofMillis(props.getNetworkConfigRefreshMillis()),
+        Duration.ofMillis(props.getNetworkEpochCheckMillis()));
   }
 
 }
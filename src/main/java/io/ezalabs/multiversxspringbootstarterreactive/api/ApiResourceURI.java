@@ -1,6 +1,14 @@
 package io.ezalabs.multiversxspringbootstarterreactive.api;
 
-import lombok.AllArgsConstructor;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
+import java.nio.charset.StandardCharsets;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
@@ -8,13 +16,13 @@ import lombok.Getter;
  *
  * @author carlo_stanciu
  */
-@AllArgsConstructor
 @Getter
 public enum ApiResourceURI {
 
   NETWORK_CONFIG("network/config"),
   SHARD_STATUS("network/status/%s"),
   ACCOUNT_ON_NETWORK("address/%s"),
+  ACCOUNTS_BULK("address/bulk"),
   ACCOUNT_BALANCE("address/%s/balance"),
   ACCOUNT_NONCE("address/%s/nonce"),
   ACCOUNT_STORAGE_VALUE("address/%s/key/%s"),
@@ -47,5 +55,184 @@ public enum ApiResourceURI {
   ESDT_TOKENS_WITH_ROLE("address/%s/esdts-with-role/%s");
 
   private final String URI;
+  @Getter(AccessLevel.NONE)
+  private final String[] segments;
+  @Getter(AccessLevel.NONE)
+  private final int literalLength;
+
+  private static final String PLACEHOLDER = "%s";
+  private static final String VALUE_REGEX = "[^/?]+";
+
+  private static final Map<String, ApiResourceURI> LITERALS = new HashMap<>();
+  private static final Route ROUTES = new Route(null);
+  private static final boolean[] UNRESERVED = new boolean[128];
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  ApiResourceURI(String URI) {
+    this.URI = URI;
+    this.segments = URI.split("%s", -1);
+    this.literalLength = URI.length() - 2 * (segments.length - 1);
+  }
+
+  static {
+    for (var c = 'a'; c <= 'z'; c++) {
+      UNRESERVED[c] = true;
+      UNRESERVED[Character.toUpperCase(c)] = true;
+    }
+    for (var c = '0'; c <= '9'; c++) {
+      UNRESERVED[c] = true;
+    }
+    UNRESERVED['-'] = UNRESERVED['.'] = UNRESERVED['_'] = UNRESERVED['~'] = true;
+
+    for (var resource : values()) {
+      if (resource.segments.length == 1) {
+        LITERALS.put(resource.URI, resource);
+        continue;
+      }
+
+      var route = ROUTES;
+      for (var segment : resource.URI.split("/", -1)) {
+        route = route.child(segment);
+      }
+      route.resource = resource;
+    }
+  }
+
+  /**
+   * Method used to build the URI of this resource from its values. The template is split once, and the values are
+   * percent-encoded, so a value cannot change the path or the query of the URI
+   *
+   * @param values - values replacing the %s placeholders, in order
+   * @return - expanded URI, e.g. hyperblock/by-nonce/10
+   */
+  public String expand(Object... values) {
+    if (values.length != segments.length - 1) {
+      throw new IllegalArgumentException(
+          ErrorMessage.INVALID_URI_VALUES.getValue().formatted(name(), segments.length - 1, values.length));
+    }
+
+    if (values.length == 0) {
+      return URI;
+    }
+
+    var strings = new String[values.length];
+    var capacity = literalLength;
+    for (var i = 0; i < values.length; i++) {
+      strings[i] = String.valueOf(values[i]);
+      capacity += strings[i].length();
+    }
+
+    var builder = new StringBuilder(capacity).append(segments[0]);
+    for (var i = 0; i < strings.length; i++) {
+      appendEncoded(builder, strings[i]);
+      builder.append(segments[i + 1]);
+    }
+
+    return builder.toString();
+  }
+
+  /**
+   * Method used to find the resource a formatted URI was built from. The templates are indexed by path segment, so
+   * the lookup depends on the number of segments of the URI, not on the number of resources
+   *
+   * @param uri - formatted URI, e.g. hyperblock/by-nonce/10
+   * @return - the matching resource, or empty if none matches
+   */
+  public static Optional<ApiResourceURI> resolve(String uri) {
+    var literal = LITERALS.get(uri);
+    if (literal != null) {
+      return Optional.of(literal);
+    }
+
+    return Optional.ofNullable(ROUTES.match(uri.split("/", -1), 0));
+  }
+
+  private static void appendEncoded(StringBuilder builder, String value) {
+    var length = value.length();
+    var safe = 0;
+    while (safe < length && isUnreserved(value.charAt(safe))) {
+      safe++;
+    }
+
+    builder.append(value, 0, safe);
+    if (safe == length) {
+      return;
+    }
+
+    for (var b : value.substring(safe).getBytes(StandardCharsets.UTF_8)) {
+      if (b >= 0 && UNRESERVED[b]) {
+        builder.append((char) b);
+      } else {
+        builder.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+      }
+    }
+  }
+
+  private static boolean isUnreserved(char c) {
+    return c < 128 && UNRESERVED[c];
+  }
+
+  /**
+   * Node of the template index, matching one path segment. Literal segments are looked up first, then segments
+   * mixing literals and values, then single values
+   */
+  private static final class Route {
+
+    private final Pattern pattern;
+    private final Map<String, Route> literals = new HashMap<>();
+    private final Map<String, Route> patterns = new HashMap<>();
+    private Route value;
+    private ApiResourceURI resource;
+
+    private Route(Pattern pattern) {
+      this.pattern = pattern;
+    }
+
+    private Route child(String segment) {
+      if (segment.equals(PLACEHOLDER)) {
+        if (value == null) {
+          value = new Route(null);
+        }
+        return value;
+      }
+
+      if (segment.contains(PLACEHOLDER)) {
+        return patterns.computeIfAbsent(segment, s -> new Route(Pattern.compile(Arrays.stream(s.split(PLACEHOLDER, -1))
+            .map(part -> part.isEmpty() ? "" : Pattern.quote(part))
+            .collect(Collectors.joining(VALUE_REGEX)))));
+      }
+
+      return literals.computeIfAbsent(segment, s -> new Route(null));
+    }
+
+    private ApiResourceURI match(String[] segments, int index) {
+      if (index == segments.length) {
+        return resource;
+      }
+
+      var segment = segments[index];
+      var literal = literals.get(segment);
+      var matched = literal == null ? null : literal.match(segments, index + 1);
+      if (matched != null) {
+        return matched;
+      }
+
+      for (var route : patterns.values()) {
+        if (route.pattern.matcher(segment).matches()) {
+          matched = route.match(segments, index + 1);
+          if (matched != null) {
+            return matched;
+          }
+        }
+      }
+
+      if (value != null && !segment.isEmpty() && segment.indexOf('?') < 0) {
+        return value.match(segments, index + 1);
+      }
+
+      return null;
+    }
+
+  }
 
 }
@@ -2,6 +2,7 @@ package io.ezalabs.multiversxspringbootstarterreactive.api;
 
 import static io.netty.util.internal.StringUtil.isNullOrEmpty;
 
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ResponseException;
 import lombok.Data;
 
@@ -22,11 +23,11 @@ public class ApiResponse<T> {
    */
   public void throwIfError() {
     if (!isNullOrEmpty(error)) {
-      throw new ResponseException(error);
+      throw new ResponseException(error, code);
     }
 
     if (!code.equals("successful")) {
-      throw new ResponseException();
+      throw new ResponseException(ErrorMessage.RESPONSE_NOT_SUCCESSFUL.getValue(), code);
     }
   }
 
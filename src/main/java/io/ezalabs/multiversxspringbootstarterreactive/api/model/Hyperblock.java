@@ -41,5 +41,7 @@ public class Hyperblock {
   BigInteger developerFeesInEpoch;
   @JsonProperty("status")
   String status;
+  @JsonProperty("transactions")
+  List<TransactionOnNetwork> transactions;
 
 }
\ No newline at end of file
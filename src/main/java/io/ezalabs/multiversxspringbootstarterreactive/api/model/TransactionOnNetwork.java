@@ -33,6 +33,8 @@ public class TransactionOnNetwork implements ApiModelToDomainConvertible<Transac
 
   @JsonProperty("type")
   String type;
+  @JsonProperty("hash")
+  String hash;
   @JsonProperty("nonce")
   Long nonce;
   @JsonProperty("round")
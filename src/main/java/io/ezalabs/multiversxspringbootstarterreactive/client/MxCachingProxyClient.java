@@ -0,0 +1,143 @@
+package io.ezalabs.multiversxspringbootstarterreactive.client;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.TransactionStatus;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.InvalidTransactionStatusException;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
+import io.ezalabs.multiversxspringbootstarterreactive.util.LruCache;
+import java.time.Duration;
+import lombok.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Proxy client decorator caching GET responses of resources which do not change, or change rarely.
+ * <p>
+ * Blocks and hyperblocks are cached without expiration, transactions only once their status is final,
+ * and account balances and nonces for a short time. Every other request goes to the delegate.
+ */
+public class MxCachingProxyClient implements MxProxyClient {
+
+  private static final long NOT_CACHED = 0L;
+  private static final long ETERNAL = Long.MAX_VALUE;
+
+  private final MxProxyClient delegate;
+  private final LruCache<Key, Object> cache;
+  private final long shortTtlNanos;
+
+  /**
+   * Constructor for creating a caching client
+   *
+   * @param delegate - client executing the requests
+   * @param maxSize  - maximum number of cached responses
+   * @param shortTtl - time to live of account balances and nonces
+   */
+  public MxCachingProxyClient(MxProxyClient delegate, int maxSize, Duration shortTtl) {
+    this(delegate, new LruCache<>(maxSize), shortTtl);
+  }
+
+  MxCachingProxyClient(MxProxyClient delegate, LruCache<Key, Object> cache, Duration shortTtl) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.shortTtlNanos = shortTtl.toNanos();
+  }
+
+  @Override
+  public <T> Mono<T> get(String uri, Class<T> responseType) {
+    var resource = ApiResourceURI.resolve(uri).orElse(null);
+    var ttl = resource == null ? NOT_CACHED : ttlNanos(resource);
+
+    if (ttl == NOT_CACHED) {
+      return delegate.get(uri, responseType);
+    }
+
+    var key = new Key(uri, responseType);
+    return Mono.defer(() -> {
+      var cached = cache.get(key);
+      if (cached != null) {
+        return Mono.just(responseType.cast(cached));
+      }
+
+      return delegate.get(uri, responseType)
+          .doOnNext(response -> {
+            if (isCacheable(resource, response)) {
+              cache.put(key, response, ttl);
+            }
+          });
+    });
+  }
+
+  @Override
+  public <T, P> Mono<T> post(String uri, P payload, Class<T> responseType) {
+    return delegate.post(uri, payload, responseType);
+  }
+
+  @Override
+  public Flux<DataBuffer> stream(String uri) {
+    return delegate.stream(uri);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  /**
+   * Method used to remove all cached responses
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public long getHits() {
+    return cache.getHits();
+  }
+
+  public long getMisses() {
+    return cache.getMisses();
+  }
+
+  public long getEvictions() {
+    return cache.getEvictions();
+  }
+
+  public int getSize() {
+    return cache.size();
+  }
+
+  private long ttlNanos(ApiResourceURI resource) {
+    return switch (resource) {
+      case HYPERBLOCK_BY_NONCE, HYPERBLOCK_BY_HASH, BLOCK_BY_NONCE_FROM_SHARD, BLOCK_BY_HASH_FROM_SHARD,
+          TRANSACTION_ON_NETWORK -> ETERNAL;
+      case ACCOUNT_BALANCE, ACCOUNT_NONCE -> shortTtlNanos;
+      default -> NOT_CACHED;
+    };
+  }
+
+  private static boolean isCacheable(ApiResourceURI resource, Object response) {
+    if (resource != ApiResourceURI.TRANSACTION_ON_NETWORK) {
+      return true;
+    }
+
+    if (response instanceof WrappedResponses.QueryTransactionResponse r && r.getTransaction() != null
+        && r.getTransaction().getStatus() != null) {
+      try {
+        return TransactionStatus.fromString(r.getTransaction().getStatus()).isFinal();
+      } catch (InvalidTransactionStatusException e) {
+        return false;
+      }
+    }
+
+    return false;
+  }
+
+  @Value
+  static class Key {
+
+    String uri;
+    Class<?> responseType;
+
+  }
+
+}
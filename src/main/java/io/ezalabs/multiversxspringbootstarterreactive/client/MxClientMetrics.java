@@ -0,0 +1,55 @@
+package io.ezalabs.multiversxspringbootstarterreactive.client;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import org.springframework.http.HttpMethod;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Recorder of the proxy client requests, used by the client to report each request to a metrics backend
+ */
+public interface MxClientMetrics {
+
+  /**
+   * Method used to signal that a request is sent
+   *
+   * @param resource - resource of the request URI, resolved once when the request is built, or null if unknown
+   * @param method   - HTTP method of the request
+   * @return - sample which is notified when the response is received and when the request ends
+   */
+  Sample start(ApiResourceURI resource, HttpMethod method);
+
+  /**
+   * Method used to get the registrar notified by the connection pool when a pool for a remote address is created,
+   * in order to expose the pool state
+   *
+   * @return - connection pool registrar
+   */
+  ConnectionProvider.MeterRegistrar getConnectionPoolRegistrar();
+
+  /**
+   * A single request in flight
+   */
+  interface Sample {
+
+    /**
+     * Method used to record received response bytes. Called for each received chunk
+     *
+     * @param bytes - number of bytes received
+     */
+    void onResponse(int bytes);
+
+    /**
+     * Method used to signal the end of the request
+     *
+     * @param error - error which ended the request, null if the request was successful
+     */
+    void stop(Throwable error);
+
+    /**
+     * Method used to signal that the request was cancelled before its end
+     */
+    void cancel();
+
+  }
+
+}
@@ -0,0 +1,71 @@
+package io.ezalabs.multiversxspringbootstarterreactive.client;
+
+import io.ezalabs.multiversxspringbootstarterreactive.util.SingleFlight;
+import lombok.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Proxy client decorator coalescing concurrent identical GET requests into a single request
+ * to the delegate. POST and streamed GET requests are not coalesced.
+ * <p>
+ * All the subscribers of a coalesced request receive the same response instance, so responses must not be mutated.
+ */
+public class MxCoalescingProxyClient implements MxProxyClient {
+
+  private final MxProxyClient delegate;
+  private final SingleFlight<Key, Object> singleFlight = new SingleFlight<>();
+
+  public MxCoalescingProxyClient(MxProxyClient delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public <T> Mono<T> get(String uri, Class<T> responseType) {
+    return singleFlight.execute(new Key(uri, responseType), () -> delegate.get(uri, responseType).cast(Object.class))
+        .cast(responseType);
+  }
+
+  @Override
+  public <T, P> Mono<T> post(String uri, P payload, Class<T> responseType) {
+    return delegate.post(uri, payload, responseType);
+  }
+
+  @Override
+  public Flux<DataBuffer> stream(String uri) {
+    return delegate.stream(uri);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  /**
+   * Method used to get the number of GET requests sent to the delegate
+   *
+   * @return - number of requests
+   */
+  public long getRequests() {
+    return singleFlight.getExecutions();
+  }
+
+  /**
+   * Method used to get the number of GET requests which joined a request already in flight
+   *
+   * @return - number of coalesced requests
+   */
+  public long getCoalesced() {
+    return singleFlight.getShared();
+  }
+
+  @Value
+  private static class Key {
+
+    String uri;
+    Class<?> responseType;
+
+  }
+
+}
@@ -0,0 +1,308 @@
+package io.ezalabs.multiversxspringbootstarterreactive.client;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.ClientConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.EmptyPayloadException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ResponseException;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Proxy client spreading requests over multiple gateways / proxies.
+ * <p>
+ * Each request goes to the better of two randomly picked healthy endpoints (power of two choices),
+ * scored by the EWMA latency weighted with the number of in-flight requests. Endpoints whose EWMA
+ * error rate goes over the threshold are ejected and probed in the background until they answer
+ * again. Probing runs only while an endpoint is ejected. Only transport failures count as errors; an error response from the gateway does not.
+ * GET requests failing at transport level are retried once on a different endpoint. Streamed GET requests
+ * are not retried, as part of the response may already have been consumed.
+ */
+@Slf4j
+public class MxLoadBalancedProxyClient implements MxProxyClient {
+
+  private final List<Endpoint> endpoints;
+  private final Duration probeInterval;
+  private final Scheduler scheduler;
+  private final AtomicReference<Disposable> probe = new AtomicReference<>();
+  private volatile boolean closed;
+
+  /**
+   * Constructor for creating a load balanced client
+   *
+   * @param proxyUrls     - base URLs of the gateways / proxies
+   * @param clientFactory - function creating the client bound to a proxy URL
+   * @param probeInterval - interval between health probes of ejected endpoints
+   */
+  public MxLoadBalancedProxyClient(List<String> proxyUrls, Function<String, MxProxyClient> clientFactory,
+      Duration probeInterval) {
+    this(proxyUrls, clientFactory, probeInterval, Schedulers.parallel());
+  }
+
+  MxLoadBalancedProxyClient(List<String> proxyUrls, Function<String, MxProxyClient> clientFactory,
+      Duration probeInterval, Scheduler scheduler) {
+    this.endpoints = proxyUrls.stream()
+        .map(url -> new Endpoint(url, clientFactory.apply(url)))
+        .toList();
+    this.probeInterval = probeInterval;
+    this.scheduler = scheduler;
+
+    log.info("Configuring load balanced client with proxy URLs {}.", proxyUrls);
+  }
+
+  @Override
+  public <T> Mono<T> get(String uri, Class<T> responseType) {
+    return execute(client -> client.get(uri, responseType), ClientConstants.FAILOVER_MAX_RETRIES);
+  }
+
+  @Override
+  public <T, P> Mono<T> post(String uri, P payload, Class<T> responseType) {
+    return execute(client -> client.post(uri, payload, responseType), 0);
+  }
+
+  @Override
+  public Flux<DataBuffer> stream(String uri) {
+    return Flux.defer(() -> {
+      var endpoint = choose(Set.of());
+      var start = System.nanoTime();
+      endpoint.inFlight.incrementAndGet();
+      return endpoint.getClient().stream(uri)
+          .doOnComplete(() -> endpoint.recordSuccess(System.nanoTime() - start))
+          .doOnError(e -> {
+            if (isEndpointFailure(e) && endpoint.recordFailure()) {
+              ensureProbing();
+            }
+          })
+          .doFinally(signal -> endpoint.inFlight.decrementAndGet());
+    });
+  }
+
+  /**
+   * Method used to get the state of the endpoints, in configuration order
+   *
+   * @return - list of endpoints
+   */
+  public List<Endpoint> getEndpoints() {
+    return endpoints;
+  }
+
+  /**
+   * Method used to stop the background probing and close the endpoint clients
+   */
+  @Override
+  public void close() {
+    closed = true;
+    endpoints.forEach(endpoint -> endpoint.getClient().close());
+
+    var current = probe.getAndSet(null);
+    if (current != null) {
+      current.dispose();
+    }
+  }
+
+  boolean isProbing() {
+    return probe.get() != null;
+  }
+
+  Mono<Void> probeEjected() {
+    return Flux.fromIterable(endpoints)
+        .filter(endpoint -> !endpoint.isHealthy())
+        .flatMap(endpoint -> endpoint.getClient()
+            .get(ApiResourceURI.NETWORK_CONFIG.getURI(), WrappedResponses.GetNetworkConfigResponse.class)
+            .timeout(probeInterval)
+            .doOnSuccess(r -> endpoint.reinstate())
+            .onErrorResume(e -> {
+              log.debug("[LoadBalancer] probe failed for {}: {}", endpoint.getUrl(), e.getMessage());
+              return Mono.empty();
+            }))
+        .then();
+  }
+
+  private <T> Mono<T> execute(Function<MxProxyClient, Mono<T>> request, int maxRetries) {
+    return Mono.defer(() -> {
+      var tried = new HashSet<Endpoint>();
+      return Mono.defer(() -> {
+            var endpoint = choose(tried);
+            tried.add(endpoint);
+            return call(endpoint, request);
+          })
+          .retryWhen(Retry.max(maxRetries)
+              .filter(MxLoadBalancedProxyClient::isEndpointFailure)
+              .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    });
+  }
+
+  private <T> Mono<T> call(Endpoint endpoint, Function<MxProxyClient, Mono<T>> request) {
+    return Mono.defer(() -> {
+      var start = System.nanoTime();
+      endpoint.inFlight.incrementAndGet();
+      return Mono.defer(() -> request.apply(endpoint.getClient()))
+          .doOnSuccess(r -> endpoint.recordSuccess(System.nanoTime() - start))
+          .doOnError(e -> onError(endpoint, e, start))
+          .doFinally(signal -> endpoint.inFlight.decrementAndGet());
+    });
+  }
+
+  private void onError(Endpoint endpoint, Throwable error, long start) {
+    if (!isEndpointFailure(error)) {
+      endpoint.recordSuccess(System.nanoTime() - start);
+    } else if (endpoint.recordFailure()) {
+      ensureProbing();
+    }
+  }
+
+  private void ensureProbing() {
+    if (closed || probe.get() != null) {
+      return;
+    }
+
+    var ticker = Flux.interval(probeInterval, probeInterval, scheduler)
+        .onBackpressureDrop()
+        .concatMap(tick -> probeEjected().then(Mono.fromRunnable(this::stopIfAllHealthy)), 1)
+        .subscribe(r -> {
+        }, e -> log.error("[LoadBalancer] probing stopped: {}", e.getMessage()));
+
+    if (!probe.compareAndSet(null, ticker) || closed) {
+      ticker.dispose();
+      probe.compareAndSet(ticker, null);
+    }
+  }
+
+  private void stopIfAllHealthy() {
+    var current = probe.get();
+    if (current == null || !endpoints.stream().allMatch(Endpoint::isHealthy) || !probe.compareAndSet(current, null)) {
+      return;
+    }
+
+    current.dispose();
+    if (!endpoints.stream().allMatch(Endpoint::isHealthy)) {
+      ensureProbing();
+    }
+  }
+
+  private Endpoint choose(Set<Endpoint> excluded) {
+    var candidates = endpoints.stream()
+        .filter(Endpoint::isHealthy)
+        .filter(endpoint -> !excluded.contains(endpoint))
+        .toList();
+
+    if (candidates.isEmpty()) {
+      candidates = endpoints.stream()
+          .filter(endpoint -> !excluded.contains(endpoint))
+          .toList();
+    }
+
+    if (candidates.isEmpty()) {
+      candidates = endpoints;
+    }
+
+    if (candidates.size() == 1) {
+      return candidates.get(0);
+    }
+
+    var random = ThreadLocalRandom.current();
+    var first = random.nextInt(candidates.size());
+    var second = random.nextInt(candidates.size() - 1);
+    if (second >= first) {
+      second++;
+    }
+
+    var a = candidates.get(first);
+    var b = candidates.get(second);
+    return a.score() <= b.score() ? a : b;
+  }
+
+  private static boolean isEndpointFailure(Throwable error) {
+    for (var t = error; t != null; t = t.getCause()) {
+      if (t instanceof ResponseException || t instanceof EmptyPayloadException) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * State of a single gateway / proxy
+   */
+  public static class Endpoint {
+
+    @Getter
+    private final String url;
+    @Getter
+    private final MxProxyClient client;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double latencyEwmaNanos;
+    private double errorRate;
+    private volatile boolean healthy = true;
+
+    Endpoint(String url, MxProxyClient client) {
+      this.url = url;
+      this.client = client;
+    }
+
+    public boolean isHealthy() {
+      return healthy;
+    }
+
+    public int getInFlight() {
+      return inFlight.get();
+    }
+
+    public synchronized double getLatencyEwmaMillis() {
+      return latencyEwmaNanos / 1_000_000d;
+    }
+
+    public synchronized double getErrorRate() {
+      return errorRate;
+    }
+
+    synchronized double score() {
+      return latencyEwmaNanos * (inFlight.get() + 1);
+    }
+
+    synchronized void recordSuccess(long latencyNanos) {
+      latencyEwmaNanos = latencyEwmaNanos == 0
+          ? latencyNanos
+          : latencyEwmaNanos + ClientConstants.LATENCY_EWMA_ALPHA * (latencyNanos - latencyEwmaNanos);
+      errorRate -= ClientConstants.ERROR_RATE_EWMA_ALPHA * errorRate;
+    }
+
+    synchronized boolean recordFailure() {
+      errorRate += ClientConstants.ERROR_RATE_EWMA_ALPHA * (1 - errorRate);
+
+      if (healthy && errorRate > ClientConstants.ERROR_RATE_EJECTION_THRESHOLD) {
+        healthy = false;
+        log.warn("[LoadBalancer] ejecting {}, error rate {}", url, errorRate);
+        return true;
+      }
+
+      return false;
+    }
+
+    synchronized void reinstate() {
+      if (!healthy) {
+        errorRate = 0;
+        healthy = true;
+        log.info("[LoadBalancer] reinstating {}", url);
+      }
+    }
+
+  }
+
+}
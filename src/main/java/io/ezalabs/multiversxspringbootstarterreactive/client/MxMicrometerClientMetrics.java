@@ -0,0 +1,199 @@
+package io.ezalabs.multiversxspringbootstarterreactive.client;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.ClientConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ResponseException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+import lombok.Value;
+import org.springframework.http.HttpMethod;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Client metrics recorded with Micrometer.
+ * <p>
+ * Requests are timed under multiversx.client.requests, tagged with the resource name from {@link ApiResourceURI},
+ * the HTTP method, the outcome and the gateway error code. Response sizes are recorded under
+ * multiversx.client.response.size, requests in flight under multiversx.client.requests.active and the connection pool
+ * state under multiversx.client.connections.*
+ */
+public class MxMicrometerClientMetrics implements MxClientMetrics {
+
+  static final String UNKNOWN_RESOURCE = "UNKNOWN";
+  static final String NO_CODE = "none";
+
+  private final MeterRegistry registry;
+  private final AtomicInteger active = new AtomicInteger();
+  private final Map<RequestKey, Timer> timers = new ConcurrentHashMap<>();
+  private final Map<ResourceKey, DistributionSummary> responseSizes = new ConcurrentHashMap<>();
+  private final Map<String, List<Meter>> poolMeters = new ConcurrentHashMap<>();
+  private final ConnectionProvider.MeterRegistrar poolRegistrar = new PoolRegistrar();
+
+  /**
+   * Constructor for creating the client metrics
+   *
+   * @param registry - registry in which the meters are registered
+   */
+  public MxMicrometerClientMetrics(MeterRegistry registry) {
+    this.registry = registry;
+
+    Gauge.builder(ClientConstants.METRIC_REQUESTS_ACTIVE, active, AtomicInteger::get)
+        .description("Proxy requests in flight")
+        .register(registry);
+  }
+
+  @Override
+  public Sample start(ApiResourceURI resource, HttpMethod method) {
+    active.incrementAndGet();
+    return new RequestSample(resource == null ? UNKNOWN_RESOURCE : resource.name(), method.name(), System.nanoTime());
+  }
+
+  @Override
+  public ConnectionProvider.MeterRegistrar getConnectionPoolRegistrar() {
+    return poolRegistrar;
+  }
+
+  private Timer timer(RequestKey key) {
+    return timers.computeIfAbsent(key, k -> Timer.builder(ClientConstants.METRIC_REQUESTS)
+        .description("Proxy requests")
+        .tags("resource", k.getResource(), "method", k.getMethod(), "outcome", k.getOutcome(), "code", k.getCode())
+        .register(registry));
+  }
+
+  private DistributionSummary responseSize(ResourceKey key) {
+    return responseSizes.computeIfAbsent(key, k -> DistributionSummary.builder(ClientConstants.METRIC_RESPONSE_SIZE)
+        .description("Proxy response sizes")
+        .baseUnit("bytes")
+        .tags("resource", k.getResource(), "method", k.getMethod())
+        .register(registry));
+  }
+
+  private class RequestSample implements Sample {
+
+    private final String resource;
+    private final String method;
+    private final long startNanos;
+    private long responseBytes;
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    RequestSample(String resource, String method, long startNanos) {
+      this.resource = resource;
+      this.method = method;
+      this.startNanos = startNanos;
+    }
+
+    @Override
+    public void onResponse(int bytes) {
+      responseBytes += bytes;
+    }
+
+    @Override
+    public void stop(Throwable error) {
+      if (error == null) {
+        finish("SUCCESS", NO_CODE);
+        return;
+      }
+
+      for (var cause = error; cause != null; cause = cause.getCause()) {
+        if (cause instanceof ResponseException responseException) {
+          var code = responseException.getCode();
+          finish("GATEWAY_ERROR", code == null || code.isEmpty() ? NO_CODE : code);
+          return;
+        }
+      }
+
+      finish("ERROR", NO_CODE);
+    }
+
+    @Override
+    public void cancel() {
+      finish("CANCELLED", NO_CODE);
+    }
+
+    private void finish(String outcome, String code) {
+      if (!stopped.compareAndSet(false, true)) {
+        return;
+      }
+      active.decrementAndGet();
+
+      timer(new RequestKey(resource, method, outcome, code))
+          .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+      if (responseBytes > 0) {
+        responseSize(new ResourceKey(resource, method)).record(responseBytes);
+      }
+    }
+
+  }
+
+  private class PoolRegistrar implements ConnectionProvider.MeterRegistrar {
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress,
+        ConnectionPoolMetrics metrics) {
+      var tags = Tags.of("pool", poolName, "remote.address", addressOf(remoteAddress));
+
+      poolMeters.put(id, List.of(
+          gauge("active", metrics, ConnectionPoolMetrics::acquiredSize, tags),
+          gauge("idle", metrics, ConnectionPoolMetrics::idleSize, tags),
+          gauge("total", metrics, ConnectionPoolMetrics::allocatedSize, tags),
+          gauge("pending", metrics, ConnectionPoolMetrics::pendingAcquireSize, tags),
+          gauge("max", metrics, ConnectionPoolMetrics::maxAllocatedSize, tags)));
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+      var meters = poolMeters.remove(id);
+      if (meters != null) {
+        meters.forEach(registry::remove);
+      }
+    }
+
+    private Meter gauge(String name, ConnectionPoolMetrics metrics, ToDoubleFunction<ConnectionPoolMetrics> value,
+        Tags tags) {
+      return Gauge.builder(ClientConstants.METRIC_CONNECTIONS_PREFIX + name, metrics, value)
+          .tags(tags)
+          .register(registry);
+    }
+
+    private String addressOf(SocketAddress address) {
+      return address instanceof InetSocketAddress inet
+          ? inet.getHostString() + ":" + inet.getPort()
+          : String.valueOf(address);
+    }
+
+  }
+
+  @Value
+  private static class RequestKey {
+
+    String resource;
+    String method;
+    String outcome;
+    String code;
+
+  }
+
+  @Value
+  private static class ResourceKey {
+
+    String resource;
+    String method;
+
+  }
+
+}
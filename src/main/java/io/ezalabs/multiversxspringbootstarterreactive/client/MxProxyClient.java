@@ -1,5 +1,8 @@
 package io.ezalabs.multiversxspringbootstarterreactive.client;
 
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -31,4 +34,22 @@ public interface MxProxyClient {
    */
   <T, P> Mono<T> post(String uri, P payload, Class<T> responseType);
 
+  /**
+   * Used for GET HTTP method when the response is too large to be deserialized at once.
+   * The subscriber is responsible for releasing the buffers. Clients which cannot stream
+   * responses signal an {@link UnsupportedOperationException}
+   *
+   * @param uri - resource URI
+   * @return - raw response body, as it is received
+   */
+  default Flux<DataBuffer> stream(String uri) {
+    return Flux.error(new UnsupportedOperationException(ErrorMessage.STREAMING_NOT_SUPPORTED.getValue()));
+  }
+
+  /**
+   * Used to release resources held by the client. Called by the container when the bean is destroyed
+   */
+  default void close() {
+  }
+
 }
@@ -2,12 +2,20 @@ package io.ezalabs.multiversxspringbootstarterreactive.client;
 
 import static java.util.Objects.nonNull;
 
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
 import io.ezalabs.multiversxspringbootstarterreactive.config.JsonMapper;
 import io.ezalabs.multiversxspringbootstarterreactive.config.MxClientConfig;
+import java.net.URI;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec;
+import org.springframework.web.reactive.function.client.WebClient.UriSpec;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResponse;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.EmptyPayloadException;
@@ -17,9 +25,26 @@ import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyReque
 public class MxProxyClientImpl implements MxProxyClient {
 
   private final WebClient mxClient;
+  private final MxClientMetrics metrics;
+  private final String baseUrl;
 
   public MxProxyClientImpl(MxClientConfig config) {
     this.mxClient = config.getMxClientBuilder().build();
+    this.metrics = config.getMetrics();
+    this.baseUrl = trimTrailingSlash(config.getProxyUrl());
+  }
+
+  /**
+   * Constructor for creating a client bound to a specific proxy URL,
+   * sharing the connection settings from the config
+   *
+   * @param config   - client configuration
+   * @param proxyUrl - base URL of the gateway / proxy
+   */
+  public MxProxyClientImpl(MxClientConfig config, String proxyUrl) {
+    this.mxClient = config.getMxClientBuilder().clone().baseUrl(proxyUrl).build();
+    this.metrics = config.getMetrics();
+    this.baseUrl = trimTrailingSlash(proxyUrl);
   }
 
   public <T> Mono<T> get(String uri, Class<T> responseType) {
@@ -32,10 +57,29 @@ public class MxProxyClientImpl implements MxProxyClient {
     return processRequest(uri, payload, responseType, HttpMethod.POST);
   }
 
+  public Flux<DataBuffer> stream(String uri) {
+    log.debug("[ProxyClient] executing streaming GET {}", uri);
+    var body = uri(mxClient.get(), uri)
+        .exchangeToFlux(r -> r.body(BodyExtractors.toDataBuffers()))
+        .doOnError(this::onError);
+
+    if (metrics == null) {
+      return body;
+    }
+
+    var resource = ApiResourceURI.resolve(uri).orElse(null);
+    return Flux.defer(() -> {
+      var sample = metrics.start(resource, HttpMethod.GET);
+      return body
+          .doOnNext(buffer -> sample.onResponse(buffer.readableByteCount()))
+          .doOnComplete(() -> sample.stop(null))
+          .doOnError(sample::stop)
+          .doOnCancel(sample::cancel);
+    });
+  }
+
   private <T, P> Mono<T> processRequest(String uri, P payload, Class<T> responseType, HttpMethod method) {
-    var requestBuilder = mxClient
-        .method(method)
-        .uri(uri);
+    var requestBuilder = uri(mxClient.method(method), uri);
 
     if (method == HttpMethod.POST) {
       if (nonNull(payload)) {
@@ -47,20 +91,74 @@ public class MxProxyClientImpl implements MxProxyClient {
       }
     }
 
-    return requestBuilder.exchangeToMono(r -> r.bodyToMono(String.class))
-        .map(r -> JsonMapper.deserializeApiResponse(r, responseType))
-        .doOnSuccess(this::onSuccess)
+    if (metrics == null) {
+      return exchange(requestBuilder, responseType, null);
+    }
+
+    var resource = ApiResourceURI.resolve(uri).orElse(null);
+    return Mono.defer(() -> {
+      var sample = metrics.start(resource, method);
+      return exchange(requestBuilder, responseType, sample)
+          .doOnSuccess(r -> sample.stop(null))
+          .doOnError(sample::stop)
+          .doOnCancel(sample::cancel);
+    });
+  }
+
+  private <T> Mono<T> exchange(RequestHeadersSpec<?> request, Class<T> responseType, MxClientMetrics.Sample sample) {
+    return request
+        .exchangeToMono(r -> {
+          var status = r.statusCode().value();
+          var body = DataBufferUtils.join(r.body(BodyExtractors.toDataBuffers()));
+          if (sample != null) {
+            body = body.doOnNext(buffer -> sample.onResponse(buffer.readableByteCount()));
+          }
+
+          return body
+              .map(buffer -> JsonMapper.deserializeApiResponse(buffer, responseType))
+              .doOnSuccess(this::onSuccess)
+              .onErrorMap(e -> new ProxyRequestException(e.getMessage(), e, status));
+        })
         .doOnError(this::onError)
         .map(ApiResponse::getData);
   }
 
+  /**
+   * URIs built by {@link io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI#expand(Object...)} are
+   * already encoded, so they are passed to the WebClient as an absolute URI instead of a template to be parsed and
+   * encoded again. URIs which are not valid as they are fall back to the template
+   */
+  private <S extends RequestHeadersSpec<?>> S uri(UriSpec<S> spec, String uri) {
+    try {
+      return spec.uri(toURI(uri));
+    } catch (IllegalArgumentException e) {
+      return spec.uri(uri);
+    }
+  }
+
+  private URI toURI(String uri) {
+    if (baseUrl == null) {
+      return URI.create(uri);
+    }
+
+    return URI.create(uri.startsWith("/") ? baseUrl + uri : baseUrl + "/" + uri);
+  }
+
+  private static String trimTrailingSlash(String url) {
+    return url != null && url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+  }
+
   private <T> void onSuccess(ApiResponse<T> response) {
     response.throwIfError();
   }
 
   private void onError(Throwable t) {
+    if (t instanceof ProxyRequestException) {
+      return;
+    }
+
     var errorMessage = t.getMessage();
-    throw new ProxyRequestException(errorMessage);
+    throw new ProxyRequestException(errorMessage, t);
   }
 
 }
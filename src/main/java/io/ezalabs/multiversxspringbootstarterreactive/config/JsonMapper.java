@@ -3,6 +3,9 @@ package io.ezalabs.multiversxspringbootstarterreactive.config;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResponse;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.DeserializationException;
@@ -15,6 +18,7 @@ import io.ezalabs.multiversxspringbootstarterreactive.error.exception.Deserializ
 public class JsonMapper {
 
   private static final ObjectMapper mapper;
+  private static final ClassValue<ObjectReader> apiResponseReaders;
 
   private JsonMapper() {
   }
@@ -23,6 +27,24 @@ public class JsonMapper {
     mapper = new Jackson2ObjectMapperBuilder()
         .build()
         .setDefaultPropertyInclusion(JsonInclude.Include.NON_EMPTY);
+
+    apiResponseReaders = new ClassValue<>() {
+      @Override
+      protected ObjectReader computeValue(Class<?> responseType) {
+        return mapper.readerFor(mapper.getTypeFactory().constructParametricType(ApiResponse.class, responseType));
+      }
+    };
+  }
+
+  /**
+   * Retrieves the ObjectReader for ApiResponse parametrized with the given type. Readers are resolved once per response
+   * type and reused afterwards.
+   *
+   * @param responseType - response class type object type for deserialization
+   * @return - ObjectReader for ApiResponse of responseType
+   */
+  public static ObjectReader apiResponseReader(Class<?> responseType) {
+    return apiResponseReaders.get(responseType);
   }
 
   /**
@@ -35,13 +57,29 @@ public class JsonMapper {
    */
   public static <T> ApiResponse<T> deserializeApiResponse(String response, Class<T> responseType) {
     try {
-      var type = mapper.getTypeFactory().constructParametricType(ApiResponse.class, responseType);
-      return mapper.readValue(response, type);
+      return apiResponseReaders.get(responseType).readValue(response);
     } catch (JsonProcessingException e) {
       throw new DeserializationException(e.getMessage());
     }
   }
 
+  /**
+   * Deserializes responses received from the gateway directly from the response bytes, without decoding them into an
+   * intermediate String. The buffer is released after reading.
+   *
+   * @param response     - JSON response as DataBuffer
+   * @param responseType - response class type object type for deserialization
+   * @param <T>          - response object
+   * @return - ApiResponse containing the parametrized data value
+   */
+  public static <T> ApiResponse<T> deserializeApiResponse(DataBuffer response, Class<T> responseType) {
+    try (var stream = response.asInputStream(true)) {
+      return apiResponseReaders.get(responseType).readValue(stream);
+    } catch (IOException e) {
+      throw new DeserializationException(e.getMessage());
+    }
+  }
+
   /**
    * Serializes an Object the buffer of its JSON String
    *
@@ -1,15 +1,21 @@
 package io.ezalabs.multiversxspringbootstarterreactive.config;
 
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxClientMetrics;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.InvalidProxyUrlException;
 import io.ezalabs.multiversxspringbootstarterreactive.properties.MxClientProperties;
 
@@ -22,8 +28,15 @@ import io.ezalabs.multiversxspringbootstarterreactive.properties.MxClientPropert
 @Getter
 public class MxClientConfig {
 
+  public static final String CONNECTION_PROVIDER_NAME = "multiversx-client";
+
   private final String proxyUrl;
+  private final List<String> proxyUrls;
+  private final Duration proxyProbeInterval;
+  private final ConnectionProvider connectionProvider;
+  private final LoopResources loopResources;
   private final WebClient.Builder mxClientBuilder;
+  private final MxClientMetrics metrics;
 
   /**
    * Constructor for creating an MxClientConfig instance using properties
@@ -31,13 +44,43 @@ public class MxClientConfig {
    * @param clientProperties - injected properties required for webclient configuration
    */
   public MxClientConfig(MxClientProperties clientProperties) {
+    this(clientProperties, null);
+  }
+
+  /**
+   * Constructor for creating an MxClientConfig instance using properties, with the requests and the connection pool
+   * reported to the given metrics
+   *
+   * @param clientProperties - injected properties required for webclient configuration
+   * @param metrics          - client metrics, null if metrics are not recorded
+   */
+  public MxClientConfig(MxClientProperties clientProperties, MxClientMetrics metrics) {
     this.proxyUrl = clientProperties.getProxyUrl();
-    var httpClient = HttpClient.create()
+    this.proxyUrls = List.copyOf(clientProperties.getProxyUrls());
+    this.proxyProbeInterval = Duration.ofMillis(clientProperties.getProxyProbeIntervalMillis());
+    this.metrics = metrics;
+
+    validateUrl(proxyUrl);
+    proxyUrls.forEach(this::validateUrl);
+
+    this.connectionProvider = createConnectionProvider(clientProperties);
+    this.loopResources = clientProperties.getEventLoopThreads() > 0
+        ? LoopResources.create(CONNECTION_PROVIDER_NAME, clientProperties.getEventLoopThreads(), true)
+        : null;
+
+    var httpClient = HttpClient.create(connectionProvider)
+        .compress(clientProperties.isCompression())
         .doOnConnected(conn -> conn
             .addHandlerFirst(new ReadTimeoutHandler(clientProperties.getReadTimeoutMillis(), TimeUnit.MILLISECONDS))
             .addHandlerFirst(new WriteTimeoutHandler(clientProperties.getWriteTimeoutMillis(), TimeUnit.MILLISECONDS)));
 
-    validateUrl(proxyUrl);
+    if (clientProperties.isHttp2()) {
+      httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+    }
+
+    if (loopResources != null) {
+      httpClient = httpClient.runOn(loopResources);
+    }
 
     log.info("Configuring client with proxy URl %s.".formatted(proxyUrl));
     this.mxClientBuilder = WebClient
@@ -46,6 +89,49 @@ public class MxClientConfig {
         .clientConnector(new ReactorClientHttpConnector(httpClient));
   }
 
+  /**
+   * Method used to release the connection pool and the dedicated event loop group, if any.
+   * Called by the container when the bean is destroyed
+   */
+  public void close() {
+    connectionProvider.dispose();
+
+    if (loopResources != null) {
+      loopResources.dispose();
+    }
+  }
+
+  private ConnectionProvider createConnectionProvider(MxClientProperties clientProperties) {
+    var builder = ConnectionProvider.builder(CONNECTION_PROVIDER_NAME);
+
+    if (clientProperties.getMaxConnections() != null) {
+      builder.maxConnections(clientProperties.getMaxConnections());
+    }
+
+    if (clientProperties.getPendingAcquireMaxCount() != null) {
+      builder.pendingAcquireMaxCount(clientProperties.getPendingAcquireMaxCount());
+    }
+
+    if (clientProperties.getPendingAcquireTimeoutMillis() != null) {
+      builder.pendingAcquireTimeout(Duration.ofMillis(clientProperties.getPendingAcquireTimeoutMillis()));
+    }
+
+    if (clientProperties.getMaxIdleTimeMillis() != null && clientProperties.getMaxIdleTimeMillis() > 0) {
+      builder.maxIdleTime(Duration.ofMillis(clientProperties.getMaxIdleTimeMillis()))
+          .evictInBackground(Duration.ofMillis(clientProperties.getMaxIdleTimeMillis()));
+    }
+
+    if (clientProperties.getMaxLifeTimeMillis() != null && clientProperties.getMaxLifeTimeMillis() > 0) {
+      builder.maxLifeTime(Duration.ofMillis(clientProperties.getMaxLifeTimeMillis()));
+    }
+
+    if (metrics != null) {
+      builder.metrics(true, metrics::getConnectionPoolRegistrar);
+    }
+
+    return builder.build();
+  }
+
   private void validateUrl(String url) {
     try {
       new URL(url);
@@ -1,60 +1,201 @@
 package io.ezalabs.multiversxspringbootstarterreactive.config;
 
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.BlockConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.NetworkConstants;
 import jakarta.annotation.PostConstruct;
 import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.NetworkConfig;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.network.MxNetworkInteractor;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Network configuration provider class which synchronises at startup with the MultiversX Gateway
  * <p>
  * Source for network configuration values Uses default static values from D chain in case synchronising doesn't succeed
+ * <p>
+ * After startup, the metachain epoch is checked periodically and the configuration is synced again when the epoch
+ * changes, as gas parameters are changed on epoch activation, and at least once per refresh interval, or until a first
+ * sync succeeds. The current configuration is an immutable snapshot, replaced as a whole on each change
  *
  * @author carlo_stanciu
  */
 @Slf4j
 public class MxNetworkConfigSupplier {
 
-  private final MxNetworkInteractor networkInteractor;
-  public static NetworkConfig config;
-
   public static final Integer DEFAULT_VERSION = 1;
 
+  private static final AtomicReference<NetworkConfig> current = new AtomicReference<>(NetworkConfig
+      .builder()
+      .chainId("D")
+      .gasPerDataByte(1500L)
+      .minGasLimit(BigInteger.valueOf(70_000L))
+      .minGasPrice(BigInteger.valueOf(1_000_000_000L))
+      .minTransactionVersion(DEFAULT_VERSION)
+      .build());
+
+  /**
+   * Copy of the current network configuration, kept for source compatibility. Assigning it replaces the configuration
+   * returned by {@link #getConfig()} until the next sync, without emitting it to {@link #changes()}
+   *
+   * @deprecated use {@link #getConfig()}
+   */
+  @Deprecated
+  public static volatile NetworkConfig config = current.get();
+
+  private final MxNetworkInteractor networkInteractor;
+  private final Duration refreshInterval;
+  private final Duration epochCheckInterval;
+  private final Scheduler scheduler;
+  private final Sinks.Many<NetworkConfig> changes = Sinks.many().replay().latest();
+  private final AtomicLong epoch = new AtomicLong(-1);
+  private volatile long syncedAt = -1;
+  private Disposable refresh;
+
   /**
    * Main constructor used for dependency injection
    *
    * @param networkInteractor - component used to extract configuration from the network
    */
   public MxNetworkConfigSupplier(MxNetworkInteractor networkInteractor) {
+    this(networkInteractor, Duration.ofMillis(NetworkConstants.CONFIG_REFRESH_MILLIS),
+        Duration.ofMillis(NetworkConstants.EPOCH_CHECK_MILLIS));
+  }
+
+  /**
+   * Constructor for creating a supplier with custom refresh intervals
+   *
+   * @param networkInteractor  - component used to extract configuration from the network
+   * @param refreshInterval    - maximum interval between two syncs, zero to sync only on epoch change
+   * @param epochCheckInterval - interval between two checks of the metachain epoch, zero to sync only at startup
+   */
+  public MxNetworkConfigSupplier(MxNetworkInteractor networkInteractor, Duration refreshInterval,
+      Duration epochCheckInterval) {
+    this(networkInteractor, refreshInterval, epochCheckInterval, Schedulers.parallel());
+  }
+
+  MxNetworkConfigSupplier(MxNetworkInteractor networkInteractor, Duration refreshInterval,
+      Duration epochCheckInterval, Scheduler scheduler) {
     this.networkInteractor = networkInteractor;
+    this.refreshInterval = refreshInterval;
+    this.epochCheckInterval = epochCheckInterval;
+    this.scheduler = scheduler;
+    this.changes.tryEmitNext(current.get());
+  }
+
+  /**
+   * Method used to get the current network configuration
+   *
+   * @return - synced network configuration, or the default one if not synced yet
+   */
+  public static NetworkConfig getConfig() {
+    var snapshot = current.get();
+    return config == snapshot ? snapshot : adoptAssignedConfig();
   }
 
-  static {
-    config = NetworkConfig
-        .builder()
-        .chainId("D")
-        .gasPerDataByte(1500L)
-        .minGasLimit(BigInteger.valueOf(70_000L))
-        .minGasPrice(BigInteger.valueOf(1_000_000_000L))
-        .minTransactionVersion(DEFAULT_VERSION)
-        .build();
+  /**
+   * Method used to follow the network configuration
+   *
+   * @return - the current network configuration, followed by each new configuration synced from the network
+   */
+  public Flux<NetworkConfig> changes() {
+    return changes.asFlux();
   }
 
   /**
-   * Method called at startup which is using the NetworkInteractor to synchronise the configuration from the network
+   * Method called at startup which is using the NetworkInteractor to synchronise the configuration from the network,
+   * then starts the periodic refresh
    */
   @PostConstruct
   public void sync() {
     networkInteractor.getNetworkConfig()
-        .doOnSuccess(r -> {
-          config = r;
+        .doOnNext(r -> {
+          update(r);
           log.info("MultiversX network configuration synced. Chain ID: {}", r.getChainId());
         })
         .doOnError(e ->
             log.error("Could not sync MultiversX network configuration at startup. Using default configs for chain ID {}.",
-                config.getChainId()))
+                getConfig().getChainId()))
+        .doFinally(s -> startRefresh())
+        .subscribe(r -> {
+        }, e -> {
+        });
+  }
+
+  /**
+   * Method used to stop the periodic refresh. Called by the container when the bean is destroyed
+   */
+  public synchronized void close() {
+    if (refresh != null) {
+      refresh.dispose();
+    }
+  }
+
+  void update(NetworkConfig networkConfig) {
+    syncedAt = now();
+
+    NetworkConfig previous;
+    synchronized (MxNetworkConfigSupplier.class) {
+      previous = current.getAndSet(networkConfig);
+      config = networkConfig;
+    }
+    if (!networkConfig.equals(previous)) {
+      changes.emitNext(networkConfig, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+  }
+
+  private synchronized void startRefresh() {
+    if (refresh != null || epochCheckInterval.isZero()) {
+      return;
+    }
+
+    refresh = Flux.interval(epochCheckInterval, scheduler)
+        .onBackpressureDrop()
+        .concatMap(tick -> refreshIfDue()
+            .onErrorResume(e -> {
+              log.warn("Could not refresh MultiversX network configuration: {}", e.getMessage());
+              return Mono.empty();
+            }))
         .subscribe();
   }
 
+  private Mono<NetworkConfig> refreshIfDue() {
+    return networkInteractor.getShardStatus(BlockConstants.METACHAIN_SHARD_ID)
+        .filter(status -> {
+          var synced = epoch.get();
+          var epochChanged = synced >= 0 && synced != status.getEpochNumber();
+          var refreshDue = syncedAt < 0
+              || !refreshInterval.isZero() && now() - syncedAt >= refreshInterval.toMillis();
+          if (!epochChanged && !refreshDue) {
+            epoch.compareAndSet(-1, status.getEpochNumber());
+          }
+          return epochChanged || refreshDue;
+        })
+        .flatMap(status -> networkInteractor.getNetworkConfig()
+            .doOnNext(r -> {
+              update(r);
+              epoch.set(status.getEpochNumber());
+              log.debug("MultiversX network configuration refreshed. Chain ID: {}", r.getChainId());
+            }));
+  }
+
+  private static synchronized NetworkConfig adoptAssignedConfig() {
+    var assigned = config;
+    current.set(assigned);
+    return assigned;
+  }
+
+  private long now() {
+    return scheduler.now(TimeUnit.MILLISECONDS);
+  }
+
 }
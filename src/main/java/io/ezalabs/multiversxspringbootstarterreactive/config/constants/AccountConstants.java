@@ -0,0 +1,11 @@
+package io.ezalabs.multiversxspringbootstarterreactive.config.constants;
+
+/**
+ * Class containing static config values used when querying accounts
+ */
+public class AccountConstants {
+
+  public static final Integer BULK_BATCH_SIZE = 100;
+  public static final Integer BULK_CONCURRENCY = 4;
+
+}
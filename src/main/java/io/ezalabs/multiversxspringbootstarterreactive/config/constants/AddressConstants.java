@@ -11,6 +11,8 @@ public class AddressConstants {
   public static final int PUBKEY_LENGTH = 32;
   public static final int PUBKEY_HEX_LENGTH = PUBKEY_LENGTH * 2;
   public static final int BECH32_LENGTH = 62;
+  public static final int SMART_CONTRACT_PREFIX_LENGTH = 8;
   public static final String ZERO_PUBKEY_STRING = "0000000000000000000000000000000000000000000000000000000000000000";
+  public static final int INTERN_CACHE_SIZE = 10_000;
 
 }
@@ -0,0 +1,19 @@
+package io.ezalabs.multiversxspringbootstarterreactive.config.constants;
+
+/**
+ * Class containing static config values used in block and hyperblock streaming
+ */
+public class BlockConstants {
+
+  public static final String METACHAIN_SHARD_ID = "4294967295";
+  public static final Integer STREAM_CONCURRENCY = 8;
+  public static final Long TIP_POLL_INTERVAL_MILLIS = 6_000L;
+  public static final Long MAX_NONCES_PER_POLL = 10_000L;
+  public static final Integer QUERY_MAX_RETRIES = 3;
+  public static final Long QUERY_RETRY_BACKOFF_MILLIS = 500L;
+  public static final Integer BACKFILL_SEGMENT_SIZE = 500;
+  public static final Integer BACKFILL_WORKERS = 8;
+  public static final Integer BACKFILL_PREFETCH = 32;
+  public static final Integer BACKFILL_MAX_RETRIES = 5;
+
+}
@@ -0,0 +1,19 @@
+package io.ezalabs.multiversxspringbootstarterreactive.config.constants;
+
+/**
+ * Class containing static config values used by the proxy clients
+ */
+public class ClientConstants {
+
+  public static final Double LATENCY_EWMA_ALPHA = 0.3;
+  public static final Double ERROR_RATE_EWMA_ALPHA = 0.2;
+  public static final Double ERROR_RATE_EJECTION_THRESHOLD = 0.5;
+  public static final Long PROBE_INTERVAL_MILLIS = 5_000L;
+  public static final Integer FAILOVER_MAX_RETRIES = 1;
+
+  public static final String METRIC_REQUESTS = "multiversx.client.requests";
+  public static final String METRIC_REQUESTS_ACTIVE = "multiversx.client.requests.active";
+  public static final String METRIC_RESPONSE_SIZE = "multiversx.client.response.size";
+  public static final String METRIC_CONNECTIONS_PREFIX = "multiversx.client.connections.";
+
+}
@@ -12,6 +12,10 @@ public class ESDTConstants {
   public static final BigInteger ESDT_TRANSFER_GAS_COST = BigInteger.valueOf(500_000L);
   public static final BigInteger ESDT_MULTI_TRANSFER_GAS_COST_BASE = BigInteger.valueOf(1_100_000L);
   public static final BigInteger ESDT_NFT_CREATE_COST = BigInteger.valueOf(5_000_000L);
+  public static final BigInteger ESDT_TRANSFER_BUILTIN_GAS_COST = BigInteger.valueOf(300_000L);
+  public static final BigInteger ESDT_NFT_TRANSFER_BUILTIN_GAS_COST = BigInteger.valueOf(1_000_000L);
+  public static final BigInteger ESDT_MULTI_TRANSFER_BUILTIN_GAS_COST_PER_TOKEN = BigInteger.valueOf(200_000L);
+  public static final BigInteger ESDT_MULTI_TRANSFER_BUILTIN_ADDITIONAL_GAS_COST = BigInteger.valueOf(800_000L);
 
   public static final String ESDT_GET_PROPERTIES_CALL = "getTokenProperties";
   public static final String ESDT_GET_SPECIAL_ROLES_CALL = "getSpecialRoles";
@@ -24,6 +28,7 @@ public class ESDTConstants {
   public static final String ESDT_NFT_ADD_URI_CALL = "ESDTNFTAddURI";
   public static final String ESDT_NFT_UPDATE_ATTRIBUTES_CALL = "ESDTNFTUpdateAttributes";
   public static final String ESDT_TRANSFER_CALL = "ESDTTransfer";
+  public static final String ESDT_NFT_TRANSFER_CALL = "ESDTNFTTransfer";
   public static final String ESDT_MULTI_TRANSFER_CALL = "MultiESDTNFTTransfer";
   public static final String ESDT_MINT_CALL = "ESDTLocalMint";
   public static final String ESDT_NFTSFT_ADD_CALL = "ESDTNFTAddQuantity";
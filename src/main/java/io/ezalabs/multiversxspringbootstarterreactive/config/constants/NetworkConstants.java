@@ -0,0 +1,11 @@
+package io.ezalabs.multiversxspringbootstarterreactive.config.constants;
+
+/**
+ * Class containing static config values used when syncing the network configuration
+ */
+public class NetworkConstants {
+
+  public static final Long CONFIG_REFRESH_MILLIS = 600_000L;
+  public static final Long EPOCH_CHECK_MILLIS = 30_000L;
+
+}
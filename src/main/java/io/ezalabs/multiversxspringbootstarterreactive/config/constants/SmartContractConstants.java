@@ -0,0 +1,14 @@
+package io.ezalabs.multiversxspringbootstarterreactive.config.constants;
+
+/**
+ * Class containing static config values used by the smart contract queries
+ */
+public class SmartContractConstants {
+
+  public static final Integer QUERY_CACHE_MAX_SIZE = 10_000;
+  public static final Long QUERY_CACHE_TTL_MILLIS = 30_000L;
+  public static final Long QUERY_CACHE_NONCE_REFRESH_MILLIS = 2_000L;
+  public static final Integer QUERY_ALL_CONCURRENCY = 16;
+  public static final String QUERY_FAILED_RETURN_CODE = "request failed";
+
+}
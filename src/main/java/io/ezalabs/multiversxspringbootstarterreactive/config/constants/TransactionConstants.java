@@ -14,5 +14,16 @@ public class TransactionConstants {
   public static final Integer SIGNATURE_LENGTH = 64;
   public static final Integer SIGNATURE_LENGTH_HEX = SIGNATURE_LENGTH * 2;
   public static final BigInteger SC_CALL_GAS_LIMIT = BigInteger.valueOf(20_000_000L);
+  public static final Integer SEND_MULTIPLE_CHUNK_SIZE = 100;
+  public static final Integer SEND_MULTIPLE_CONCURRENCY = 4;
+  public static final Long DEFAULT_ROUND_DURATION_MILLIS = 6_000L;
+  public static final Long TRACKER_TICK_MILLIS = 1_000L;
+  public static final Integer TRACKER_MAX_POLLS_PER_TICK = 100;
+  public static final Integer TRACKER_POLL_CONCURRENCY = 16;
+  public static final Integer TRACKER_MAX_BACKOFF_ROUNDS = 8;
+  public static final Long TRACKER_TIMEOUT_MILLIS = 600_000L;
+  public static final Integer TRACKER_RECENT_TRANSACTIONS = 50_000;
+  public static final Long TRACKER_HYPERBLOCK_LOOKBACK = 5L;
+  public static final String NONCE_ERROR_MARKER = "nonce";
 
 }
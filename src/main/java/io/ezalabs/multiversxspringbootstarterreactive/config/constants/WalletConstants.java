@@ -14,5 +14,6 @@ public class WalletConstants {
   public static final String BIP32_SEED_MODIFIER = "ed25519 seed";
   public static final long[] MX_DERIVATION_PATH = {44, 508, 0, 0, 0};
   public static final long HARDENED_OFFSET = 0x80000000;
+  public static final int PARALLEL_SIGNING_THRESHOLD = 32;
 
 }
@@ -1,12 +1,11 @@
 package io.ezalabs.multiversxspringbootstarterreactive.domain.account;
 
 import io.ezalabs.multiversxspringbootstarterreactive.config.constants.AddressConstants;
-import io.ezalabs.multiversxspringbootstarterreactive.error.exception.CannotDecodeBech32AddressException;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.InvalidHexValueException;
-import io.ezalabs.multiversxspringbootstarterreactive.error.exception.WrongNetworkAddressException;
-import io.ezalabs.multiversxspringbootstarterreactive.util.BitsConverter;
+import io.ezalabs.multiversxspringbootstarterreactive.util.Bech32Codec;
 import io.ezalabs.multiversxspringbootstarterreactive.util.HexValidator;
-import org.bitcoinj.core.Bech32;
+import io.ezalabs.multiversxspringbootstarterreactive.util.LruCache;
+import java.util.Arrays;
 import org.bouncycastle.util.encoders.Hex;
 
 /**
@@ -16,10 +15,18 @@ import org.bouncycastle.util.encoders.Hex;
  */
 public class Address {
 
-  private final String hexValue;
+  private static final Address ZERO = new Address(new byte[AddressConstants.PUBKEY_LENGTH],
+      AddressConstants.ZERO_PUBKEY_STRING, null);
+  private static final LruCache<Address, Address> INTERNED = new LruCache<>(AddressConstants.INTERN_CACHE_SIZE);
 
-  private Address(String hexValue) {
+  private final byte[] publicKey;
+  private volatile String hexValue;
+  private volatile String bech32Value;
+
+  private Address(byte[] publicKey, String hexValue, String bech32Value) {
+    this.publicKey = publicKey;
     this.hexValue = hexValue;
+    this.bech32Value = bech32Value;
   }
 
   /**
@@ -33,7 +40,21 @@ public class Address {
       throw new InvalidHexValueException(hexValue);
     }
 
-    return new Address(hexValue);
+    return new Address(Hex.decode(hexValue), hexValue, null);
+  }
+
+  /**
+   * Method used for creating an Address using a public key buffer
+   *
+   * @param publicKey - public key in buffer format
+   * @return - an instance of Address
+   */
+  public static Address fromPublicKey(byte[] publicKey) {
+    if (publicKey == null || publicKey.length != AddressConstants.PUBKEY_LENGTH) {
+      throw new InvalidHexValueException(publicKey == null ? null : Hex.toHexString(publicKey));
+    }
+
+    return new Address(publicKey.clone(), null, null);
   }
 
   /**
@@ -43,21 +64,26 @@ public class Address {
    * @return - an instance of Address
    */
   public static Address fromBech32(String bech32Value) {
-    Bech32.Bech32Data bech32Data;
+    var decodedBytes = Bech32Codec.decodeAddress(AddressConstants.HRP, bech32Value);
+    var isLowercase = Character.isLowerCase(bech32Value.charAt(0));
 
-    try {
-      bech32Data = Bech32.decode(bech32Value);
-    } catch (Exception e) {
-      throw new CannotDecodeBech32AddressException();
-    }
+    return new Address(decodedBytes, null, isLowercase ? bech32Value : null);
+  }
 
-    if (!bech32Data.hrp.equals(AddressConstants.HRP)) {
-      throw new WrongNetworkAddressException(AddressConstants.HRP);
+  /**
+   * Method used to get the shared instance of this Address. Interned addresses are kept in a bounded LRU cache,
+   * so the hex and bech32 values of frequently used addresses are computed only once
+   *
+   * @return - the interned instance equal to this Address
+   */
+  public Address intern() {
+    var interned = INTERNED.get(this);
+    if (interned != null) {
+      return interned;
     }
 
-    var decodedBytes = BitsConverter.convertBits(bech32Data.data, 5, 8, false);
-
-    return new Address(new String(Hex.encode(decodedBytes)));
+    INTERNED.put(this, this, Long.MAX_VALUE);
+    return this;
   }
 
   /**
@@ -66,7 +92,13 @@ public class Address {
    * @return - hex value of the Address
    */
   public String getHex() {
-    return hexValue;
+    var hex = hexValue;
+    if (hex == null) {
+      hex = Hex.toHexString(publicKey);
+      hexValue = hex;
+    }
+
+    return hex;
   }
 
   /**
@@ -75,7 +107,7 @@ public class Address {
    * @return - public key buffer of the Address
    */
   public byte[] getPublicKey() {
-    return Hex.decode(hexValue);
+    return publicKey.clone();
   }
 
   /**
@@ -84,12 +116,13 @@ public class Address {
    * @return - bech32 value of the Address
    */
   public String getBech32() {
-    var bech32Value = Bech32.encode(AddressConstants.HRP, BitsConverter.convertBits(getPublicKey(), 8, 5, true));
-    if (bech32Value.length() != AddressConstants.BECH32_LENGTH) {
-      throw new CannotDecodeBech32AddressException();
+    var bech32 = bech32Value;
+    if (bech32 == null) {
+      bech32 = Bech32Codec.encodeAddress(AddressConstants.HRP, publicKey);
+      bech32Value = bech32;
     }
 
-    return bech32Value;
+    return bech32;
   }
 
   /**
@@ -98,7 +131,7 @@ public class Address {
    * @return - an instance of Address
    */
   public static Address zero() {
-    return new Address(AddressConstants.ZERO_PUBKEY_STRING);
+    return ZERO;
   }
 
   /**
@@ -107,7 +140,38 @@ public class Address {
    * @return boolean
    */
   public boolean isZero() {
-    return hexValue.equals(AddressConstants.ZERO_PUBKEY_STRING);
+    return Arrays.equals(publicKey, ZERO.publicKey);
+  }
+
+  /**
+   * Checks if Address belongs to a smart contract, smart contract public keys starting with
+   * {@link AddressConstants#SMART_CONTRACT_PREFIX_LENGTH} zero bytes
+   *
+   * @return boolean
+   */
+  public boolean isSmartContract() {
+    for (var i = 0; i < AddressConstants.SMART_CONTRACT_PREFIX_LENGTH; i++) {
+      if (publicKey[i] != 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || o instanceof Address other && Arrays.equals(publicKey, other.publicKey);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(publicKey);
+  }
+
+  @Override
+  public String toString() {
+    return getBech32();
   }
 
 }
@@ -6,18 +6,20 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.Value;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.common.Balance;
 
 /**
- * Value object for Smart Contract query
+ * Value object for Smart Contract query. Queries with the same contents are equal, the hash code being computed once
  *
  * @author carlo_stanciu
  */
 @Builder
 @Value
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 public class ContractQuery {
 
   @NonNull
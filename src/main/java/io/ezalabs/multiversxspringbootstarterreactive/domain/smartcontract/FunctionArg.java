@@ -6,6 +6,7 @@ import static java.util.Objects.nonNull;
 import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
 import io.ezalabs.multiversxspringbootstarterreactive.util.HexValidator;
 import java.math.BigInteger;
+import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.bouncycastle.util.encoders.Hex;
 
@@ -15,6 +16,7 @@ import org.bouncycastle.util.encoders.Hex;
  * @author carlo_stanciu
  */
 @Value
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 public class FunctionArg {
 
   String sVal;
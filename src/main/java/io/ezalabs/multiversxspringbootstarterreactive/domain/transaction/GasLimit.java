@@ -1,9 +1,8 @@
 package io.ezalabs.multiversxspringbootstarterreactive.domain.transaction;
 
 import io.ezalabs.multiversxspringbootstarterreactive.config.constants.CurrencyConstants;
-import io.ezalabs.multiversxspringbootstarterreactive.config.constants.ESDTConstants;
-import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.NegativeGasException;
+import io.ezalabs.multiversxspringbootstarterreactive.util.GasModel;
 import java.math.BigInteger;
 import lombok.Value;
 
@@ -35,6 +34,16 @@ public class GasLimit {
     return new GasLimit(value);
   }
 
+  /**
+   * Creates an GasLimit object from a number value
+   *
+   * @param value - value in long format
+   * @return an instance of GasLimit
+   */
+  public static GasLimit fromNumber(long value) {
+    return new GasLimit(BigInteger.valueOf(value));
+  }
+
   /**
    * Creates an GasLimit object from a String value
    *
@@ -69,7 +78,7 @@ public class GasLimit {
    * @return - an instance of GasLimit
    */
   public static GasLimit defaultSmartContractCall() {
-    return fromNumber(TransactionConstants.SC_CALL_GAS_LIMIT);
+    return fromNumber(GasModel.current().smartContractCallGas());
   }
 
   /**
@@ -78,7 +87,7 @@ public class GasLimit {
    * @return - an instance of GasLimit
    */
   public static GasLimit defaultEsdtTransfer() {
-    return fromNumber(ESDTConstants.ESDT_TRANSFER_GAS_COST);
+    return fromNumber(GasModel.current().esdtTransferGas());
   }
 
   /**
@@ -88,8 +97,7 @@ public class GasLimit {
    * @return - an instance of GasLimit
    */
   public static GasLimit multiEsdtTransfer(int numOfTokens) {
-    return fromNumber(ESDTConstants.ESDT_MULTI_TRANSFER_GAS_COST_BASE
-        .multiply(BigInteger.valueOf(numOfTokens)));
+    return fromNumber(GasModel.current().multiEsdtTransferGas(numOfTokens));
   }
 
   /**
@@ -98,7 +106,7 @@ public class GasLimit {
    * @return - an instance of GasLimit
    */
   public static GasLimit defaultEsdtIssuance() {
-    return fromNumber(ESDTConstants.ESDT_ISSUANCE_GAS_COST);
+    return fromNumber(GasModel.current().esdtIssuanceGas());
   }
 
   /**
@@ -107,7 +115,7 @@ public class GasLimit {
    * @return - an instance of GasLimit
    */
   public static GasLimit defaultNftCreate() {
-    return fromNumber(ESDTConstants.ESDT_NFT_CREATE_COST);
+    return fromNumber(GasModel.current().nftCreateGas());
   }
 
   /**
@@ -116,7 +124,7 @@ public class GasLimit {
    * @return - an instance of GasLimit
    */
   public static GasLimit defaultEsdtLocalOp() {
-    return fromNumber(ESDTConstants.ESDT_LOCAL_OP_GAS_COST);
+    return fromNumber(GasModel.current().esdtLocalOpGas());
   }
 
   /**
@@ -125,7 +133,7 @@ public class GasLimit {
    * @return - an instance of GasLimit
    */
   public static GasLimit defaultEsdtGlobalOp() {
-    return fromNumber(ESDTConstants.ESDT_GLOBAL_OP_GAS_COST);
+    return fromNumber(GasModel.current().esdtGlobalOpGas());
   }
 
   @Override
@@ -0,0 +1,183 @@
+package io.ezalabs.multiversxspringbootstarterreactive.domain.transaction;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Canonical JSON writer for Transaction.Sendable used when serializing a transaction for signing
+ * <p>
+ * Writes the fields in the order required by the protocol directly into a reusable, per-thread byte buffer, skipping
+ * null and empty values in the same way as the JsonMapper does, so the output is byte-for-byte identical to the
+ * Jackson serialization
+ */
+final class SendableJsonWriter {
+
+  private static final int INITIAL_CAPACITY = 512;
+  private static final ThreadLocal<SendableJsonWriter> writers = ThreadLocal.withInitial(SendableJsonWriter::new);
+
+  private static final byte[] NONCE = fieldName("nonce");
+  private static final byte[] VALUE = fieldName("value");
+  private static final byte[] RECEIVER = fieldName("receiver");
+  private static final byte[] SENDER = fieldName("sender");
+  private static final byte[] GAS_PRICE = fieldName("gasPrice");
+  private static final byte[] GAS_LIMIT = fieldName("gasLimit");
+  private static final byte[] DATA = fieldName("data");
+  private static final byte[] CHAIN_ID = fieldName("chainID");
+  private static final byte[] SIGNATURE = fieldName("signature");
+  private static final byte[] VERSION = fieldName("version");
+
+  private byte[] buffer = new byte[INITIAL_CAPACITY];
+  private int position;
+
+  SendableJsonWriter() {
+  }
+
+  /**
+   * Serializes a Sendable in its canonical JSON form
+   *
+   * @param sendable - transaction in sendable format
+   * @return - JSON buffer
+   */
+  static byte[] serialize(Transaction.Sendable sendable) {
+    return writers.get().write(sendable);
+  }
+
+  byte[] write(Transaction.Sendable sendable) {
+    position = 0;
+    writeByte('{');
+    writeField(NONCE, sendable.getNonce());
+    writeField(VALUE, sendable.getValue());
+    writeField(RECEIVER, sendable.getReceiver());
+    writeField(SENDER, sendable.getSender());
+    writeField(GAS_PRICE, sendable.getGasPrice());
+    writeField(GAS_LIMIT, sendable.getGasLimit());
+    writeField(DATA, sendable.getData());
+    writeField(CHAIN_ID, sendable.getChainId());
+    writeField(SIGNATURE, sendable.getSignature());
+    writeField(VERSION, sendable.getVersion());
+    writeByte('}');
+
+    return Arrays.copyOf(buffer, position);
+  }
+
+  private void writeField(byte[] name, Long value) {
+    if (value != null) {
+      writeName(name);
+      writeLong(value);
+    }
+  }
+
+  private void writeField(byte[] name, Integer value) {
+    if (value != null) {
+      writeName(name);
+      writeLong(value);
+    }
+  }
+
+  private void writeField(byte[] name, BigInteger value) {
+    if (value != null) {
+      writeName(name);
+      if (value.bitLength() < Long.SIZE) {
+        writeLong(value.longValue());
+      } else {
+        writeAscii(value.toString());
+      }
+    }
+  }
+
+  private void writeField(byte[] name, String value) {
+    if (value != null && !value.isEmpty()) {
+      writeName(name);
+      writeString(value);
+    }
+  }
+
+  private void writeName(byte[] name) {
+    if (position > 1) {
+      writeByte(',');
+    }
+    ensureCapacity(name.length);
+    System.arraycopy(name, 0, buffer, position, name.length);
+    position += name.length;
+  }
+
+  void writeString(String value) {
+    var length = value.length();
+    ensureCapacity(length + 2);
+
+    var start = position;
+    buffer[position++] = '"';
+    for (int i = 0; i < length; i++) {
+      var c = value.charAt(i);
+      if (c < 0x20 || c >= 0x80 || c == '"' || c == '\\') {
+        position = start;
+        writeEscaped(value);
+        return;
+      }
+      buffer[position++] = (byte) c;
+    }
+    buffer[position++] = '"';
+  }
+
+  private void writeEscaped(String value) {
+    var escaped = JsonStringEncoder.getInstance().quoteAsString(value);
+    var bytes = new String(escaped).getBytes(StandardCharsets.UTF_8);
+
+    ensureCapacity(bytes.length + 2);
+    buffer[position++] = '"';
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+    buffer[position++] = '"';
+  }
+
+  private void writeAscii(String value) {
+    var length = value.length();
+    ensureCapacity(length);
+    for (int i = 0; i < length; i++) {
+      buffer[position++] = (byte) value.charAt(i);
+    }
+  }
+
+  private void writeLong(long value) {
+    if (value == Long.MIN_VALUE) {
+      writeAscii(Long.toString(value));
+      return;
+    }
+
+    ensureCapacity(20);
+    if (value < 0) {
+      buffer[position++] = '-';
+      value = -value;
+    }
+
+    var digits = 1;
+    for (long v = value / 10; v > 0; v /= 10) {
+      digits++;
+    }
+
+    var end = position + digits;
+    for (int i = end - 1; i >= position; i--) {
+      buffer[i] = (byte) ('0' + (value % 10));
+      value /= 10;
+    }
+    position = end;
+  }
+
+  private void writeByte(char value) {
+    ensureCapacity(1);
+    buffer[position++] = (byte) value;
+  }
+
+  private void ensureCapacity(int extra) {
+    if (position + extra > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+    }
+  }
+
+  private static byte[] fieldName(String name) {
+    return ("\"" + name + "\":").getBytes(StandardCharsets.US_ASCII);
+  }
+
+}
@@ -2,9 +2,8 @@ package io.ezalabs.multiversxspringbootstarterreactive.domain.transaction;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import io.ezalabs.multiversxspringbootstarterreactive.config.JsonMapper;
 import io.ezalabs.multiversxspringbootstarterreactive.config.MxNetworkConfigSupplier;
-import io.ezalabs.multiversxspringbootstarterreactive.util.GasUtils;
+import io.ezalabs.multiversxspringbootstarterreactive.util.GasModel;
 import java.math.BigInteger;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -25,12 +24,12 @@ public class Transaction implements Signable {
 
   private Boolean isEstimation = Boolean.FALSE;
   private Nonce nonce = Nonce.fromLong(0L);
-  private ChainID chainID = ChainID.fromString(MxNetworkConfigSupplier.config.getChainId());
+  private ChainID chainID = ChainID.fromString(MxNetworkConfigSupplier.getConfig().getChainId());
   private Balance value = Balance.zero();
   private Address sender = Address.zero();
   private Address receiver = Address.zero();
-  private GasPrice gasPrice = GasPrice.fromNumber(MxNetworkConfigSupplier.config.getMinGasPrice());
-  private GasLimit gasLimit = GasLimit.fromNumber(MxNetworkConfigSupplier.config.getMinGasLimit());
+  private GasPrice gasPrice = GasPrice.fromNumber(MxNetworkConfigSupplier.getConfig().getMinGasPrice());
+  private GasLimit gasLimit = GasLimit.fromNumber(MxNetworkConfigSupplier.getConfig().getMinGasLimit());
   private PayloadData payloadData = PayloadData.empty();
   private TransactionVersion version = TransactionVersion.withDefaultVersion();
   private Signature signature = Signature.empty();
@@ -39,7 +38,7 @@ public class Transaction implements Signable {
 
   @Override
   public byte[] serializeForSigning() throws JsonProcessingException {
-    return JsonMapper.serializeToJsonBuffer(toSendable());
+    return SendableJsonWriter.serialize(toSendable());
   }
 
   @Override
@@ -78,7 +77,7 @@ public class Transaction implements Signable {
    */
   public void setPayloadData(PayloadData payloadData) {
     this.payloadData = payloadData;
-    this.gasLimit = GasLimit.fromNumber(GasUtils.computeGasCost(payloadData));
+    this.gasLimit = GasLimit.fromNumber(GasModel.current().moveBalanceGas(payloadData.length()));
   }
 
   /**
@@ -22,6 +22,15 @@ public enum TransactionStatus {
 
   private final String value;
 
+  /**
+   * Method used to check if the status can no longer change
+   *
+   * @return - true if the transaction was executed or rejected, false otherwise
+   */
+  public boolean isFinal() {
+    return this == SUCCESS || this == FAIL || this == INVALID;
+  }
+
   /**
    * Creates enum instance from String input
    *
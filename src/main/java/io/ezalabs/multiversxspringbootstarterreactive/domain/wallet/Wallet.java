@@ -10,6 +10,10 @@ import io.ezalabs.multiversxspringbootstarterreactive.util.MnemonicsUtils;
 import io.ezalabs.multiversxspringbootstarterreactive.util.PemUtils;
 import java.io.File;
 import java.util.List;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
 import org.bouncycastle.crypto.signers.Ed25519Signer;
@@ -21,6 +25,9 @@ import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.Signabl
 
 /**
  * Value object for Wallet
+ * <p>
+ * The private key parameters and the Address are computed once per Wallet, so the Ed25519 signer created for each
+ * signature doesn't derive the key again
  */
 @Value
 public class Wallet {
@@ -28,9 +35,20 @@ public class Wallet {
   byte[] publicKey;
   byte[] privateKey;
 
-  private Wallet(byte[] publicKey, byte[] privateKey) {
-    this.publicKey = publicKey;
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  Address address;
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  Ed25519PrivateKeyParameters privateKeyParameters;
+
+  private Wallet(Ed25519PrivateKeyParameters privateKeyParameters, byte[] privateKey) {
+    this.privateKeyParameters = privateKeyParameters;
+    this.publicKey = privateKeyParameters.generatePublicKey().getEncoded();
     this.privateKey = privateKey;
+    this.address = Address.fromPublicKey(publicKey);
   }
 
   /**
@@ -40,10 +58,7 @@ public class Wallet {
    * @return - an instance of Wallet
    */
   public static Wallet fromPrivateKeyBuffer(byte[] privateKey) {
-    var privateKeyParameters = new Ed25519PrivateKeyParameters(privateKey, 0);
-    var publicKeyParameters = privateKeyParameters.generatePublicKey();
-
-    return new Wallet(publicKeyParameters.getEncoded(), privateKey);
+    return new Wallet(new Ed25519PrivateKeyParameters(privateKey, 0), privateKey);
   }
 
   /**
@@ -98,7 +113,7 @@ public class Wallet {
    * @return - an instance of Address owning the Wallet
    */
   public Address getAddress() {
-    return Address.fromHex(getPublicKeyHex());
+    return address;
   }
 
   /**
@@ -117,19 +132,31 @@ public class Wallet {
     }
   }
 
+  /**
+   * Method used for signing a batch of Signable objects. Large batches are signed in parallel on the common ForkJoinPool
+   *
+   * @param signables - objects to sign
+   */
+  public void signAll(List<? extends Signable> signables) {
+    if (signables.size() < WalletConstants.PARALLEL_SIGNING_THRESHOLD) {
+      signables.forEach(this::sign);
+    } else {
+      signables.parallelStream().forEach(this::sign);
+    }
+  }
+
   /**
    * Getter
    *
    * @return - hex value of public key
    */
   public String getPublicKeyHex() {
-    return Hex.toHexString(publicKey);
+    return address.getHex();
   }
 
   private Ed25519Signer createEd25519Signer() {
-    var parameters = new Ed25519PrivateKeyParameters(this.privateKey, 0);
     var signer = new Ed25519Signer();
-    signer.init(true, parameters);
+    signer.init(true, privateKeyParameters);
 
     return signer;
   }
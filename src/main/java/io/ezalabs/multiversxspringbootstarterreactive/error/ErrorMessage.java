@@ -15,6 +15,7 @@ public enum ErrorMessage {
   WRONG_NETWORK_ADDRESS("Wrong network address. %s network required."),
   INVALID_GATEWAY("Invalid gateway input. Must be mainnet, testnet or devnet."),
   INVALID_PROXY_URL("Invalid Proxy URL: %s."),
+  INVALID_URI_VALUES("Invalid values for URI %s. Expected %s values, got %s."),
   INVALID_HEX_VALUE("Could not create address. Invalid hex value %s."),
   PRIVATE_KEY_LENGTH("Invalid private key length: %s"),
   PAYLOAD("Payload cannot be null."),
@@ -31,9 +32,15 @@ public enum ErrorMessage {
   INVALID_BALANCE("Invalid balance: %s."),
   INVALID_TRANSACTION_VERSION("Invalid transaction version: %s."),
   INVALID_TRANSACTION_STATUS("Invalid transaction status: %s."),
+  TRANSACTION_TRACKING_TIMEOUT("Transaction %s did not reach a final status in %s ms."),
   INVALID_SENT_TRANSACTIONS("Transactions sent were invalid and not processed."),
+  TRANSACTION_CHUNK_SKIPPED("Chunk starting at nonce %s was not sent because an earlier chunk was not fully sent."),
   INVALID_CHAIN_ID("Invalid chainID: %s."),
   INVALID_PEM_FILE("Invalid PEM file. Error: %s."),
+  INVALID_BATCH_OPTIONS("Invalid transaction batch options. Chunk size and concurrency must be positive: %s, %s."),
+  INVALID_ACCOUNT_BATCH_OPTIONS("Invalid account batch options. Batch size and concurrency must be positive: %s, %s."),
+  INVALID_BACKFILL_OPTIONS("Invalid backfill options. %s."),
+  BACKFILL_CHECKPOINT("Cannot access backfill checkpoint %s. Error: %s."),
   MISSING_TRANSACTIONS_REQUESTS("Missing transactions request, could not create sendables."),
   NEGATIVE_GAS("Negative gas: %s."),
   FUNCTION_ARG_NULL("Function args is empty, null or less than 0."),
@@ -51,7 +58,9 @@ public enum ErrorMessage {
   TOKEN_ATTRIBUTES("Token attributes cannot be null or empty. Metadata URI must point to a JSON file."),
   NFT_MEDIA_URI(
       "Invalid NFT media URI. File format can only be png, jpeg, jpg, gif, acc, flac, m4a, mp3, wav, mov, quicktime, mp4 and webm."),
-  NFT_METADATA_URI("Invalid NFT metadata URI. File format can only be json.");
+  NFT_METADATA_URI("Invalid NFT metadata URI. File format can only be json."),
+  STREAMING_NOT_SUPPORTED("Streaming responses is not supported by this proxy client."),
+  TIP_FOLLOWING_NOT_SUPPORTED("Following the chain tip is not supported by this block interactor.");
 
   private final String value;
 
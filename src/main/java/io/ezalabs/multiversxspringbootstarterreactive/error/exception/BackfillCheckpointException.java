@@ -0,0 +1,12 @@
+package io.ezalabs.multiversxspringbootstarterreactive.error.exception;
+
+import static java.lang.String.format;
+
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
+
+public class BackfillCheckpointException extends RuntimeException {
+
+  public BackfillCheckpointException(Object checkpoint, Throwable t) {
+    super(format(ErrorMessage.BACKFILL_CHECKPOINT.getValue(), checkpoint, t.getMessage()), t);
+  }
+}
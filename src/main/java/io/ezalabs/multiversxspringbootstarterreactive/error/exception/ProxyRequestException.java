@@ -2,7 +2,25 @@ package io.ezalabs.multiversxspringbootstarterreactive.error.exception;
 
 public class ProxyRequestException extends RuntimeException {
 
+  private final int statusCode;
+
   public ProxyRequestException(String errorMessage) {
-    super(errorMessage);
+    this(errorMessage, null, 0);
+  }
+
+  public ProxyRequestException(String errorMessage, Throwable cause) {
+    this(errorMessage, cause, 0);
+  }
+
+  public ProxyRequestException(String errorMessage, Throwable cause, int statusCode) {
+    super(errorMessage, cause);
+    this.statusCode = statusCode;
+  }
+
+  /**
+   * @return - HTTP status code of the gateway response, or 0 if no response was received
+   */
+  public int getStatusCode() {
+    return statusCode;
   }
 }
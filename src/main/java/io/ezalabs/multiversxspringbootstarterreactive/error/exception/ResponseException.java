@@ -4,12 +4,23 @@ import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
 
 public class ResponseException extends RuntimeException {
 
+  private final String code;
+
   public ResponseException(String error) {
-    super(error);
+    this(error, null);
   }
 
   public ResponseException() {
-    super(ErrorMessage.RESPONSE_NOT_SUCCESSFUL.getValue());
+    this(ErrorMessage.RESPONSE_NOT_SUCCESSFUL.getValue(), null);
+  }
+
+  public ResponseException(String error, String code) {
+    super(error);
+    this.code = code;
+  }
+
+  public String getCode() {
+    return code;
   }
 
 }
@@ -0,0 +1,12 @@
+package io.ezalabs.multiversxspringbootstarterreactive.error.exception;
+
+import static java.lang.String.format;
+
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
+
+public class TransactionChunkSkippedException extends RuntimeException {
+
+  public TransactionChunkSkippedException(long firstNonce) {
+    super(format(ErrorMessage.TRANSACTION_CHUNK_SKIPPED.getValue(), firstNonce));
+  }
+}
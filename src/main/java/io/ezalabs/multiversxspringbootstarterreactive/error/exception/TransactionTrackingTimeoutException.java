@@ -0,0 +1,13 @@
+package io.ezalabs.multiversxspringbootstarterreactive.error.exception;
+
+import static java.lang.String.format;
+
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
+import java.time.Duration;
+
+public class TransactionTrackingTimeoutException extends RuntimeException {
+
+  public TransactionTrackingTimeoutException(String transactionHash, Duration timeout) {
+    super(format(ErrorMessage.TRANSACTION_TRACKING_TIMEOUT.getValue(), transactionHash, timeout.toMillis()));
+  }
+}
@@ -45,6 +45,17 @@ public class WrappedResponses {
 
   }
 
+  @Builder
+  @Getter
+  @JsonInclude(JsonInclude.Include.NON_EMPTY)
+  @JsonDeserialize(builder = GetAccountsBulkWrapper.GetAccountsBulkWrapperBuilder.class)
+  public static class GetAccountsBulkWrapper {
+
+    @JsonProperty("accounts")
+    private final Map<String, AccountOnNetwork> accounts;
+
+  }
+
   @Builder
   @Getter
   @JsonInclude(JsonInclude.Include.NON_EMPTY)
@@ -0,0 +1,40 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.account;
+
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.AccountConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options controlling how a stream of Addresses is split into bulk requests
+ * and in which order the accounts are emitted by getAccounts
+ */
+@Value
+public class AccountBatchOptions {
+
+  int batchSize;
+  int concurrency;
+  boolean ordered;
+
+  @Builder
+  private AccountBatchOptions(Integer batchSize, Integer concurrency, Boolean ordered) {
+    this.batchSize = batchSize == null ? AccountConstants.BULK_BATCH_SIZE : batchSize;
+    this.concurrency = concurrency == null ? AccountConstants.BULK_CONCURRENCY : concurrency;
+    this.ordered = ordered == null || ordered;
+
+    if (this.batchSize <= 0 || this.concurrency <= 0) {
+      throw new IllegalArgumentException(
+          ErrorMessage.INVALID_ACCOUNT_BATCH_OPTIONS.getValue().formatted(this.batchSize, this.concurrency));
+    }
+  }
+
+  /**
+   * Method used to create the default batch options
+   *
+   * @return - an instance of AccountBatchOptions
+   */
+  public static AccountBatchOptions defaults() {
+    return builder().build();
+  }
+
+}
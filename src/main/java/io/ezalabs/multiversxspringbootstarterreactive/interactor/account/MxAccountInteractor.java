@@ -6,7 +6,11 @@ import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountOnNetwork
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountStorageValue;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionForAddress;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import org.bouncycastle.util.encoders.Hex;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
 
@@ -66,5 +70,69 @@ public interface MxAccountInteractor {
    */
   Mono<Map<String, String>> getStorage(Address address);
 
+  /**
+   * Method used to stream all the storage of an Account, decoding the response as it is received
+   *
+   * @param address - Address input
+   * @return - storage entries of hex keys and hex values
+   */
+  default Flux<Map.Entry<String, String>> streamStorage(Address address) {
+    return streamStorage(address, "");
+  }
+
+  /**
+   * Method used to stream the storage of an Account having keys starting with a prefix.
+   * The entries are emitted as the response is decoded, before the response code is known: an unsuccessful
+   * response fails the Flux after the entries received so far, so they should only be relied on once it completes.
+   * The default implementation queries the whole storage with {@link #getStorage(Address)} and filters it
+   *
+   * @param address      - Address input
+   * @param hexKeyPrefix - prefix of the keys in hex representation, or null for all the keys
+   * @return - storage entries of hex keys and hex values
+   */
+  default Flux<Map.Entry<String, String>> streamStorage(Address address, String hexKeyPrefix) {
+    var prefix = hexKeyPrefix == null ? "" : hexKeyPrefix.toLowerCase(Locale.ROOT);
+    return getStorage(address)
+        .flatMapIterable(Map::entrySet)
+        .filter(entry -> entry.getKey().startsWith(prefix));
+  }
+
+  /**
+   * Method used to stream the storage of an Account having keys starting with a prefix, as buffers
+   *
+   * @param address   - Address input
+   * @param keyPrefix - prefix of the keys in buffer format, or null for all the keys
+   * @return - storage entries of key buffers and value buffers
+   */
+  default Flux<Map.Entry<byte[], byte[]>> streamStorageBytes(Address address, byte[] keyPrefix) {
+    return streamStorage(address, keyPrefix == null ? "" : Hex.toHexString(keyPrefix))
+        .map(entry -> Map.entry(Hex.decode(entry.getKey()), Hex.decode(entry.getValue())));
+  }
+
+  /**
+   * Method used to query the information of many Accounts with the default batch options
+   *
+   * @param addresses - Publisher of Addresses
+   * @return - AccountOnNetwork API responses, in the order of the Addresses
+   */
+  default Flux<AccountOnNetwork> getAccounts(Publisher<Address> addresses) {
+    return getAccounts(addresses, AccountBatchOptions.defaults());
+  }
+
+  /**
+   * Method used to query the information of many Accounts. The Addresses are grouped into bulk requests
+   * and duplicates within a group are queried once. If the gateway does not support the bulk request
+   * (404 / 405) the Accounts are queried one by one, other errors are propagated.
+   * The default implementation queries every Address one by one with the concurrency of the options
+   *
+   * @param addresses - Publisher of Addresses
+   * @param options   - batch size, concurrency and ordering of the results
+   * @return - AccountOnNetwork API responses
+   */
+  default Flux<AccountOnNetwork> getAccounts(Publisher<Address> addresses, AccountBatchOptions options) {
+    return options.isOrdered()
+        ? Flux.from(addresses).flatMapSequential(this::getAccountInfo, options.getConcurrency())
+        : Flux.from(addresses).flatMap(this::getAccountInfo, options.getConcurrency());
+  }
 
 }
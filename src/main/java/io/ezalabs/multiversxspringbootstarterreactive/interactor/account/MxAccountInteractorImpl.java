@@ -1,7 +1,5 @@
 package io.ezalabs.multiversxspringbootstarterreactive.interactor.account;
 
-import static java.lang.String.format;
-
 import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountBalance;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountNonce;
@@ -11,20 +9,29 @@ import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionForAd
 import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
 import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
 
-@AllArgsConstructor
+@Slf4j
+@RequiredArgsConstructor
 public class MxAccountInteractorImpl implements MxAccountInteractor {
 
   private final MxProxyClient client;
+  private volatile boolean bulkSupported = true;
 
   @Override
   public Mono<AccountOnNetwork> getAccountInfo(Address address) {
     return client
-        .get(String.format(ApiResourceURI.ACCOUNT_ON_NETWORK.getURI(), address.getBech32()),
+        .get(ApiResourceURI.ACCOUNT_ON_NETWORK.expand(address.getBech32()),
             WrappedResponses.GetAccountWrapper.class)
         .map(WrappedResponses.GetAccountWrapper::getAccount);
   }
@@ -32,21 +39,21 @@ public class MxAccountInteractorImpl implements MxAccountInteractor {
   @Override
   public Mono<AccountBalance> getBalance(Address address) {
     return client
-        .get(format(ApiResourceURI.ACCOUNT_BALANCE.getURI(), address.getBech32()),
+        .get(ApiResourceURI.ACCOUNT_BALANCE.expand(address.getBech32()),
             AccountBalance.class);
   }
 
   @Override
   public Mono<AccountNonce> getNonce(Address address) {
     return client
-        .get(format(ApiResourceURI.ACCOUNT_NONCE.getURI(), address.getBech32()),
+        .get(ApiResourceURI.ACCOUNT_NONCE.expand(address.getBech32()),
             AccountNonce.class);
   }
 
   @Override
   public Mono<List<TransactionForAddress>> getTransactions(Address address) {
     return client
-        .get(format(ApiResourceURI.ADDRESS_TRANSACTIONS.getURI(), address.getBech32()),
+        .get(ApiResourceURI.ADDRESS_TRANSACTIONS.expand(address.getBech32()),
             WrappedResponses.GetAccountTransactionsWrapper.class)
         .map(WrappedResponses.GetAccountTransactionsWrapper::getList);
   }
@@ -54,15 +61,73 @@ public class MxAccountInteractorImpl implements MxAccountInteractor {
   @Override
   public Mono<AccountStorageValue> getStorageValue(Address address, String key) {
     return client
-        .get(format(ApiResourceURI.ACCOUNT_STORAGE_VALUE.getURI(), address.getBech32(), key),
+        .get(ApiResourceURI.ACCOUNT_STORAGE_VALUE.expand(address.getBech32(), key),
             AccountStorageValue.class);
   }
 
   @Override
   public Mono<Map<String, String>> getStorage(Address address) {
     return client
-        .get(format(ApiResourceURI.ACCOUNT_STORAGE.getURI(), address.getBech32()),
+        .get(ApiResourceURI.ACCOUNT_STORAGE.expand(address.getBech32()),
             WrappedResponses.GetAllAccountStorageWrapper.class)
         .map(WrappedResponses.GetAllAccountStorageWrapper::getPairs);
   }
+
+  @Override
+  public Flux<Map.Entry<String, String>> streamStorage(Address address, String hexKeyPrefix) {
+    return Flux.defer(() -> {
+      var decoder = new StoragePairsDecoder(hexKeyPrefix);
+      return client
+          .stream(ApiResourceURI.ACCOUNT_STORAGE.expand(address.getBech32()))
+          .concatMapIterable(decoder::decode)
+          .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.complete())))
+          .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    });
+  }
+
+  @Override
+  public Flux<AccountOnNetwork> getAccounts(Publisher<Address> addresses, AccountBatchOptions options) {
+    var batches = Flux.from(addresses)
+        .buffer(options.getBatchSize())
+        .map(batch -> batch.stream().distinct().toList());
+
+    return options.isOrdered()
+        ? batches.flatMapSequential(batch -> getAccountsBatch(batch, options), options.getConcurrency())
+        : batches.flatMap(batch -> getAccountsBatch(batch, options), options.getConcurrency());
+  }
+
+  private Flux<AccountOnNetwork> getAccountsBatch(List<Address> batch, AccountBatchOptions options) {
+    return getAccountsBulk(batch)
+        .flatMapMany(accounts -> Flux.fromIterable(batch)
+            .flatMapSequential(address -> {
+              var account = accounts.get(address.getBech32());
+              return account != null ? Mono.just(account) : getAccountInfo(address);
+            }, options.getConcurrency()));
+  }
+
+  private Mono<Map<String, AccountOnNetwork>> getAccountsBulk(List<Address> batch) {
+    if (!bulkSupported) {
+      return Mono.just(Map.of());
+    }
+
+    var bech32Addresses = batch.stream()
+        .map(Address::getBech32)
+        .toList();
+
+    return client
+        .post(ApiResourceURI.ACCOUNTS_BULK.getURI(), bech32Addresses, WrappedResponses.GetAccountsBulkWrapper.class)
+        .<Map<String, AccountOnNetwork>>map(response ->
+            response.getAccounts() == null ? Map.of() : response.getAccounts())
+        .onErrorResume(MxAccountInteractorImpl::isBulkUnsupported, e -> {
+          log.debug("[AccountInteractor] bulk query not supported, querying accounts one by one: {}", e.getMessage());
+          bulkSupported = false;
+          return Mono.just(Map.of());
+        });
+  }
+
+  private static boolean isBulkUnsupported(Throwable e) {
+    return e instanceof ProxyRequestException exception
+        && (exception.getStatusCode() == HttpStatus.NOT_FOUND.value()
+        || exception.getStatusCode() == HttpStatus.METHOD_NOT_ALLOWED.value());
+  }
 }
@@ -0,0 +1,132 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.account;
+
+import static io.netty.util.internal.StringUtil.isNullOrEmpty;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.DeserializationException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ResponseException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * Incremental decoder of the account storage response, emitting the entries of the data.pairs object
+ * as the response chunks are received, without building the whole response in memory.
+ * <p>
+ * The gateway sends the code after the data, so entries are emitted before the code is checked; an unsuccessful
+ * response is only reported by {@link #complete()}, after the entries decoded until then.
+ */
+class StoragePairsDecoder {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final int MAX_TRACKED_DEPTH = 3;
+
+  private final JsonParser parser;
+  private final String keyPrefix;
+  private final String[] fieldNames = new String[MAX_TRACKED_DEPTH + 1];
+  private int depth;
+  private String error;
+  private String code;
+
+  StoragePairsDecoder(String keyPrefix) {
+    try {
+      this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+    } catch (IOException e) {
+      throw new DeserializationException(e.getMessage());
+    }
+    this.keyPrefix = keyPrefix == null ? "" : keyPrefix.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Method used to decode the next chunk of the response. The buffer is released after reading
+   *
+   * @param buffer - response chunk
+   * @return - storage entries completed by this chunk
+   */
+  List<Map.Entry<String, String>> decode(DataBuffer buffer) {
+    try {
+      var bytes = new byte[buffer.readableByteCount()];
+      buffer.read(bytes);
+      ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+      return drain();
+    } catch (IOException e) {
+      throw new DeserializationException(e.getMessage());
+    } finally {
+      DataBufferUtils.release(buffer);
+    }
+  }
+
+  /**
+   * Method used to signal the end of the response and check that it was successful
+   *
+   * @return - storage entries completed at the end of the response
+   */
+  List<Map.Entry<String, String>> complete() {
+    List<Map.Entry<String, String>> entries;
+    try {
+      parser.getNonBlockingInputFeeder().endOfInput();
+      entries = drain();
+      parser.close();
+    } catch (IOException e) {
+      throw new DeserializationException(e.getMessage());
+    }
+
+    if (!isNullOrEmpty(error)) {
+      throw new ResponseException(error, code);
+    }
+
+    if (!"successful".equals(code)) {
+      throw new ResponseException(ErrorMessage.RESPONSE_NOT_SUCCESSFUL.getValue(), code);
+    }
+
+    return entries;
+  }
+
+  private List<Map.Entry<String, String>> drain() throws IOException {
+    var entries = new ArrayList<Map.Entry<String, String>>();
+
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      switch (token) {
+        case START_OBJECT, START_ARRAY -> {
+          if (++depth <= MAX_TRACKED_DEPTH) {
+            fieldNames[depth] = null;
+          }
+        }
+        case END_OBJECT, END_ARRAY -> depth--;
+        case FIELD_NAME -> {
+          if (depth <= MAX_TRACKED_DEPTH) {
+            fieldNames[depth] = parser.currentName();
+          }
+        }
+        case VALUE_STRING -> onString(entries);
+        default -> {
+        }
+      }
+    }
+
+    return entries;
+  }
+
+  private void onString(List<Map.Entry<String, String>> entries) throws IOException {
+    if (depth == 1) {
+      if ("error".equals(fieldNames[1])) {
+        error = parser.getText();
+      } else if ("code".equals(fieldNames[1])) {
+        code = parser.getText();
+      }
+    } else if (depth == 3 && "data".equals(fieldNames[1]) && "pairs".equals(fieldNames[2])
+        && fieldNames[3] != null && fieldNames[3].startsWith(keyPrefix)) {
+      entries.add(Map.entry(fieldNames[3], parser.getText()));
+    }
+  }
+
+}
@@ -2,6 +2,10 @@ package io.ezalabs.multiversxspringbootstarterreactive.interactor.block;
 
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.Hyperblock;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.ShardBlock;
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -45,4 +49,40 @@ public interface MxBlockInteractor {
    */
   Mono<ShardBlock> queryShardBlockByHashFromShard(Integer shard, String hash);
 
+  /**
+   * Method used to stream final Hyperblocks in nonce order, following the chain tip.
+   * Blocks are fetched ahead with bounded concurrency and only as fast as they are requested.
+   * The default implementation queries a bounded range one nonce at a time and does not follow the tip
+   *
+   * @param fromNonce - first nonce to emit
+   * @param toNonce   - last nonce to emit, or null to keep following the chain tip
+   * @return - Flux of Hyperblock API responses
+   */
+  default Flux<Hyperblock> streamHyperblocks(long fromNonce, Long toNonce) {
+    return queryRange(fromNonce, toNonce, this::queryHyperblockByNonce);
+  }
+
+  /**
+   * Method used to stream final ShardBlocks of a shard in nonce order, following the shard's tip.
+   * Blocks are fetched ahead with bounded concurrency and only as fast as they are requested.
+   * The default implementation queries a bounded range one nonce at a time and does not follow the tip
+   *
+   * @param shard     - shard of the blocks
+   * @param fromNonce - first nonce to emit
+   * @param toNonce   - last nonce to emit, or null to keep following the shard's tip
+   * @return - Flux of ShardBlock API responses
+   */
+  default Flux<ShardBlock> streamShardBlocks(Integer shard, long fromNonce, Long toNonce) {
+    return queryRange(fromNonce, toNonce, nonce -> queryShardBlockByNonceFromShard(shard, nonce));
+  }
+
+  private static <T> Flux<T> queryRange(long fromNonce, Long toNonce, LongFunction<Mono<T>> query) {
+    if (toNonce == null) {
+      return Flux.error(new UnsupportedOperationException(ErrorMessage.TIP_FOLLOWING_NOT_SUPPORTED.getValue()));
+    }
+
+    return Flux.fromStream(() -> LongStream.rangeClosed(fromNonce, toNonce).boxed())
+        .concatMap(query::apply);
+  }
+
 }
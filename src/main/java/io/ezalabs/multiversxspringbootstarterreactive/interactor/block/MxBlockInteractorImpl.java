@@ -1,24 +1,35 @@
 package io.ezalabs.multiversxspringbootstarterreactive.interactor.block;
 
-import static java.lang.String.format;
-
 import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.Hyperblock;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.ShardBlock;
 import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.BlockConstants;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.LongStream;
 import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
 
 @AllArgsConstructor
 public class MxBlockInteractorImpl implements MxBlockInteractor {
 
   private final MxProxyClient client;
+  private final Duration pollInterval;
+  private final int concurrency;
+
+  public MxBlockInteractorImpl(MxProxyClient client) {
+    this(client, Duration.ofMillis(BlockConstants.TIP_POLL_INTERVAL_MILLIS), BlockConstants.STREAM_CONCURRENCY);
+  }
 
   @Override
   public Mono<Hyperblock> queryHyperblockByNonce(Long nonce) {
     return client
-        .get(String.format(ApiResourceURI.HYPERBLOCK_BY_NONCE.getURI(), nonce),
+        .get(ApiResourceURI.HYPERBLOCK_BY_NONCE.expand(nonce),
             WrappedResponses.QueryHyperblock.class)
         .map(WrappedResponses.QueryHyperblock::getHyperblock);
   }
@@ -26,7 +37,7 @@ public class MxBlockInteractorImpl implements MxBlockInteractor {
   @Override
   public Mono<Hyperblock> queryHyperblockByHash(String hash) {
     return client
-        .get(format(ApiResourceURI.HYPERBLOCK_BY_HASH.getURI(), hash),
+        .get(ApiResourceURI.HYPERBLOCK_BY_HASH.expand(hash),
             WrappedResponses.QueryHyperblock.class)
         .map(WrappedResponses.QueryHyperblock::getHyperblock);
   }
@@ -34,7 +45,7 @@ public class MxBlockInteractorImpl implements MxBlockInteractor {
   @Override
   public Mono<ShardBlock> queryShardBlockByNonceFromShard(Integer shard, Long nonce) {
     return client
-        .get(format(ApiResourceURI.BLOCK_BY_NONCE_FROM_SHARD.getURI(), shard, nonce),
+        .get(ApiResourceURI.BLOCK_BY_NONCE_FROM_SHARD.expand(shard, nonce),
             WrappedResponses.QueryBlock.class)
         .map(WrappedResponses.QueryBlock::getBlock);
   }
@@ -42,9 +53,77 @@ public class MxBlockInteractorImpl implements MxBlockInteractor {
   @Override
   public Mono<ShardBlock> queryShardBlockByHashFromShard(Integer shard, String hash) {
     return client
-        .get(format(ApiResourceURI.BLOCK_BY_HASH_FROM_SHARD.getURI(), shard, hash),
+        .get(ApiResourceURI.BLOCK_BY_HASH_FROM_SHARD.expand(shard, hash),
             WrappedResponses.QueryBlock.class)
         .map(WrappedResponses.QueryBlock::getBlock);
   }
 
+  @Override
+  public Flux<Hyperblock> streamHyperblocks(long fromNonce, Long toNonce) {
+    return streamBlocks(BlockConstants.METACHAIN_SHARD_ID, fromNonce, toNonce, this::queryHyperblockByNonce);
+  }
+
+  @Override
+  public Flux<ShardBlock> streamShardBlocks(Integer shard, long fromNonce, Long toNonce) {
+    return streamBlocks(String.valueOf(shard), fromNonce, toNonce,
+        nonce -> queryShardBlockByNonceFromShard(shard, nonce));
+  }
+
+  private <T> Flux<T> streamBlocks(String shardId, long fromNonce, Long toNonce, Function<Long, Mono<T>> query) {
+    return finalNonces(shardId, fromNonce, toNonce)
+        .flatMapSequential(nonce -> Mono.defer(() -> query.apply(nonce))
+                .retryWhen(Retry.backoff(BlockConstants.QUERY_MAX_RETRIES,
+                        Duration.ofMillis(BlockConstants.QUERY_RETRY_BACKOFF_MILLIS))
+                    .onRetryExhaustedThrow((spec, signal) -> signal.failure())),
+            concurrency, 1);
+  }
+
+  /**
+   * The tip poll is retried with backoff like the block queries; while following the tip it is retried
+   * indefinitely, with the backoff capped at the poll interval, so a proxy outage only pauses the stream
+   */
+  private Flux<Long> finalNonces(String shardId, long fromNonce, Long toNonce) {
+    var lastNonce = toNonce == null ? Long.MAX_VALUE : toNonce;
+
+    if (fromNonce > lastNonce) {
+      return Flux.empty();
+    }
+
+    return Flux.defer(() -> {
+      var next = new AtomicLong(fromNonce);
+
+      return Mono.defer(() -> highestFinalNonce(shardId))
+          .retryWhen(tipRetry(toNonce == null))
+          .flatMapMany(tip -> {
+            var from = next.get();
+            var to = Math.min(Math.min(tip, lastNonce), from + BlockConstants.MAX_NONCES_PER_POLL - 1);
+
+            if (from > to) {
+              return Mono.delay(pollInterval).then(Mono.<Long>empty());
+            }
+
+            next.set(to + 1);
+            return Flux.fromStream(() -> LongStream.rangeClosed(from, to).boxed());
+          })
+          .repeat(() -> next.get() <= lastNonce);
+    });
+  }
+
+  private Retry tipRetry(boolean followingTip) {
+    var backoff = Duration.ofMillis(BlockConstants.QUERY_RETRY_BACKOFF_MILLIS);
+    var retry = Retry.backoff(followingTip ? Long.MAX_VALUE : BlockConstants.QUERY_MAX_RETRIES, backoff)
+        .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
+    return followingTip
+        ? retry.maxBackoff(pollInterval.compareTo(backoff) > 0 ? pollInterval : backoff)
+        : retry;
+  }
+
+  private Mono<Long> highestFinalNonce(String shardId) {
+    return client
+        .get(ApiResourceURI.SHARD_STATUS.expand(shardId),
+            WrappedResponses.GetShardStatusResponse.class)
+        .map(response -> response.getShardStatus().getHighestFinalNonce());
+  }
+
 }
@@ -0,0 +1,210 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.block;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.Hyperblock;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.BlockConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.BackfillCheckpointException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Engine used to fetch a historical range of Hyperblocks.
+ * <p>
+ * The range is split into segments fetched in parallel by a number of workers, while the blocks are
+ * emitted strictly in nonce order. Failed queries are retried with backoff. When a checkpoint file is
+ * set, the last nonce delivered to the subscriber is saved after every segment and a new run resumes
+ * after it. Blocks are delivered on the bounded elastic scheduler, so the checkpoint files are never written
+ * on a network thread.
+ * <p>
+ * Each worker fetches at most {@link BlockConstants#BACKFILL_PREFETCH} blocks ahead of the subscriber, and as many
+ * more wait to be delivered, so at most (workers + 1) * BACKFILL_PREFETCH hyperblocks are held in memory, whatever
+ * the segment size.
+ */
+@Slf4j
+public class MxHyperblockBackfill {
+
+  private final MxBlockInteractor blockInteractor;
+  private final long fromNonce;
+  private final long toNonce;
+  private final int segmentSize;
+  private final int workers;
+  private final int maxRetries;
+  private final Duration retryBackoff;
+  private final Path checkpointFile;
+
+  private final LongAdder processedBlocks = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+  private final AtomicLong checkpointNonce = new AtomicLong(-1);
+  private volatile long startedAtNanos;
+
+  @Builder
+  private MxHyperblockBackfill(@NonNull MxBlockInteractor blockInteractor, long fromNonce, long toNonce,
+      Integer segmentSize, Integer workers, Integer maxRetries, Duration retryBackoff, Path checkpointFile) {
+    this.blockInteractor = blockInteractor;
+    this.fromNonce = fromNonce;
+    this.toNonce = toNonce;
+    this.segmentSize = segmentSize == null ? BlockConstants.BACKFILL_SEGMENT_SIZE : segmentSize;
+    this.workers = workers == null ? BlockConstants.BACKFILL_WORKERS : workers;
+    this.maxRetries = maxRetries == null ? BlockConstants.BACKFILL_MAX_RETRIES : maxRetries;
+    this.retryBackoff = retryBackoff == null
+        ? Duration.ofMillis(BlockConstants.QUERY_RETRY_BACKOFF_MILLIS)
+        : retryBackoff;
+    this.checkpointFile = checkpointFile;
+
+    if (fromNonce < 0 || toNonce < fromNonce) {
+      throw new IllegalArgumentException(
+          ErrorMessage.INVALID_BACKFILL_OPTIONS.getValue().formatted("Invalid range " + fromNonce + " - " + toNonce));
+    }
+
+    if (this.segmentSize <= 0 || this.workers <= 0 || this.maxRetries < 0) {
+      throw new IllegalArgumentException(ErrorMessage.INVALID_BACKFILL_OPTIONS.getValue()
+          .formatted("Segment size and workers must be positive, retries must not be negative"));
+    }
+  }
+
+  /**
+   * Method used to start the backfill. Each subscription starts a new run, resuming from the checkpoint if set
+   *
+   * @return - Flux of Hyperblocks in nonce order
+   */
+  public Flux<Hyperblock> run() {
+    return Flux.defer(() -> {
+      var start = Math.max(fromNonce, readCheckpoint().map(nonce -> nonce + 1).orElse(fromNonce));
+      processedBlocks.reset();
+      retries.reset();
+      startedAtNanos = System.nanoTime();
+
+      if (start > toNonce) {
+        log.info("[Backfill] range {} - {} already completed", fromNonce, toNonce);
+        return Flux.empty();
+      }
+
+      log.info("[Backfill] fetching hyperblocks {} - {} with {} workers", start, toNonce, workers);
+      return Flux.<Long, Long>generate(() -> start, (segmentStart, sink) -> {
+            sink.next(segmentStart);
+            var next = segmentStart + segmentSize;
+            if (next > toNonce || next < segmentStart) {
+              sink.complete();
+            }
+            return next;
+          })
+          .flatMapSequential(this::fetchSegment, workers, BlockConstants.BACKFILL_PREFETCH)
+          .publishOn(Schedulers.boundedElastic(), BlockConstants.BACKFILL_PREFETCH)
+          .doOnNext(this::onBlock)
+          .doOnComplete(() -> writeCheckpoint(toNonce));
+    });
+  }
+
+  /**
+   * Method used to get the number of blocks emitted by the current run
+   *
+   * @return - number of blocks
+   */
+  public long getProcessedBlocks() {
+    return processedBlocks.sum();
+  }
+
+  /**
+   * Method used to get the number of retried block queries
+   *
+   * @return - number of retries
+   */
+  public long getRetries() {
+    return retries.sum();
+  }
+
+  /**
+   * Method used to get the last saved checkpoint
+   *
+   * @return - last nonce delivered to the subscriber, or -1 if none was saved yet
+   */
+  public long getCheckpointNonce() {
+    return checkpointNonce.get();
+  }
+
+  /**
+   * Method used to get the throughput of the current run
+   *
+   * @return - blocks emitted per second
+   */
+  public double getBlocksPerSecond() {
+    var elapsedNanos = System.nanoTime() - startedAtNanos;
+    return startedAtNanos == 0 || elapsedNanos <= 0 ? 0 : getProcessedBlocks() * 1e9 / elapsedNanos;
+  }
+
+  private Flux<Hyperblock> fetchSegment(long segmentStart) {
+    var segmentEnd = Math.min(toNonce, segmentStart + segmentSize - 1);
+    return Flux.<Long, Long>generate(() -> segmentStart, (nonce, sink) -> {
+          sink.next(nonce);
+          if (nonce == segmentEnd) {
+            sink.complete();
+          }
+          return nonce + 1;
+        })
+        .concatMap(this::fetchBlock);
+  }
+
+  private Mono<Hyperblock> fetchBlock(long nonce) {
+    return Mono.defer(() -> blockInteractor.queryHyperblockByNonce(nonce))
+        .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+            .doBeforeRetry(signal -> {
+              retries.increment();
+              log.debug("[Backfill] retrying hyperblock {}: {}", nonce, signal.failure().getMessage());
+            })
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+  }
+
+  private void onBlock(Hyperblock block) {
+    processedBlocks.increment();
+
+    var nonce = block.getNonce();
+    if (nonce > fromNonce && (nonce - fromNonce) % segmentSize == 0) {
+      writeCheckpoint(nonce - 1);
+    }
+  }
+
+  private Optional<Long> readCheckpoint() {
+    if (checkpointFile == null || !Files.exists(checkpointFile)) {
+      return Optional.empty();
+    }
+
+    try {
+      var nonce = Long.parseLong(Files.readString(checkpointFile, StandardCharsets.UTF_8).strip());
+      checkpointNonce.set(nonce);
+      return Optional.of(nonce);
+    } catch (IOException | NumberFormatException e) {
+      throw new BackfillCheckpointException(checkpointFile, e);
+    }
+  }
+
+  private void writeCheckpoint(long nonce) {
+    checkpointNonce.set(nonce);
+
+    if (checkpointFile == null) {
+      return;
+    }
+
+    try {
+      var tmp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+      Files.writeString(tmp, Long.toString(nonce), StandardCharsets.UTF_8);
+      Files.move(tmp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new BackfillCheckpointException(checkpointFile, e);
+    }
+  }
+
+}
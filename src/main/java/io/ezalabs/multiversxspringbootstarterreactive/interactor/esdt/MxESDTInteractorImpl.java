@@ -1,7 +1,5 @@
 package io.ezalabs.multiversxspringbootstarterreactive.interactor.esdt;
 
-import static java.lang.String.format;
-
 import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountESDTRoles;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.ContractQueryResult;
@@ -46,7 +44,7 @@ public class MxESDTInteractorImpl implements MxESDTInteractor {
   @Override
   public Mono<Set<ESDTToken>> getTokensForAccount(Address address) {
     return client
-        .get(format(ApiResourceURI.ESDT_TOKENS_FOR_ADDRESS.getURI(), address.getBech32()),
+        .get(ApiResourceURI.ESDT_TOKENS_FOR_ADDRESS.expand(address.getBech32()),
             WrappedResponses.AccountESDTsResponse.class)
         .map(WrappedResponses.AccountESDTsResponse::getResult)
         .map(Map::values)
@@ -56,7 +54,7 @@ public class MxESDTInteractorImpl implements MxESDTInteractor {
   @Override
   public Mono<AccountESDTRoles> getTokenRolesForAccount(Address address) {
     return client
-        .get(format(ApiResourceURI.ESDT_ROLES_FOR_ADDRESS.getURI(), address.getBech32()),
+        .get(ApiResourceURI.ESDT_ROLES_FOR_ADDRESS.expand(address.getBech32()),
             AccountESDTRoles.class);
   }
 
@@ -97,8 +95,7 @@ public class MxESDTInteractorImpl implements MxESDTInteractor {
   @Override
   public Mono<NFTData> getNftDataForAccount(Address address, TokenIdentifier identifier, Nonce nonce) {
     return client
-        .get(format(ApiResourceURI.NFT_DATA_FOR_ADDRESS.getURI(),
-                address.getBech32(), identifier.getValue(), nonce.getValue()),
+        .get(ApiResourceURI.NFT_DATA_FOR_ADDRESS.expand(address.getBech32(), identifier.getValue(), nonce.getValue()),
             WrappedResponses.NFTDataResponse.class)
         .map(WrappedResponses.NFTDataResponse::getResult);
   }
@@ -106,16 +103,14 @@ public class MxESDTInteractorImpl implements MxESDTInteractor {
   @Override
   public Mono<TokenList> getNftSftForAccount(Address address) {
     return client
-        .get(format(ApiResourceURI.NFT_SFT_REGISTERED_FOR_ADDRESS.getURI(),
-                address.getBech32()),
+        .get(ApiResourceURI.NFT_SFT_REGISTERED_FOR_ADDRESS.expand(address.getBech32()),
             TokenList.class);
   }
 
   @Override
   public Mono<TokenList> getTokensWithRole(Address address, ESDTSpecialRole role) {
     return client
-        .get(format(ApiResourceURI.ESDT_TOKENS_WITH_ROLE.getURI(),
-                address.getBech32(), role.getValue()),
+        .get(ApiResourceURI.ESDT_TOKENS_WITH_ROLE.expand(address.getBech32(), role.getValue()),
             TokenList.class);
   }
 
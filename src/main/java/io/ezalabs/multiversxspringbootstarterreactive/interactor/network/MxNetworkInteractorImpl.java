@@ -1,7 +1,5 @@
 package io.ezalabs.multiversxspringbootstarterreactive.interactor.network;
 
-import static java.lang.String.format;
-
 import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.NetworkConfig;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.NodeHeartbeatStatus;
@@ -30,7 +28,7 @@ public class MxNetworkInteractorImpl implements MxNetworkInteractor {
   @Override
   public Mono<ShardStatus> getShardStatus(String shardId) {
     return client
-        .get(format(ApiResourceURI.SHARD_STATUS.getURI(), shardId),
+        .get(ApiResourceURI.SHARD_STATUS.expand(shardId),
             WrappedResponses.GetShardStatusResponse.class)
         .map(WrappedResponses.GetShardStatusResponse::getShardStatus);
   }
@@ -0,0 +1,155 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.smartcontract;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.BlockConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.smartcontract.ContractQuery;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
+import io.ezalabs.multiversxspringbootstarterreactive.util.LruCache;
+import io.ezalabs.multiversxspringbootstarterreactive.util.SingleFlight;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache of smart contract query results.
+ * <p>
+ * A result is reused until the time to live expires or the chain advances past the nonce observed when
+ * it was fetched. The nonce is the current metachain nonce, refreshed in the background at most once per
+ * refresh interval while queries are made. Concurrent identical queries share a single request.
+ */
+@Slf4j
+public class ContractQueryCache {
+
+  private final MxProxyClient client;
+  private final LruCache<Key, Entry> cache;
+  private final SingleFlight<Key, Object> singleFlight = new SingleFlight<>();
+  private final long ttlNanos;
+  private final long nonceRefreshNanos;
+  private final LongSupplier clock;
+
+  private final AtomicLong observedNonce = new AtomicLong(-1);
+  private final AtomicLong nonceCheckedAt;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Constructor for creating a query cache
+   *
+   * @param client       - client used to observe the chain nonce
+   * @param maxSize      - maximum number of cached results
+   * @param ttl          - time to live of a result
+   * @param nonceRefresh - minimum interval between two checks of the chain nonce
+   */
+  public ContractQueryCache(MxProxyClient client, int maxSize, Duration ttl, Duration nonceRefresh) {
+    this(client, maxSize, ttl, nonceRefresh, System::nanoTime);
+  }
+
+  ContractQueryCache(MxProxyClient client, int maxSize, Duration ttl, Duration nonceRefresh, LongSupplier clock) {
+    this.client = client;
+    this.cache = new LruCache<>(maxSize, clock);
+    this.ttlNanos = ttl.toNanos();
+    this.nonceRefreshNanos = nonceRefresh.toNanos();
+    this.clock = clock;
+    this.nonceCheckedAt = new AtomicLong(clock.getAsLong() - nonceRefreshNanos);
+  }
+
+  /**
+   * Method used to get a cached query result, or execute the query and cache its result
+   *
+   * @param resource     - query resource, as the same query has different results on each resource
+   * @param query        - smart contract query
+   * @param responseType - result type
+   * @param request      - supplier of the query request
+   * @param <T>          - result object
+   * @return - cached or fetched result
+   */
+  public <T> Mono<T> get(ApiResourceURI resource, ContractQuery query, Class<T> responseType,
+      Supplier<Mono<T>> request) {
+    return Mono.defer(() -> {
+      refreshNonceIfDue();
+
+      var key = new Key(resource, query);
+      var nonce = observedNonce.get();
+      var entry = cache.get(key);
+      if (entry != null && entry.getNonce() >= nonce) {
+        hits.increment();
+        return Mono.just(responseType.cast(entry.getValue()));
+      }
+
+      misses.increment();
+      return singleFlight
+          .execute(key, () -> request.get()
+              .cast(Object.class)
+              .doOnNext(result -> cache.put(key, new Entry(nonce, result), ttlNanos)))
+          .cast(responseType);
+    });
+  }
+
+  /**
+   * Method used to remove all cached results
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public long getObservedNonce() {
+    return observedNonce.get();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getCoalesced() {
+    return singleFlight.getShared();
+  }
+
+  public int getSize() {
+    return cache.size();
+  }
+
+  void onNonce(long nonce) {
+    observedNonce.accumulateAndGet(nonce, Math::max);
+  }
+
+  private void refreshNonceIfDue() {
+    var now = clock.getAsLong();
+    var checkedAt = nonceCheckedAt.get();
+    if (now - checkedAt < nonceRefreshNanos || !nonceCheckedAt.compareAndSet(checkedAt, now)) {
+      return;
+    }
+
+    client
+        .get(ApiResourceURI.SHARD_STATUS.expand(BlockConstants.METACHAIN_SHARD_ID),
+            WrappedResponses.GetShardStatusResponse.class)
+        .subscribe(response -> onNonce(response.getShardStatus().getNonce()),
+            e -> log.debug("[ContractQueryCache] could not refresh the chain nonce: {}", e.getMessage()));
+  }
+
+  @Value
+  private static class Key {
+
+    ApiResourceURI resource;
+    ContractQuery query;
+
+  }
+
+  @Value
+  private static class Entry {
+
+    long nonce;
+    Object value;
+
+  }
+
+}
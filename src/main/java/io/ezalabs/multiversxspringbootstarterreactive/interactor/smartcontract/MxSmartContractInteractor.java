@@ -5,6 +5,10 @@ import io.ezalabs.multiversxspringbootstarterreactive.api.model.ContractQueryRes
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.ContractQueryResultInt;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.ContractQueryResultString;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionHash;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.SmartContractConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
+import java.util.List;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.smartcontract.ContractFunction;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.smartcontract.ContractQuery;
@@ -58,4 +62,36 @@ public interface MxSmartContractInteractor {
    */
   Mono<ContractQueryResultInt> queryInt(ContractQuery query);
 
+  /**
+   * Method used to run many smart contract queries with the default concurrency
+   *
+   * @param queries - smart contract query function objects
+   * @return - ScQueryResult API responses, in the order of the queries
+   */
+  default Flux<ContractQueryResult> queryAll(List<ContractQuery> queries) {
+    return queryAll(queries, SmartContractConstants.QUERY_ALL_CONCURRENCY);
+  }
+
+  /**
+   * Method used to run many smart contract queries. A query which cannot be executed does not fail the others,
+   * its result having the "request failed" return code and the error as return message
+   *
+   * @param queries     - smart contract query function objects
+   * @param concurrency - maximum number of queries in flight
+   * @return - ScQueryResult API responses, in the order of the queries
+   */
+  default Flux<ContractQueryResult> queryAll(List<ContractQuery> queries, int concurrency) {
+    return Flux.fromIterable(queries)
+        .flatMapSequential(query -> query(query)
+            .defaultIfEmpty(failedResult(ErrorMessage.RESPONSE_NOT_SUCCESSFUL.getValue()))
+            .onErrorResume(e -> Mono.just(failedResult(e.getMessage()))), concurrency);
+  }
+
+  private static ContractQueryResult failedResult(String message) {
+    return ContractQueryResult.builder()
+        .code(SmartContractConstants.QUERY_FAILED_RETURN_CODE)
+        .message(message)
+        .build();
+  }
+
 }
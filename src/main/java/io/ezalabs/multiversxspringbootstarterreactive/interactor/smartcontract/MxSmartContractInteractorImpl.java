@@ -7,6 +7,7 @@ import io.ezalabs.multiversxspringbootstarterreactive.api.model.ContractQueryRes
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.ContractQueryResultString;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionHash;
 import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import java.util.function.Supplier;
 import lombok.AllArgsConstructor;
 import reactor.core.publisher.Mono;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.smartcontract.ContractFunction;
@@ -21,6 +22,11 @@ public class MxSmartContractInteractorImpl implements MxSmartContractInteractor
 
   private final MxProxyClient client;
   private final MxTransactionInteractor tInteractor;
+  private final ContractQueryCache queryCache;
+
+  public MxSmartContractInteractorImpl(MxProxyClient client, MxTransactionInteractor tInteractor) {
+    this(client, tInteractor, null);
+  }
 
   @Override
   public Mono<TransactionHash> callFunction(Wallet wallet, ContractFunction function) {
@@ -36,34 +42,41 @@ public class MxSmartContractInteractorImpl implements MxSmartContractInteractor
 
   @Override
   public Mono<ContractQueryResult> query(ContractQuery query) {
-    return client
+    return cached(ApiResourceURI.QUERY_SMART_CONTRACT, query, ContractQueryResult.class, () -> client
         .post(ApiResourceURI.QUERY_SMART_CONTRACT.getURI(),
             query.toSendable(),
             WrappedResponses.ScQueryResponse.class)
-        .map(WrappedResponses.ScQueryResponse::getResult);
+        .map(WrappedResponses.ScQueryResponse::getResult));
   }
 
   @Override
   public Mono<ContractQueryResultHex> queryHex(ContractQuery query) {
-    return client
+    return cached(ApiResourceURI.QUERY_SMART_CONTRACT_HEX, query, ContractQueryResultHex.class, () -> client
         .post(ApiResourceURI.QUERY_SMART_CONTRACT_HEX.getURI(),
             query.toSendable(),
-            ContractQueryResultHex.class);
+            ContractQueryResultHex.class));
   }
 
   @Override
   public Mono<ContractQueryResultString> queryString(ContractQuery query) {
-    return client
+    return cached(ApiResourceURI.QUERY_SMART_CONTRACT_STRING, query, ContractQueryResultString.class, () -> client
         .post(ApiResourceURI.QUERY_SMART_CONTRACT_STRING.getURI(),
             query.toSendable(),
-            ContractQueryResultString.class);
+            ContractQueryResultString.class));
   }
 
   @Override
   public Mono<ContractQueryResultInt> queryInt(ContractQuery query) {
-    return client
+    return cached(ApiResourceURI.QUERY_SMART_CONTRACT_INT, query, ContractQueryResultInt.class, () -> client
         .post(ApiResourceURI.QUERY_SMART_CONTRACT_INT.getURI(),
             query.toSendable(),
-            ContractQueryResultInt.class);
+            ContractQueryResultInt.class));
+  }
+
+  private <T> Mono<T> cached(ApiResourceURI resource, ContractQuery query, Class<T> responseType,
+      Supplier<Mono<T>> request) {
+    return queryCache == null
+        ? request.get()
+        : queryCache.get(resource, query, responseType, request);
   }
 }
@@ -0,0 +1,263 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.Hyperblock;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionOnNetwork;
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.BlockConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.TransactionStatus;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.InvalidTransactionStatusException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.TransactionTrackingTimeoutException;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.block.MxBlockInteractor;
+import io.ezalabs.multiversxspringbootstarterreactive.util.LruCache;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+/**
+ * Transaction tracker following the hyperblocks instead of polling each transaction.
+ * <p>
+ * Once a transaction is awaited, the hyperblocks are streamed starting a few blocks behind the chain tip.
+ * The final transactions of every hyperblock are remembered in a bounded map, and the subscribers waiting
+ * for them complete with the transaction fetched with results. A transaction not seen within the timeout fails its
+ * subscribers with a {@link TransactionTrackingTimeoutException}; timeouts are checked every tick while the stream
+ * runs, so they fire even while the hyperblock stream keeps failing. The stream is stopped once no transaction is
+ * awaited, and restarted from the last processed block, or from a few blocks behind the tip if further behind.
+ */
+@Slf4j
+public class MxHyperblockTransactionTracker implements MxTransactionTracker {
+
+  private static final long ETERNAL = Long.MAX_VALUE;
+
+  private final MxProxyClient client;
+  private final MxBlockInteractor blockInteractor;
+  private final Duration retryBackoff;
+  private final Duration timeout;
+
+  private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+  private final LruCache<String, TransactionOnNetwork> recent;
+  private final AtomicLong nextNonce = new AtomicLong(-1);
+  private final AtomicReference<Disposable> stream = new AtomicReference<>();
+
+  public MxHyperblockTransactionTracker(MxProxyClient client, MxBlockInteractor blockInteractor) {
+    this(client, blockInteractor, TransactionConstants.TRACKER_RECENT_TRANSACTIONS,
+        Duration.ofMillis(BlockConstants.QUERY_RETRY_BACKOFF_MILLIS));
+  }
+
+  /**
+   * Constructor for creating a hyperblock tracker
+   *
+   * @param client             - client used to fetch the tip and the final transactions
+   * @param blockInteractor    - interactor streaming the hyperblocks
+   * @param recentTransactions - number of final transactions remembered from the streamed hyperblocks
+   * @param retryBackoff       - initial backoff before the stream is restarted after an error
+   */
+  public MxHyperblockTransactionTracker(MxProxyClient client, MxBlockInteractor blockInteractor,
+      int recentTransactions, Duration retryBackoff) {
+    this(client, blockInteractor, recentTransactions, retryBackoff,
+        Duration.ofMillis(TransactionConstants.TRACKER_TIMEOUT_MILLIS));
+  }
+
+  /**
+   * Constructor for creating a hyperblock tracker with a custom timeout
+   *
+   * @param client             - client used to fetch the tip and the final transactions
+   * @param blockInteractor    - interactor streaming the hyperblocks
+   * @param recentTransactions - number of final transactions remembered from the streamed hyperblocks
+   * @param retryBackoff       - initial backoff before the stream is restarted after an error
+   * @param timeout            - maximum time a transaction is awaited
+   */
+  public MxHyperblockTransactionTracker(MxProxyClient client, MxBlockInteractor blockInteractor,
+      int recentTransactions, Duration retryBackoff, Duration timeout) {
+    this.client = client;
+    this.blockInteractor = blockInteractor;
+    this.recent = new LruCache<>(recentTransactions);
+    this.retryBackoff = retryBackoff;
+    this.timeout = timeout;
+  }
+
+  @Override
+  public Mono<TransactionOnNetwork> awaitCompletion(String transactionHash) {
+    return Mono.defer(() -> {
+      var entry = pending.compute(transactionHash, (hash, existing) -> {
+        var p = existing == null ? new Pending(hash, System.nanoTime() + timeout.toNanos()) : existing;
+        p.subscribers++;
+        return p;
+      });
+      ensureStarted();
+
+      var seen = recent.get(transactionHash);
+      if (seen != null && pending.remove(transactionHash, entry)) {
+        complete(entry, seen);
+        stopIfIdle();
+      }
+
+      return entry.sink.asMono()
+          .doFinally(signal -> release(entry));
+    });
+  }
+
+  /**
+   * Method used to stop following the hyperblocks. Called by the container when the bean is destroyed
+   */
+  public void close() {
+    var disposable = stream.getAndSet(null);
+    if (disposable != null) {
+      disposable.dispose();
+    }
+  }
+
+  /**
+   * Method used to get the number of transactions currently awaited
+   *
+   * @return - number of pending transactions
+   */
+  public int getPending() {
+    return pending.size();
+  }
+
+  /**
+   * Method used to check if the hyperblocks are followed
+   *
+   * @return - true while transactions are awaited
+   */
+  public boolean isStreaming() {
+    return stream.get() != null;
+  }
+
+  /**
+   * Method used to get the nonce of the next hyperblock to process
+   *
+   * @return - hyperblock nonce, or -1 if the stream did not start yet
+   */
+  public long getNextNonce() {
+    return nextNonce.get();
+  }
+
+  void onHyperblock(Hyperblock hyperblock) {
+    nextNonce.set(hyperblock.getNonce() + 1);
+
+    if (hyperblock.getTransactions() != null) {
+      for (var transaction : hyperblock.getTransactions()) {
+        if (transaction.getHash() == null || !isFinal(transaction)) {
+          continue;
+        }
+
+        recent.put(transaction.getHash(), transaction, ETERNAL);
+
+        var entry = pending.remove(transaction.getHash());
+        if (entry != null) {
+          complete(entry, transaction);
+        }
+      }
+    }
+
+    expire(System.nanoTime());
+    stopIfIdle();
+  }
+
+  private void expire(long now) {
+    for (var entry : pending.values()) {
+      if (entry.expiresAt - now <= 0 && pending.remove(entry.hash, entry)) {
+        entry.sink.tryEmitError(new TransactionTrackingTimeoutException(entry.hash, timeout));
+      }
+    }
+  }
+
+  private void stopIfIdle() {
+    var disposable = stream.get();
+    if (!pending.isEmpty() || disposable == null || !stream.compareAndSet(disposable, null)) {
+      return;
+    }
+
+    disposable.dispose();
+    if (!pending.isEmpty()) {
+      ensureStarted();
+    }
+  }
+
+  private void complete(Pending entry, TransactionOnNetwork fromHyperblock) {
+    client
+        .get(ApiResourceURI.TRANSACTION_ON_NETWORK.expand(entry.hash, true),
+            WrappedResponses.QueryTransactionResponse.class)
+        .map(WrappedResponses.QueryTransactionResponse::getTransaction)
+        .onErrorResume(e -> {
+          log.debug("[TransactionTracker] could not fetch results of {}: {}", entry.hash, e.getMessage());
+          return Mono.just(fromHyperblock);
+        })
+        .subscribe(entry.sink::tryEmitValue);
+  }
+
+  private void ensureStarted() {
+    if (stream.get() != null) {
+      return;
+    }
+
+    var blocks = Flux.defer(() -> startNonce()
+            .flatMapMany(from -> blockInteractor.streamHyperblocks(from, null)))
+        .doOnNext(this::onHyperblock)
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, retryBackoff)
+            .maxBackoff(Duration.ofMillis(TransactionConstants.DEFAULT_ROUND_DURATION_MILLIS))
+            .doBeforeRetry(signal ->
+                log.warn("[TransactionTracker] hyperblock stream failed: {}", signal.failure().getMessage())));
+    var expiry = Flux.interval(Duration.ofMillis(TransactionConstants.TRACKER_TICK_MILLIS))
+        .onBackpressureDrop()
+        .doOnNext(tick -> {
+          expire(System.nanoTime());
+          stopIfIdle();
+        });
+
+    var disposable = Mono.when(blocks, expiry).subscribe();
+
+    if (!stream.compareAndSet(null, disposable)) {
+      disposable.dispose();
+    }
+  }
+
+  private Mono<Long> startNonce() {
+    return client
+        .get(ApiResourceURI.SHARD_STATUS.expand(BlockConstants.METACHAIN_SHARD_ID),
+            WrappedResponses.GetShardStatusResponse.class)
+        .map(response -> Math.max(Math.max(0, nextNonce.get()),
+            response.getShardStatus().getHighestFinalNonce() - TransactionConstants.TRACKER_HYPERBLOCK_LOOKBACK));
+  }
+
+  private void release(Pending entry) {
+    pending.computeIfPresent(entry.hash,
+        (hash, existing) -> existing == entry && --existing.subscribers == 0 ? null : existing);
+    stopIfIdle();
+  }
+
+  private static boolean isFinal(TransactionOnNetwork transaction) {
+    try {
+      return transaction.getStatus() != null && TransactionStatus.fromString(transaction.getStatus()).isFinal();
+    } catch (InvalidTransactionStatusException e) {
+      return false;
+    }
+  }
+
+  private static final class Pending {
+
+    private final String hash;
+    private final Sinks.One<TransactionOnNetwork> sink = Sinks.one();
+    private final long expiresAt;
+    private int subscribers;
+
+    private Pending(String hash, long expiresAt) {
+      this.hash = hash;
+      this.expiresAt = expiresAt;
+    }
+
+  }
+
+}
@@ -0,0 +1,125 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.account.MxAccountInteractor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Component used for assigning nonces to transactions sent from the same address
+ * <p>
+ * The nonce of an address is fetched from the network only once and afterwards handed out locally in increasing order,
+ * so concurrent sends from the same Wallet get distinct nonces. After the gateway rejects a send because of its nonce
+ * the address is resynced, meaning the next acquisition fetches the nonce from the network again. Other failures keep
+ * the reserved nonces, as the gateway may have accepted the transactions
+ */
+@Slf4j
+public class MxNonceManager {
+
+  private final MxAccountInteractor accountInteractor;
+  private final Map<String, Mono<AtomicLong>> nonces = new ConcurrentHashMap<>();
+
+  private final LongAdder nonceFetches = new LongAdder();
+  private final LongAdder assignedNonces = new LongAdder();
+  private final LongAdder resyncs = new LongAdder();
+
+  /**
+   * Main constructor
+   *
+   * @param accountInteractor - component used to fetch the nonce of an address from the network
+   */
+  public MxNonceManager(MxAccountInteractor accountInteractor) {
+    this.accountInteractor = accountInteractor;
+  }
+
+  /**
+   * Method used to acquire the next nonce of an address
+   *
+   * @param address - sender Address
+   * @return - nonce value
+   */
+  public Mono<Long> acquire(Address address) {
+    return acquire(address, 1);
+  }
+
+  /**
+   * Method used to reserve a block of consecutive nonces of an address
+   *
+   * @param address - sender Address
+   * @param count   - number of nonces to reserve
+   * @return - first nonce value of the reserved block
+   */
+  public Mono<Long> acquire(Address address, int count) {
+    return Mono.defer(() -> {
+          var key = address.getHex();
+          var counter = nonces.computeIfAbsent(key, k -> fetch(address));
+
+          return counter.doOnError(e -> nonces.remove(key, counter));
+        })
+        .map(counter -> {
+          assignedNonces.add(count);
+          return counter.getAndAdd(count);
+        });
+  }
+
+  /**
+   * Method used to discard the locally tracked nonce of an address, so it's fetched again from the network on the next
+   * acquisition. Used after sends rejected because of their nonce
+   *
+   * @param address - sender Address
+   */
+  public void resync(Address address) {
+    if (nonces.remove(address.getHex()) != null) {
+      resyncs.increment();
+      log.debug("[NonceManager] resyncing nonce for {}", address.getHex());
+    }
+  }
+
+  /**
+   * Getter
+   *
+   * @return - number of nonce fetches executed against the network
+   */
+  public long getNonceFetches() {
+    return nonceFetches.sum();
+  }
+
+  /**
+   * Getter
+   *
+   * @return - number of nonces handed out locally
+   */
+  public long getAssignedNonces() {
+    return assignedNonces.sum();
+  }
+
+  /**
+   * Getter
+   *
+   * @return - number of resyncs triggered by errors
+   */
+  public long getResyncs() {
+    return resyncs.sum();
+  }
+
+  /**
+   * Getter
+   *
+   * @return - number of addresses with a locally tracked nonce
+   */
+  public int getTrackedAddresses() {
+    return nonces.size();
+  }
+
+  private Mono<AtomicLong> fetch(Address address) {
+    return accountInteractor.getNonce(address)
+        .doOnSubscribe(s -> nonceFetches.increment())
+        .map(nonce -> new AtomicLong(nonce.getNonce()))
+        .cache();
+  }
+
+}
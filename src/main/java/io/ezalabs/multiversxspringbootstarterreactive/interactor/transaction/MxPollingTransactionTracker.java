@@ -0,0 +1,268 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.NetworkConfig;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionOnNetwork;
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.config.MxNetworkConfigSupplier;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.TransactionStatus;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.TransactionTrackingTimeoutException;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Transaction tracker polling the status of all pending transactions from a single scheduler.
+ * <p>
+ * Every tick at most a bounded number of due transactions are polled. A transaction is first polled
+ * one round after it is awaited, then with a backoff doubling in rounds up to a maximum. Once the
+ * status is final, the transaction is fetched with results and its subscribers complete. A transaction
+ * which does not reach a final status within the timeout fails its subscribers with a
+ * {@link TransactionTrackingTimeoutException}. Polling stops while no transaction is awaited.
+ */
+@Slf4j
+public class MxPollingTransactionTracker implements MxTransactionTracker {
+
+  private final MxProxyClient client;
+  private final Supplier<Duration> roundDuration;
+  private final Duration tick;
+  private final int maxPollsPerTick;
+  private final Duration timeout;
+  private final Scheduler scheduler;
+
+  private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+  private final AtomicReference<Disposable> ticker = new AtomicReference<>();
+  private final LongAdder polls = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+
+  public MxPollingTransactionTracker(MxProxyClient client) {
+    this(client, MxPollingTransactionTracker::networkRoundDuration,
+        Duration.ofMillis(TransactionConstants.TRACKER_TICK_MILLIS),
+        TransactionConstants.TRACKER_MAX_POLLS_PER_TICK,
+        Schedulers.parallel());
+  }
+
+  public MxPollingTransactionTracker(MxProxyClient client, Duration timeout) {
+    this(client, MxPollingTransactionTracker::networkRoundDuration,
+        Duration.ofMillis(TransactionConstants.TRACKER_TICK_MILLIS),
+        TransactionConstants.TRACKER_MAX_POLLS_PER_TICK,
+        timeout,
+        Schedulers.parallel());
+  }
+
+  /**
+   * Constructor for creating a polling tracker
+   *
+   * @param client          - client used to poll the gateway
+   * @param roundDuration   - supplier of the network round duration, base unit of the backoff
+   * @param tick            - interval between polling ticks
+   * @param maxPollsPerTick - maximum number of status requests per tick
+   * @param scheduler       - scheduler of the polling ticks
+   */
+  public MxPollingTransactionTracker(MxProxyClient client, Supplier<Duration> roundDuration, Duration tick,
+      int maxPollsPerTick, Scheduler scheduler) {
+    this(client, roundDuration, tick, maxPollsPerTick, Duration.ofMillis(TransactionConstants.TRACKER_TIMEOUT_MILLIS),
+        scheduler);
+  }
+
+  /**
+   * Constructor for creating a polling tracker with a custom timeout
+   *
+   * @param client          - client used to poll the gateway
+   * @param roundDuration   - supplier of the network round duration, base unit of the backoff
+   * @param tick            - interval between polling ticks
+   * @param maxPollsPerTick - maximum number of status requests per tick
+   * @param timeout         - maximum time a transaction is awaited
+   * @param scheduler       - scheduler of the polling ticks
+   */
+  public MxPollingTransactionTracker(MxProxyClient client, Supplier<Duration> roundDuration, Duration tick,
+      int maxPollsPerTick, Duration timeout, Scheduler scheduler) {
+    this.client = client;
+    this.roundDuration = roundDuration;
+    this.tick = tick;
+    this.maxPollsPerTick = maxPollsPerTick;
+    this.timeout = timeout;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public Mono<TransactionOnNetwork> awaitCompletion(String transactionHash) {
+    return Mono.defer(() -> {
+      var entry = pending.compute(transactionHash, (hash, existing) -> {
+        var now = now();
+        var p = existing == null
+            ? new Pending(hash, now + roundDuration.get().toNanos(), now + timeout.toNanos())
+            : existing;
+        p.subscribers++;
+        return p;
+      });
+      ensureStarted();
+
+      return entry.sink.asMono()
+          .doFinally(signal -> release(entry));
+    });
+  }
+
+  /**
+   * Method used to stop polling. Called by the container when the bean is destroyed
+   */
+  public void close() {
+    var disposable = ticker.getAndSet(null);
+    if (disposable != null) {
+      disposable.dispose();
+    }
+  }
+
+  /**
+   * Method used to get the number of transactions currently awaited
+   *
+   * @return - number of pending transactions
+   */
+  public int getPending() {
+    return pending.size();
+  }
+
+  /**
+   * Method used to get the number of status requests sent
+   *
+   * @return - number of polls
+   */
+  public long getPolls() {
+    return polls.sum();
+  }
+
+  /**
+   * Method used to get the number of transactions which reached a final status
+   *
+   * @return - number of completed transactions
+   */
+  public long getCompleted() {
+    return completed.sum();
+  }
+
+  boolean isPolling() {
+    return ticker.get() != null;
+  }
+
+  Mono<Void> poll() {
+    var now = now();
+    expire(now);
+    return Flux.fromIterable(pending.values())
+        .filter(p -> p.nextPollAt - now <= 0)
+        .take(maxPollsPerTick)
+        .flatMap(this::poll, TransactionConstants.TRACKER_POLL_CONCURRENCY)
+        .then();
+  }
+
+  private Mono<Void> poll(Pending p) {
+    polls.increment();
+    return client
+        .get(ApiResourceURI.TRANSACTION_STATUS.expand(p.hash),
+            io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionStatus.class)
+        .map(response -> TransactionStatus.fromString(response.getStatus()))
+        .flatMap(status -> status.isFinal() ? complete(p) : Mono.fromRunnable(() -> backoff(p)))
+        .onErrorResume(e -> {
+          log.debug("[TransactionTracker] polling {} failed: {}", p.hash, e.getMessage());
+          backoff(p);
+          return Mono.empty();
+        })
+        .then();
+  }
+
+  private Mono<Void> complete(Pending p) {
+    return client
+        .get(ApiResourceURI.TRANSACTION_ON_NETWORK.expand(p.hash, true),
+            WrappedResponses.QueryTransactionResponse.class)
+        .doOnNext(response -> {
+          pending.remove(p.hash, p);
+          completed.increment();
+          p.sink.tryEmitValue(response.getTransaction());
+        })
+        .then();
+  }
+
+  private void expire(long now) {
+    for (var p : pending.values()) {
+      if (p.expiresAt - now <= 0 && pending.remove(p.hash, p)) {
+        p.sink.tryEmitError(new TransactionTrackingTimeoutException(p.hash, timeout));
+      }
+    }
+  }
+
+  private void backoff(Pending p) {
+    var rounds = Math.min(1L << Math.min(p.attempts++, 30), TransactionConstants.TRACKER_MAX_BACKOFF_ROUNDS);
+    p.nextPollAt = now() + roundDuration.get().toNanos() * rounds;
+  }
+
+  private void release(Pending p) {
+    pending.computeIfPresent(p.hash, (hash, existing) -> existing == p && --existing.subscribers == 0 ? null : existing);
+  }
+
+  private void ensureStarted() {
+    if (ticker.get() == null) {
+      var disposable = Flux.interval(tick, tick, scheduler)
+          .onBackpressureDrop()
+          .concatMap(t -> poll().then(Mono.fromRunnable(this::stopIfIdle)), 1)
+          .subscribe();
+
+      if (!ticker.compareAndSet(null, disposable)) {
+        disposable.dispose();
+      }
+    }
+  }
+
+  private void stopIfIdle() {
+    var disposable = ticker.get();
+    if (!pending.isEmpty() || disposable == null || !ticker.compareAndSet(disposable, null)) {
+      return;
+    }
+
+    disposable.dispose();
+    if (!pending.isEmpty()) {
+      ensureStarted();
+    }
+  }
+
+  private long now() {
+    return scheduler.now(TimeUnit.NANOSECONDS);
+  }
+
+  private static Duration networkRoundDuration() {
+    return Optional.ofNullable(MxNetworkConfigSupplier.getConfig())
+        .map(NetworkConfig::getRoundDuration)
+        .map(Duration::ofMillis)
+        .orElse(Duration.ofMillis(TransactionConstants.DEFAULT_ROUND_DURATION_MILLIS));
+  }
+
+  private static final class Pending {
+
+    private final String hash;
+    private final Sinks.One<TransactionOnNetwork> sink = Sinks.one();
+    private final long expiresAt;
+    private volatile long nextPollAt;
+    private int attempts;
+    private int subscribers;
+
+    private Pending(String hash, long nextPollAt, long expiresAt) {
+      this.hash = hash;
+      this.nextPollAt = nextPollAt;
+      this.expiresAt = expiresAt;
+    }
+
+  }
+
+}
@@ -6,7 +6,11 @@ import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionHash;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionOnNetwork;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionStatus;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionsSentResult;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.TransactionTrackingTimeoutException;
+import java.time.Duration;
 import java.util.List;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.Transaction;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.wallet.Wallet;
@@ -45,6 +49,9 @@ public interface MxTransactionInteractor {
 
   /**
    * Method used to send a batch of transactions for execution
+   * <p>
+   * The transactions are sent in chunks, as in {@link #sendTransactionChunks(Wallet, List)}. The result fails only if
+   * no transaction was sent; the hashes are keyed by the index of each request in the list
    *
    * @param wallet  - transaction caller's Wallet instance
    * @param request -  a list of TransactionRequest
@@ -52,6 +59,24 @@ public interface MxTransactionInteractor {
    */
   Mono<TransactionsSentResult> sendMultipleTransactions(Wallet wallet, List<TransactionRequest> request);
 
+  /**
+   * Method used to send a batch of transactions for execution, reporting the outcome of each chunk
+   * <p>
+   * Once a chunk is not fully sent, the following chunks are skipped, as their nonces would wait forever behind the
+   * unused ones. Chunks already sent at that moment are not affected. The default implementation sends the whole
+   * batch as a single chunk
+   *
+   * @param wallet  - transaction caller's Wallet instance
+   * @param request -  a list of TransactionRequest
+   * @return - TransactionChunkResult of each chunk, in the order of the chunks
+   */
+  default Flux<TransactionChunkResult> sendTransactionChunks(Wallet wallet, List<TransactionRequest> request) {
+    return sendMultipleTransactions(wallet, request)
+        .map(result -> TransactionChunkResult.sent(0, request.size(), result))
+        .onErrorResume(e -> Mono.just(TransactionChunkResult.failed(0, request.size(), e)))
+        .flux();
+  }
+
   /**
    * Method used to send a transaction for simulation
    *
@@ -103,4 +128,23 @@ public interface MxTransactionInteractor {
    */
   Mono<TransactionStatus> queryTransactionStatus(String transactionHash);
 
+  /**
+   * Method used to wait for a Transaction to reach a final status (success, fail or invalid).
+   * The default implementation polls the status once per round, with no deduplication between callers
+   *
+   * @param transactionHash - value used as search id
+   * @return - TransactionOnNetwork API response, with results, once the transaction is final
+   */
+  default Mono<TransactionOnNetwork> awaitCompletion(String transactionHash) {
+    var timeout = Duration.ofMillis(TransactionConstants.TRACKER_TIMEOUT_MILLIS);
+    return Flux.interval(Duration.ofMillis(TransactionConstants.DEFAULT_ROUND_DURATION_MILLIS))
+        .onBackpressureDrop()
+        .concatMap(tick -> queryTransactionStatus(transactionHash).onErrorResume(e -> Mono.empty()), 1)
+        .filter(status -> io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.TransactionStatus
+            .fromString(status.getStatus()).isFinal())
+        .next()
+        .timeout(timeout, Mono.error(() -> new TransactionTrackingTimeoutException(transactionHash, timeout)))
+        .flatMap(status -> queryTransactionInfo(transactionHash, true));
+  }
+
 }
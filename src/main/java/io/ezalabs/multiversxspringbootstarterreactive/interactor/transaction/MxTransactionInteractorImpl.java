@@ -1,7 +1,5 @@
 package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
 
-import static java.lang.String.format;
-
 import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountNonce;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.SimulationResults;
@@ -11,13 +9,22 @@ import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionOnNet
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionStatus;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionsSentResult;
 import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.InvalidSentTransactionsException;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.MissingTransactionRequestException;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ResponseException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.TransactionChunkSkippedException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.common.Nonce;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.Transaction;
@@ -25,11 +32,35 @@ import io.ezalabs.multiversxspringbootstarterreactive.domain.wallet.Wallet;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.account.MxAccountInteractor;
 
+@Slf4j
 @AllArgsConstructor
 public class MxTransactionInteractorImpl implements MxTransactionInteractor {
 
   private final MxProxyClient client;
   private final MxAccountInteractor accountInteractor;
+  private final MxNonceManager nonceManager;
+  private final TransactionBatchOptions batchOptions;
+  private final MxTransactionTracker tracker;
+  private final TransactionCostEstimator costEstimator;
+
+  public MxTransactionInteractorImpl(MxProxyClient client, MxAccountInteractor accountInteractor) {
+    this(client, accountInteractor, new MxNonceManager(accountInteractor));
+  }
+
+  public MxTransactionInteractorImpl(MxProxyClient client, MxAccountInteractor accountInteractor,
+      MxNonceManager nonceManager) {
+    this(client, accountInteractor, nonceManager, TransactionBatchOptions.defaults());
+  }
+
+  public MxTransactionInteractorImpl(MxProxyClient client, MxAccountInteractor accountInteractor,
+      MxNonceManager nonceManager, TransactionBatchOptions batchOptions) {
+    this(client, accountInteractor, nonceManager, batchOptions, new MxPollingTransactionTracker(client));
+  }
+
+  public MxTransactionInteractorImpl(MxProxyClient client, MxAccountInteractor accountInteractor,
+      MxNonceManager nonceManager, TransactionBatchOptions batchOptions, MxTransactionTracker tracker) {
+    this(client, accountInteractor, nonceManager, batchOptions, tracker, null);
+  }
 
   @Override
   public Mono<TransactionHash> sendTransaction(Transaction.Sendable payload) {
@@ -41,9 +72,11 @@ public class MxTransactionInteractorImpl implements MxTransactionInteractor {
 
   @Override
   public Mono<TransactionHash> sendTransaction(Wallet wallet, TransactionRequest request) {
-    return assignNonce(wallet)
+    var sender = wallet.getAddress();
+    return nonceManager.acquire(sender)
         .map(nonce -> buildSendableFromRequest(wallet, request, nonce, false))
-        .flatMap(this::sendTransaction);
+        .flatMap(this::sendTransaction)
+        .doOnError(e -> resyncIfNonceRejected(sender, e));
   }
 
   @Override
@@ -57,18 +90,29 @@ public class MxTransactionInteractorImpl implements MxTransactionInteractor {
 
   @Override
   public Mono<TransactionsSentResult> sendMultipleTransactions(Wallet wallet, List<TransactionRequest> request) {
-    request.stream().findFirst().orElseThrow(MissingTransactionRequestException::new);
-    return assignNonce(wallet)
-        .map(n -> {
-          var listOfSendables = new ArrayList<Transaction.Sendable>();
-
-          for (long i = 0, nonce = n; i < request.size() && nonce <= nonce + request.size(); i++, nonce++) {
-            listOfSendables.add(buildSendableFromRequest(wallet, request.get((int) i), nonce, false));
-          }
+    return sendTransactionChunks(wallet, request)
+        .collectList()
+        .map(this::mergeChunkResults);
+  }
 
-          return listOfSendables;
+  @Override
+  public Flux<TransactionChunkResult> sendTransactionChunks(Wallet wallet, List<TransactionRequest> request) {
+    request.stream().findFirst().orElseThrow(MissingTransactionRequestException::new);
+    var sender = wallet.getAddress();
+    var chunkSize = batchOptions.getChunkSize();
+    var numberOfChunks = (request.size() + chunkSize - 1) / chunkSize;
+    return nonceManager.acquire(sender, request.size())
+        .flatMapMany(firstNonce -> {
+          var firstGap = new AtomicInteger(Integer.MAX_VALUE);
+          return Flux.range(0, numberOfChunks)
+              .flatMapSequential(chunk -> sendChunk(wallet, request, firstNonce, chunk * chunkSize, firstGap),
+                  batchOptions.getConcurrency());
         })
-        .flatMap(this::sendMultipleTransactions);
+        .doOnNext(chunk -> {
+          if (chunk.getError() != null) {
+            resyncIfNonceRejected(sender, chunk.getError());
+          }
+        });
   }
 
   @Override
@@ -87,6 +131,13 @@ public class MxTransactionInteractorImpl implements MxTransactionInteractor {
 
   @Override
   public Mono<TransactionCostEstimation> estimateTransactionCost(Transaction.Sendable payload) {
+    if (costEstimator != null) {
+      var estimation = costEstimator.estimate(payload);
+      if (estimation.isPresent()) {
+        return Mono.just(estimation.get());
+      }
+    }
+
     return client
         .post(ApiResourceURI.ESTIMATE_TRANSACTION_COST.getURI(),
             payload,
@@ -104,7 +155,7 @@ public class MxTransactionInteractorImpl implements MxTransactionInteractor {
   @Override
   public Mono<TransactionOnNetwork> queryTransactionInfo(String transactionHash, boolean withResults) {
     return client
-        .get(format(ApiResourceURI.TRANSACTION_ON_NETWORK.getURI(), transactionHash, withResults),
+        .get(ApiResourceURI.TRANSACTION_ON_NETWORK.expand(transactionHash, withResults),
             WrappedResponses.QueryTransactionResponse.class)
         .map(WrappedResponses.QueryTransactionResponse::getTransaction);
   }
@@ -112,10 +163,29 @@ public class MxTransactionInteractorImpl implements MxTransactionInteractor {
   @Override
   public Mono<TransactionStatus> queryTransactionStatus(String transactionHash) {
     return client
-        .get(format(ApiResourceURI.TRANSACTION_STATUS.getURI(), transactionHash),
+        .get(ApiResourceURI.TRANSACTION_STATUS.expand(transactionHash),
             TransactionStatus.class);
   }
 
+  @Override
+  public Mono<TransactionOnNetwork> awaitCompletion(String transactionHash) {
+    return tracker.awaitCompletion(transactionHash);
+  }
+
+  private void resyncIfNonceRejected(Address sender, Throwable error) {
+    for (var cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ResponseException rejection
+          && (isNonceError(rejection.getMessage()) || isNonceError(rejection.getCode()))) {
+        nonceManager.resync(sender);
+        return;
+      }
+    }
+  }
+
+  private static boolean isNonceError(String value) {
+    return value != null && value.toLowerCase().contains(TransactionConstants.NONCE_ERROR_MARKER);
+  }
+
   private TransactionCostEstimation processCostEstimation(TransactionCostEstimation estimation) {
     if (estimation.getTransactionGasUnits().equals("0")) {
       throw new ProxyRequestException(estimation.getReturnMessage());
@@ -132,6 +202,55 @@ public class MxTransactionInteractorImpl implements MxTransactionInteractor {
     return result;
   }
 
+  private Mono<TransactionChunkResult> sendChunk(Wallet wallet, List<TransactionRequest> request, long firstNonce,
+      int offset, AtomicInteger firstGap) {
+    var end = Math.min(offset + batchOptions.getChunkSize(), request.size());
+    return Mono.fromCallable(() -> {
+          var listOfSendables = new ArrayList<Transaction.Sendable>(end - offset);
+          for (var i = offset; i < end; i++) {
+            listOfSendables.add(buildSendableFromRequest(wallet, request.get(i), firstNonce + i, false));
+          }
+
+          return listOfSendables;
+        })
+        .subscribeOn(Schedulers.parallel())
+        .flatMap(sendables -> offset > firstGap.get()
+            ? Mono.error(new TransactionChunkSkippedException(firstNonce + offset))
+            : sendMultipleTransactions(sendables))
+        .map(result -> TransactionChunkResult.sent(offset, end - offset, result))
+        .onErrorResume(e -> {
+          log.warn("Chunk of {} transactions starting at nonce {} was not sent: {}",
+              end - offset, firstNonce + offset, e.getMessage());
+          return Mono.just(TransactionChunkResult.failed(offset, end - offset, e));
+        })
+        .doOnNext(chunk -> {
+          if (!chunk.isComplete()) {
+            firstGap.accumulateAndGet(offset, Math::min);
+          }
+        });
+  }
+
+  private TransactionsSentResult mergeChunkResults(List<TransactionChunkResult> chunks) {
+    var numberOfSent = 0;
+    var hashes = new LinkedHashMap<String, String>();
+    Throwable firstError = null;
+
+    for (var chunk : chunks) {
+      firstError = firstError == null ? chunk.getError() : firstError;
+      numberOfSent += chunk.getNumberOfSentTransactions();
+      hashes.putAll(chunk.getTransactionsHashes());
+    }
+
+    if (numberOfSent == 0) {
+      throw firstError != null ? Exceptions.propagate(firstError) : new InvalidSentTransactionsException();
+    }
+
+    return TransactionsSentResult.builder()
+        .numberOfSentTransactions(numberOfSent)
+        .transactionsHashes(hashes)
+        .build();
+  }
+
   private Transaction.Sendable buildSendableFromRequest(Wallet wallet, TransactionRequest request, Long nonceValue,
       boolean isEstimationRequest) {
     var transaction = new Transaction();
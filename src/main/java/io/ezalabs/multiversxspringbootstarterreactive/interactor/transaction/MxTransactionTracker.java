@@ -0,0 +1,19 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionOnNetwork;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface used for tracking sent Transactions until they reach a final state
+ */
+public interface MxTransactionTracker {
+
+  /**
+   * Method used to wait for a Transaction to be executed or rejected
+   *
+   * @param transactionHash - hash of the sent transaction
+   * @return - TransactionOnNetwork API response, with results, once the transaction status is final
+   */
+  Mono<TransactionOnNetwork> awaitCompletion(String transactionHash);
+
+}
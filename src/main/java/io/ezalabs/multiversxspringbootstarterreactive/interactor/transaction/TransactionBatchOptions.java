@@ -0,0 +1,38 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.ErrorMessage;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options controlling how a list of TransactionRequests is split into chunks
+ * and dispatched by sendMultipleTransactions
+ */
+@Value
+public class TransactionBatchOptions {
+
+  int chunkSize;
+  int concurrency;
+
+  @Builder
+  private TransactionBatchOptions(Integer chunkSize, Integer concurrency) {
+    this.chunkSize = chunkSize == null ? TransactionConstants.SEND_MULTIPLE_CHUNK_SIZE : chunkSize;
+    this.concurrency = concurrency == null ? TransactionConstants.SEND_MULTIPLE_CONCURRENCY : concurrency;
+
+    if (this.chunkSize <= 0 || this.concurrency <= 0) {
+      throw new IllegalArgumentException(
+          ErrorMessage.INVALID_BATCH_OPTIONS.getValue().formatted(this.chunkSize, this.concurrency));
+    }
+  }
+
+  /**
+   * Method used to create the default batch options
+   *
+   * @return - an instance of TransactionBatchOptions
+   */
+  public static TransactionBatchOptions defaults() {
+    return builder().build();
+  }
+
+}
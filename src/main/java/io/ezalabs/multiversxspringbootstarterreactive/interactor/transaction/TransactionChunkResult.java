@@ -0,0 +1,62 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionsSentResult;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * Outcome of a chunk of TransactionRequests sent by sendTransactionChunks
+ * <p>
+ * The hashes are keyed by the index of each request in the original list, and so by the offset of its nonce. The
+ * transactions of a chunk which was not sent keep their nonces unused
+ */
+@Value
+public class TransactionChunkResult {
+
+  int offset;
+  int size;
+  int numberOfSentTransactions;
+  Map<String, String> transactionsHashes;
+  Throwable error;
+
+  /**
+   * Method used to create the result of a chunk accepted by the gateway
+   *
+   * @param offset - index of the first request of the chunk
+   * @param size   - number of requests in the chunk
+   * @param result - gateway response, with hashes keyed by the index in the chunk
+   * @return - an instance of TransactionChunkResult
+   */
+  public static TransactionChunkResult sent(int offset, int size, TransactionsSentResult result) {
+    var hashes = new LinkedHashMap<String, String>();
+    if (result.getTransactionsHashes() != null) {
+      result.getTransactionsHashes().forEach((index, hash) ->
+          hashes.put(String.valueOf(offset + Integer.parseInt(index)), hash));
+    }
+
+    return new TransactionChunkResult(offset, size, result.getNumberOfSentTransactions(), hashes, null);
+  }
+
+  /**
+   * Method used to create the result of a chunk which was not sent
+   *
+   * @param offset - index of the first request of the chunk
+   * @param size   - number of requests in the chunk
+   * @param error  - error which prevented the chunk from being sent
+   * @return - an instance of TransactionChunkResult
+   */
+  public static TransactionChunkResult failed(int offset, int size, Throwable error) {
+    return new TransactionChunkResult(offset, size, 0, Map.of(), error);
+  }
+
+  /**
+   * Method used to check if every transaction of the chunk was accepted by the gateway
+   *
+   * @return - true if no nonce of the chunk was left unused
+   */
+  public boolean isComplete() {
+    return error == null && transactionsHashes.size() == size;
+  }
+
+}
@@ -0,0 +1,17 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+/**
+ * Enum representing how sent transactions are tracked until they are final
+ */
+public enum TransactionConfirmationMode {
+
+  /**
+   * Poll the status of each awaited transaction
+   */
+  POLLING,
+  /**
+   * Follow the hyperblocks and look for the awaited transactions in them
+   */
+  HYPERBLOCK
+
+}
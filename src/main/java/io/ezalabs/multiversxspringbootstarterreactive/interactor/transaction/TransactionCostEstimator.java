@@ -0,0 +1,86 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionCostEstimation;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.ESDTConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.PayloadData;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.Transaction;
+import io.ezalabs.multiversxspringbootstarterreactive.util.GasModel;
+import java.util.Optional;
+
+/**
+ * Offline estimator for the cost of transactions which do not execute smart contract code.
+ * <p>
+ * Recognizes EGLD transfers to accounts and the ESDTTransfer, ESDTNFTTransfer and MultiESDTNFTTransfer builtin
+ * function calls to accounts, and estimates them with the {@link GasModel} of the current network configuration. Any
+ * other transaction, including the ones sent to smart contracts, is not estimated, so it can be estimated by the
+ * gateway
+ */
+public class TransactionCostEstimator {
+
+  private static final String SEPARATOR = "@";
+  private static final int ESDT_TRANSFER_PARTS = 3;
+  private static final int NFT_TRANSFER_PARTS = 5;
+  private static final int MULTI_TRANSFER_HEADER_PARTS = 3;
+  private static final int MULTI_TRANSFER_TOKEN_PARTS = 3;
+
+  /**
+   * Method used to estimate the cost of a transaction without calling the gateway
+   *
+   * @param payload - transaction in sendable format
+   * @return - the estimation, or empty if the transaction may execute smart contract code
+   */
+  public Optional<TransactionCostEstimation> estimate(Transaction.Sendable payload) {
+    try {
+      var sender = Address.fromBech32(payload.getSender());
+      var receiver = Address.fromBech32(payload.getReceiver());
+      var data = PayloadData.fromBase64Encoded(payload.getData());
+
+      return estimateGas(sender, receiver, data)
+          .map(gas -> TransactionCostEstimation.builder()
+              .transactionGasUnits(String.valueOf(gas))
+              .build());
+    } catch (RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  private Optional<Long> estimateGas(Address sender, Address receiver, PayloadData data) {
+    var gasModel = GasModel.current();
+    var length = data.length();
+    if (data.isEmpty()) {
+      return receiver.isSmartContract() ? Optional.empty() : Optional.of(gasModel.moveBalanceGas(length));
+    }
+
+    var parts = data.toString().split(SEPARATOR, -1);
+    return switch (parts[0]) {
+      case ESDTConstants.ESDT_TRANSFER_CALL -> parts.length == ESDT_TRANSFER_PARTS && !receiver.isSmartContract()
+          ? Optional.of(gasModel.esdtTransferEstimate(length))
+          : Optional.empty();
+      case ESDTConstants.ESDT_NFT_TRANSFER_CALL -> parts.length == NFT_TRANSFER_PARTS && receiver.equals(sender)
+          && !Address.fromHex(parts[NFT_TRANSFER_PARTS - 1]).isSmartContract()
+          ? Optional.of(gasModel.esdtNftTransferEstimate(length))
+          : Optional.empty();
+      case ESDTConstants.ESDT_MULTI_TRANSFER_CALL -> estimateMultiTransferGas(sender, receiver, parts, length);
+      default -> parts.length == 1 && !receiver.isSmartContract() && !receiver.equals(sender)
+          ? Optional.of(gasModel.moveBalanceGas(length))
+          : Optional.empty();
+    };
+  }
+
+  private Optional<Long> estimateMultiTransferGas(Address sender, Address receiver, String[] parts, int length) {
+    if (parts.length < MULTI_TRANSFER_HEADER_PARTS || !receiver.equals(sender)
+        || Address.fromHex(parts[1]).isSmartContract()) {
+      return Optional.empty();
+    }
+
+    var numOfTokens = Integer.parseInt(parts[2], 16);
+    if (numOfTokens <= 0
+        || parts.length != MULTI_TRANSFER_HEADER_PARTS + numOfTokens * MULTI_TRANSFER_TOKEN_PARTS) {
+      return Optional.empty();
+    }
+
+    return Optional.of(GasModel.current().multiEsdtTransferEstimate(length, numOfTokens));
+  }
+
+}
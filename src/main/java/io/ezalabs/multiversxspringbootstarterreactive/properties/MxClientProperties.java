@@ -1,6 +1,13 @@
 package io.ezalabs.multiversxspringbootstarterreactive.properties;
 
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.ClientConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.NetworkConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.SmartContractConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.GatewayException;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction.TransactionConfirmationMode;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -15,8 +22,34 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class MxClientProperties {
 
   private String proxyUrl;
+  private List<String> proxyUrls = new ArrayList<>();
+  private long proxyProbeIntervalMillis = ClientConstants.PROBE_INTERVAL_MILLIS;
   private long readTimeoutMillis = 10_000L;
   private long writeTimeoutMillis = 10_000L;
+  private Integer maxConnections;
+  private Integer pendingAcquireMaxCount;
+  private Long pendingAcquireTimeoutMillis;
+  private Long maxIdleTimeMillis;
+  private Long maxLifeTimeMillis;
+  private boolean http2 = false;
+  private boolean compression = false;
+  private int eventLoopThreads = 0;
+  private boolean coalescingEnabled = false;
+  private boolean cacheEnabled = false;
+  private int cacheMaxSize = 10_000;
+  private long cacheShortTtlMillis = 1_000L;
+  private int sendMultipleChunkSize = TransactionConstants.SEND_MULTIPLE_CHUNK_SIZE;
+  private int sendMultipleConcurrency = TransactionConstants.SEND_MULTIPLE_CONCURRENCY;
+  private boolean scQueryCacheEnabled = false;
+  private int scQueryCacheMaxSize = SmartContractConstants.QUERY_CACHE_MAX_SIZE;
+  private long scQueryCacheTtlMillis = SmartContractConstants.QUERY_CACHE_TTL_MILLIS;
+  private long scQueryCacheNonceRefreshMillis = SmartContractConstants.QUERY_CACHE_NONCE_REFRESH_MILLIS;
+  private TransactionConfirmationMode transactionConfirmationMode = TransactionConfirmationMode.POLLING;
+  private long transactionConfirmationTimeoutMillis = TransactionConstants.TRACKER_TIMEOUT_MILLIS;
+  private boolean offlineCostEstimationEnabled = false;
+  private boolean metricsEnabled = true;
+  private long networkConfigRefreshMillis = NetworkConstants.CONFIG_REFRESH_MILLIS;
+  private long networkEpochCheckMillis = NetworkConstants.EPOCH_CHECK_MILLIS;
 
   {
     setGateway("devnet");
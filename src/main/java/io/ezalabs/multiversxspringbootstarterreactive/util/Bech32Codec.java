@@ -0,0 +1,187 @@
+package io.ezalabs.multiversxspringbootstarterreactive.util;
+
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.AddressConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.CannotDecodeBech32AddressException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.WrongNetworkAddressException;
+import java.util.Arrays;
+
+/**
+ * Utility class for encoding and decoding bech32 (BIP-173) addresses holding a 32 bytes public key
+ * <p>
+ * The 8 to 5 bits conversion and the checksum are computed in a single pass over primitive arrays of known size,
+ * using a precomputed table for the checksum generator.
+ */
+public class Bech32Codec {
+
+  private static final String CHARSET = "qpzry9x8gf2tvdw0s3jn54khce6mua7l";
+  private static final char SEPARATOR = '1';
+  private static final int CHECKSUM_LENGTH = 6;
+  private static final int MAX_LENGTH = 90;
+  private static final int DATA_LENGTH = (AddressConstants.PUBKEY_LENGTH * 8 + 4) / 5;
+  private static final int[] GENERATOR = {0x3b6a57b2, 0x26508e6d, 0x1ea119fa, 0x3d4233dd, 0x2a1462b3};
+  private static final int[] POLYMOD_TABLE = new int[32];
+  private static final byte[] CHARSET_REV = new byte[128];
+
+  static {
+    for (var top = 0; top < 32; top++) {
+      var value = 0;
+      for (var i = 0; i < GENERATOR.length; i++) {
+        if (((top >>> i) & 1) != 0) {
+          value ^= GENERATOR[i];
+        }
+      }
+      POLYMOD_TABLE[top] = value;
+    }
+
+    Arrays.fill(CHARSET_REV, (byte) -1);
+    for (var i = 0; i < CHARSET.length(); i++) {
+      CHARSET_REV[CHARSET.charAt(i)] = (byte) i;
+      CHARSET_REV[Character.toUpperCase(CHARSET.charAt(i))] = (byte) i;
+    }
+  }
+
+  /**
+   * Method used for encoding a public key as bech32 address
+   *
+   * @param hrp       - human readable part, lowercase
+   * @param publicKey - public key buffer of 32 bytes
+   * @return - bech32 address
+   */
+  public static String encodeAddress(String hrp, byte[] publicKey) {
+    if (publicKey.length != AddressConstants.PUBKEY_LENGTH) {
+      throw new CannotDecodeBech32AddressException();
+    }
+
+    var hrpLength = hrp.length();
+    var out = new char[hrpLength + 1 + DATA_LENGTH + CHECKSUM_LENGTH];
+    var chk = hrpChecksum(hrp, hrpLength);
+
+    hrp.getChars(0, hrpLength, out, 0);
+    out[hrpLength] = SEPARATOR;
+    var pos = hrpLength + 1;
+
+    var acc = 0;
+    var bits = 0;
+    for (var b : publicKey) {
+      acc = (acc << 8) | (b & 0xff);
+      bits += 8;
+      while (bits >= 5) {
+        bits -= 5;
+        var value = (acc >>> bits) & 31;
+        chk = polymodStep(chk) ^ value;
+        out[pos++] = CHARSET.charAt(value);
+      }
+    }
+    if (bits > 0) {
+      var value = (acc << (5 - bits)) & 31;
+      chk = polymodStep(chk) ^ value;
+      out[pos++] = CHARSET.charAt(value);
+    }
+
+    for (var i = 0; i < CHECKSUM_LENGTH; i++) {
+      chk = polymodStep(chk);
+    }
+    chk ^= 1;
+
+    for (var i = 0; i < CHECKSUM_LENGTH; i++) {
+      out[pos++] = CHARSET.charAt((chk >>> (5 * (CHECKSUM_LENGTH - 1 - i))) & 31);
+    }
+
+    return new String(out);
+  }
+
+  /**
+   * Method used for decoding the public key of a bech32 address
+   *
+   * @param hrp    - expected human readable part, lowercase
+   * @param bech32 - bech32 address, either lowercase or uppercase
+   * @return - public key buffer of 32 bytes
+   */
+  public static byte[] decodeAddress(String hrp, String bech32) {
+    if (bech32 == null) {
+      throw new CannotDecodeBech32AddressException();
+    }
+
+    var length = bech32.length();
+    if (length < 1 + 1 + CHECKSUM_LENGTH || length > MAX_LENGTH) {
+      throw new CannotDecodeBech32AddressException();
+    }
+
+    var hasLower = false;
+    var hasUpper = false;
+    var separator = -1;
+    for (var i = 0; i < length; i++) {
+      var c = bech32.charAt(i);
+      if (c < 33 || c > 126) {
+        throw new CannotDecodeBech32AddressException();
+      }
+      hasLower |= c >= 'a' && c <= 'z';
+      hasUpper |= c >= 'A' && c <= 'Z';
+      if (c == SEPARATOR) {
+        separator = i;
+      }
+    }
+
+    if ((hasLower && hasUpper) || separator < 1 || separator + 1 + CHECKSUM_LENGTH > length) {
+      throw new CannotDecodeBech32AddressException();
+    }
+
+    var chk = hrpChecksum(bech32, separator);
+    for (var i = separator + 1; i < length; i++) {
+      var value = CHARSET_REV[bech32.charAt(i)];
+      if (value < 0) {
+        throw new CannotDecodeBech32AddressException();
+      }
+      chk = polymodStep(chk) ^ value;
+    }
+
+    if (chk != 1) {
+      throw new CannotDecodeBech32AddressException();
+    }
+
+    if (separator != hrp.length() || !bech32.regionMatches(true, 0, hrp, 0, separator)) {
+      throw new WrongNetworkAddressException(hrp);
+    }
+
+    if (length - separator - 1 - CHECKSUM_LENGTH != DATA_LENGTH) {
+      throw new CannotDecodeBech32AddressException();
+    }
+
+    var out = new byte[AddressConstants.PUBKEY_LENGTH];
+    var pos = 0;
+    var acc = 0;
+    var bits = 0;
+    for (var i = separator + 1; i < separator + 1 + DATA_LENGTH; i++) {
+      acc = ((acc << 5) | CHARSET_REV[bech32.charAt(i)]) & 0xfff;
+      bits += 5;
+      if (bits >= 8) {
+        bits -= 8;
+        out[pos++] = (byte) (acc >>> bits);
+      }
+    }
+
+    if ((acc & ((1 << bits) - 1)) != 0) {
+      throw new CannotDecodeBech32AddressException();
+    }
+
+    return out;
+  }
+
+  private static int hrpChecksum(String hrp, int hrpLength) {
+    var chk = 1;
+    for (var i = 0; i < hrpLength; i++) {
+      chk = polymodStep(chk) ^ (Character.toLowerCase(hrp.charAt(i)) >>> 5);
+    }
+    chk = polymodStep(chk);
+    for (var i = 0; i < hrpLength; i++) {
+      chk = polymodStep(chk) ^ (Character.toLowerCase(hrp.charAt(i)) & 31);
+    }
+
+    return chk;
+  }
+
+  private static int polymodStep(int chk) {
+    return ((chk & 0x1ffffff) << 5) ^ POLYMOD_TABLE[chk >>> 25];
+  }
+
+}
@@ -1,7 +1,6 @@
 package io.ezalabs.multiversxspringbootstarterreactive.util;
 
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.CannotConvertBitsException;
-import java.io.ByteArrayOutputStream;
 
 /**
  * author MultiversX Network - mx-sdk-erdjava
@@ -11,9 +10,11 @@ public class BitsConverter {
   public static byte[] convertBits(byte[] data, int fromBits, int toBits, boolean pad) {
     int acc = 0;
     int bits = 0;
-    var ret = new ByteArrayOutputStream();
+    int pos = 0;
     int maxv = (1 << toBits) - 1;
     int maxAcc = (1 << (fromBits + toBits - 1)) - 1;
+    var totalBits = (long) data.length * fromBits;
+    var ret = new byte[(int) (pad ? (totalBits + toBits - 1) / toBits : totalBits / toBits)];
 
     for (byte value : data) {
       var valueAsInt = value & 0xff;
@@ -27,19 +28,19 @@ public class BitsConverter {
 
       while (bits >= toBits) {
         bits -= toBits;
-        ret.write((acc >>> bits) & maxv);
+        ret[pos++] = (byte) ((acc >>> bits) & maxv);
       }
     }
 
     if (pad) {
       if (bits > 0) {
-        ret.write((acc << (toBits - bits)) & maxv);
+        ret[pos++] = (byte) ((acc << (toBits - bits)) & maxv);
       }
     } else if (bits >= fromBits || ((acc << (toBits - bits)) & maxv) != 0) {
       throw new CannotConvertBitsException();
     }
 
-    return ret.toByteArray();
+    return ret;
   }
 
 }
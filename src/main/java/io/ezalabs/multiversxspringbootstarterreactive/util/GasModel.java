@@ -0,0 +1,193 @@
+package io.ezalabs.multiversxspringbootstarterreactive.util;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.NetworkConfig;
+import io.ezalabs.multiversxspringbootstarterreactive.config.MxNetworkConfigSupplier;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.ESDTConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Gas costs of transactions, computed with primitive arithmetic from a network configuration.
+ * <p>
+ * The model of the current network configuration is built once and reused until the configuration changes. The same
+ * model is used for the gas limits of the transactions sent and for offline estimations. Overflows throw an
+ * {@link ArithmeticException}
+ */
+@Getter
+public class GasModel {
+
+  private static final long ESDT_TRANSFER_GAS = ESDTConstants.ESDT_TRANSFER_GAS_COST.longValueExact();
+  private static final long MULTI_ESDT_TRANSFER_GAS_PER_TOKEN =
+      ESDTConstants.ESDT_MULTI_TRANSFER_GAS_COST_BASE.longValueExact();
+  private static final long ESDT_ISSUANCE_GAS = ESDTConstants.ESDT_ISSUANCE_GAS_COST.longValueExact();
+  private static final long ESDT_LOCAL_OP_GAS = ESDTConstants.ESDT_LOCAL_OP_GAS_COST.longValueExact();
+  private static final long ESDT_GLOBAL_OP_GAS = ESDTConstants.ESDT_GLOBAL_OP_GAS_COST.longValueExact();
+  private static final long NFT_CREATE_GAS = ESDTConstants.ESDT_NFT_CREATE_COST.longValueExact();
+  private static final long ESDT_TRANSFER_BUILTIN_GAS =
+      ESDTConstants.ESDT_TRANSFER_BUILTIN_GAS_COST.longValueExact();
+  private static final long ESDT_NFT_TRANSFER_BUILTIN_GAS =
+      ESDTConstants.ESDT_NFT_TRANSFER_BUILTIN_GAS_COST.longValueExact();
+  private static final long MULTI_ESDT_TRANSFER_BUILTIN_GAS_PER_TOKEN =
+      ESDTConstants.ESDT_MULTI_TRANSFER_BUILTIN_GAS_COST_PER_TOKEN.longValueExact();
+  private static final long MULTI_ESDT_TRANSFER_BUILTIN_ADDITIONAL_GAS =
+      ESDTConstants.ESDT_MULTI_TRANSFER_BUILTIN_ADDITIONAL_GAS_COST.longValueExact();
+  private static final long SMART_CONTRACT_CALL_GAS = TransactionConstants.SC_CALL_GAS_LIMIT.longValueExact();
+
+  private static volatile GasModel current = fromNetworkConfig(MxNetworkConfigSupplier.getConfig());
+
+  @Getter(AccessLevel.NONE)
+  private final NetworkConfig networkConfig;
+  private final long minGasLimit;
+  private final long gasPerDataByte;
+
+  private GasModel(NetworkConfig networkConfig) {
+    this.networkConfig = networkConfig;
+    this.minGasLimit = networkConfig.getMinGasLimit().longValueExact();
+    this.gasPerDataByte = networkConfig.getGasPerDataByte();
+  }
+
+  /**
+   * Creates a GasModel from a network configuration
+   *
+   * @param networkConfig - network configuration providing the minimum gas limit and the gas per data byte
+   * @return - an instance of GasModel
+   */
+  public static GasModel fromNetworkConfig(NetworkConfig networkConfig) {
+    return new GasModel(networkConfig);
+  }
+
+  /**
+   * Method used to get the model of the current network configuration
+   *
+   * @return - the GasModel of {@link MxNetworkConfigSupplier#getConfig()}
+   */
+  public static GasModel current() {
+    var networkConfig = MxNetworkConfigSupplier.getConfig();
+    var model = current;
+    if (model.networkConfig != networkConfig) {
+      model = fromNetworkConfig(networkConfig);
+      current = model;
+    }
+
+    return model;
+  }
+
+  /**
+   * Method used to compute the gas consumed by the data field
+   *
+   * @param dataLength - length of the data field, in bytes
+   * @return - gas cost of the data
+   */
+  public long dataGas(int dataLength) {
+    return Math.multiplyExact(gasPerDataByte, dataLength);
+  }
+
+  /**
+   * Method used to compute the gas limit of a transaction which does not execute any function
+   *
+   * @param dataLength - length of the data field, in bytes
+   * @return - minimum gas limit plus the gas cost of the data
+   */
+  public long moveBalanceGas(int dataLength) {
+    return Math.addExact(minGasLimit, dataGas(dataLength));
+  }
+
+  /**
+   * Method used to get the gas limit of an ESDT transfer
+   *
+   * @return - gas limit
+   */
+  public long esdtTransferGas() {
+    return ESDT_TRANSFER_GAS;
+  }
+
+  /**
+   * Method used to compute the gas limit of a multi ESDT / NFT transfer
+   *
+   * @param numOfTokens - number of transferred tokens
+   * @return - gas limit
+   */
+  public long multiEsdtTransferGas(int numOfTokens) {
+    return Math.multiplyExact(MULTI_ESDT_TRANSFER_GAS_PER_TOKEN, numOfTokens);
+  }
+
+  /**
+   * Method used to estimate the gas consumed by an ESDT transfer to an account
+   *
+   * @param dataLength - length of the data field, in bytes
+   * @return - gas of the data field plus the cost of the builtin function
+   */
+  public long esdtTransferEstimate(int dataLength) {
+    return Math.addExact(moveBalanceGas(dataLength), ESDT_TRANSFER_BUILTIN_GAS);
+  }
+
+  /**
+   * Method used to estimate the gas consumed by a NFT / SFT / Meta-ESDT transfer to an account
+   *
+   * @param dataLength - length of the data field, in bytes
+   * @return - gas of the data field plus the cost of the builtin function
+   */
+  public long esdtNftTransferEstimate(int dataLength) {
+    return Math.addExact(moveBalanceGas(dataLength), ESDT_NFT_TRANSFER_BUILTIN_GAS);
+  }
+
+  /**
+   * Method used to estimate the gas consumed by a multi ESDT / NFT transfer to an account
+   *
+   * @param dataLength  - length of the data field, in bytes
+   * @param numOfTokens - number of transferred tokens
+   * @return - gas of the data field plus the cost of the builtin function
+   */
+  public long multiEsdtTransferEstimate(int dataLength, int numOfTokens) {
+    var builtin = Math.addExact(Math.multiplyExact(MULTI_ESDT_TRANSFER_BUILTIN_GAS_PER_TOKEN, numOfTokens),
+        MULTI_ESDT_TRANSFER_BUILTIN_ADDITIONAL_GAS);
+    return Math.addExact(moveBalanceGas(dataLength), builtin);
+  }
+
+  /**
+   * Method used to get the gas limit of a call to the ESDT system smart contract (issuance, roles, upgrade etc)
+   *
+   * @return - gas limit
+   */
+  public long esdtIssuanceGas() {
+    return ESDT_ISSUANCE_GAS;
+  }
+
+  /**
+   * Method used to get the gas limit of a local ESDT operation (mint, burn)
+   *
+   * @return - gas limit
+   */
+  public long esdtLocalOpGas() {
+    return ESDT_LOCAL_OP_GAS;
+  }
+
+  /**
+   * Method used to get the gas limit of a global ESDT operation (freeze, wipe, pause)
+   *
+   * @return - gas limit
+   */
+  public long esdtGlobalOpGas() {
+    return ESDT_GLOBAL_OP_GAS;
+  }
+
+  /**
+   * Method used to get the gas limit of a NFT creation or update
+   *
+   * @return - gas limit
+   */
+  public long nftCreateGas() {
+    return NFT_CREATE_GAS;
+  }
+
+  /**
+   * Method used to get the default gas limit of a smart contract call
+   *
+   * @return - gas limit
+   */
+  public long smartContractCallGas() {
+    return SMART_CONTRACT_CALL_GAS;
+  }
+
+}
@@ -1,6 +1,5 @@
 package io.ezalabs.multiversxspringbootstarterreactive.util;
 
-import io.ezalabs.multiversxspringbootstarterreactive.config.MxNetworkConfigSupplier;
 import java.math.BigInteger;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.PayloadData;
 
@@ -11,6 +10,9 @@ import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.Payload
  */
 public class GasUtils {
 
+  private GasUtils() {
+  }
+
   /**
    * Method used for computing gas cost of a Transaction based on payload data
    *
@@ -18,9 +20,7 @@ public class GasUtils {
    * @return - gas cost in BigInteger format
    */
   public static BigInteger computeGasCost(PayloadData data) {
-    return MxNetworkConfigSupplier.config.getMinGasLimit()
-        .add(BigInteger.valueOf(data.length())
-            .multiply(BigInteger.valueOf(MxNetworkConfigSupplier.config.getGasPerDataByte())));
+    return BigInteger.valueOf(GasModel.current().moveBalanceGas(data.length()));
   }
 
 }
@@ -0,0 +1,132 @@
+package io.ezalabs.multiversxspringbootstarterreactive.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.Value;
+
+/**
+ * Bounded cache evicting the least recently used entry, with a time to live per entry
+ *
+ * @param <K> - key type
+ * @param <V> - value type
+ */
+public class LruCache<K, V> {
+
+  private final int maxSize;
+  private final LongSupplier clock;
+  private final LinkedHashMap<K, Entry<V>> entries;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Constructor for creating a cache using the system clock
+   *
+   * @param maxSize - maximum number of entries
+   */
+  public LruCache(int maxSize) {
+    this(maxSize, System::nanoTime);
+  }
+
+  /**
+   * Constructor for creating a cache
+   *
+   * @param maxSize - maximum number of entries
+   * @param clock   - nano time source used for expiration
+   */
+  public LruCache(int maxSize, LongSupplier clock) {
+    this.maxSize = maxSize;
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        if (size() > LruCache.this.maxSize) {
+          evictions.increment();
+          return true;
+        }
+
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Method used to get a value which is present and not expired
+   *
+   * @param key - cache key
+   * @return - the value, or null if missing or expired
+   */
+  public synchronized V get(K key) {
+    var entry = entries.get(key);
+
+    if (entry != null && !entry.eternal && entry.expiresAt - clock.getAsLong() <= 0) {
+      entries.remove(key);
+      evictions.increment();
+      entry = null;
+    }
+
+    if (entry == null) {
+      misses.increment();
+      return null;
+    }
+
+    hits.increment();
+    return entry.value;
+  }
+
+  /**
+   * Method used to store a value which expires after a time to live
+   *
+   * @param key      - cache key
+   * @param value    - value to store
+   * @param ttlNanos - time to live in nanoseconds, Long.MAX_VALUE for no expiration
+   */
+  public synchronized void put(K key, V value, long ttlNanos) {
+    var eternal = ttlNanos == Long.MAX_VALUE;
+    entries.put(key, new Entry<>(value, eternal, eternal ? 0 : clock.getAsLong() + ttlNanos));
+  }
+
+  /**
+   * Method used to remove a value
+   *
+   * @param key - cache key
+   */
+  public synchronized void invalidate(K key) {
+    entries.remove(key);
+  }
+
+  /**
+   * Method used to remove all values
+   */
+  public synchronized void invalidateAll() {
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  @Value
+  private static class Entry<V> {
+
+    V value;
+    boolean eternal;
+    long expiresAt;
+
+  }
+
+}
@@ -0,0 +1,72 @@
+package io.ezalabs.multiversxspringbootstarterreactive.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Utility sharing one in-flight execution between concurrent subscribers asking for the same key.
+ * The execution is forgotten as soon as it terminates, so later subscribers trigger a new one.
+ *
+ * @param <K> - key type
+ * @param <V> - value type
+ */
+public class SingleFlight<K, V> {
+
+  private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder shared = new LongAdder();
+
+  /**
+   * Method used to join the in-flight execution for a key, or start a new one
+   *
+   * @param key      - execution key
+   * @param supplier - supplier of the execution, called only when there is none in flight
+   * @return - Mono emitting the result of the shared execution
+   */
+  public Mono<V> execute(K key, Supplier<Mono<V>> supplier) {
+    return Mono.defer(() -> {
+      var created = new AtomicReference<Mono<V>>();
+      var flight = inFlight.computeIfAbsent(key, k -> {
+        var execution = Mono.defer(supplier)
+            .doOnSubscribe(s -> executions.increment())
+            .doOnTerminate(() -> inFlight.remove(k, created.get()))
+            .share();
+        created.set(execution);
+        return execution;
+      });
+
+      if (created.get() == null) {
+        shared.increment();
+      }
+
+      return flight;
+    });
+  }
+
+  /**
+   * Method used to get the number of executions started
+   *
+   * @return - number of executions
+   */
+  public long getExecutions() {
+    return executions.sum();
+  }
+
+  /**
+   * Method used to get the number of subscribers which joined an execution already in flight
+   *
+   * @return - number of shared subscriptions
+   */
+  public long getShared() {
+    return shared.sum();
+  }
+
+  public int getInFlight() {
+    return inFlight.size();
+  }
+
+}
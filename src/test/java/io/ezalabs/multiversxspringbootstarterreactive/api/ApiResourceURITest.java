@@ -0,0 +1,101 @@
+package io.ezalabs.multiversxspringbootstarterreactive.api;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ApiResourceURITest {
+
+  @Test
+  void resolve() {
+    var address = "erd1h7r2m9c250yncguz3zwq5na6gu5ttwz3vdx40nxkthxaak5v3wcqtpkvkj";
+    var hash = "699ae03e6f9a18cb8b1f131b061a46a8b7dd96dfa3fe24861f03aa824a462920";
+
+    assertEquals(Optional.of(ApiResourceURI.NETWORK_CONFIG), ApiResourceURI.resolve("network/config"));
+    assertEquals(Optional.of(ApiResourceURI.ACCOUNT_ON_NETWORK),
+        ApiResourceURI.resolve(format(ApiResourceURI.ACCOUNT_ON_NETWORK.getURI(), address)));
+    assertEquals(Optional.of(ApiResourceURI.ACCOUNT_NONCE),
+        ApiResourceURI.resolve(format(ApiResourceURI.ACCOUNT_NONCE.getURI(), address)));
+    assertEquals(Optional.of(ApiResourceURI.TRANSACTION_ON_NETWORK),
+        ApiResourceURI.resolve(format(ApiResourceURI.TRANSACTION_ON_NETWORK.getURI(), hash, true)));
+    assertEquals(Optional.of(ApiResourceURI.TRANSACTION_STATUS),
+        ApiResourceURI.resolve(format(ApiResourceURI.TRANSACTION_STATUS.getURI(), hash)));
+    assertEquals(Optional.of(ApiResourceURI.BLOCK_BY_NONCE_FROM_SHARD),
+        ApiResourceURI.resolve(format(ApiResourceURI.BLOCK_BY_NONCE_FROM_SHARD.getURI(), 1, 100)));
+    assertEquals(Optional.of(ApiResourceURI.NFT_DATA_FOR_ADDRESS),
+        ApiResourceURI.resolve(format(ApiResourceURI.NFT_DATA_FOR_ADDRESS.getURI(), address, "NFT-123456", 2)));
+  }
+
+  @Test
+  void resolve_allResources() {
+    for (var resource : ApiResourceURI.values()) {
+      var uri = resource.getURI().replace("%s", "arg");
+      assertEquals(Optional.of(resource), ApiResourceURI.resolve(uri), uri);
+    }
+  }
+
+  @Test
+  void expand() {
+    var address = "erd1h7r2m9c250yncguz3zwq5na6gu5ttwz3vdx40nxkthxaak5v3wcqtpkvkj";
+    var hash = "699ae03e6f9a18cb8b1f131b061a46a8b7dd96dfa3fe24861f03aa824a462920";
+
+    assertEquals("network/config", ApiResourceURI.NETWORK_CONFIG.expand());
+    assertEquals(format(ApiResourceURI.ACCOUNT_ON_NETWORK.getURI(), address),
+        ApiResourceURI.ACCOUNT_ON_NETWORK.expand(address));
+    assertEquals(format(ApiResourceURI.TRANSACTION_ON_NETWORK.getURI(), hash, true),
+        ApiResourceURI.TRANSACTION_ON_NETWORK.expand(hash, true));
+    assertEquals(format(ApiResourceURI.NFT_DATA_FOR_ADDRESS.getURI(), address, "NFT-123456", 2),
+        ApiResourceURI.NFT_DATA_FOR_ADDRESS.expand(address, "NFT-123456", 2));
+    assertEquals("hyperblock/by-hash/null", ApiResourceURI.HYPERBLOCK_BY_HASH.expand((Object) null));
+  }
+
+  @Test
+  void expand_encodesValues() {
+    assertEquals("address/a%20b%2Fc%3Fd%26e%3Df/balance", ApiResourceURI.ACCOUNT_BALANCE.expand("a b/c?d&e=f"));
+    assertEquals("address/%C8%9Bar%C4%83/esdt/A-1_b.c~%25",
+        ApiResourceURI.ESDT_BALANCE_FOR_ADDRESS.expand("\u021bar\u0103", "A-1_b.c~%"));
+    assertEquals(Optional.of(ApiResourceURI.ACCOUNT_STORAGE_VALUE),
+        ApiResourceURI.resolve(ApiResourceURI.ACCOUNT_STORAGE_VALUE.expand("a/b", "c?d")));
+  }
+
+  @Test
+  void expand_allResources() {
+    for (var resource : ApiResourceURI.values()) {
+      var count = resource.getURI().split("%s", -1).length - 1;
+      var values = new Object[count];
+      Arrays.fill(values, "arg");
+
+      assertEquals(resource.getURI().replace("%s", "arg"), resource.expand(values));
+    }
+  }
+
+  @Test
+  void expand_wrongNumberOfValues() {
+    assertThrows(IllegalArgumentException.class, () -> ApiResourceURI.ACCOUNT_BALANCE.expand());
+    assertThrows(IllegalArgumentException.class, () -> ApiResourceURI.ACCOUNT_BALANCE.expand("a", "b"));
+    assertThrows(IllegalArgumentException.class, () -> ApiResourceURI.NETWORK_CONFIG.expand("a"));
+  }
+
+  @Test
+  void resolve_unknown() {
+    assertTrue(ApiResourceURI.resolve("unknown/resource").isEmpty());
+    assertTrue(ApiResourceURI.resolve("address/a/b/balance").isEmpty());
+    assertTrue(ApiResourceURI.resolve("address//balance").isEmpty());
+    assertTrue(ApiResourceURI.resolve("address/a/balance/").isEmpty());
+    assertTrue(ApiResourceURI.resolve("transaction/hash").isEmpty());
+    assertTrue(ApiResourceURI.resolve("transaction/hash?other=true").isEmpty());
+  }
+
+  @Test
+  void resolve_prefersLiteralSegments() {
+    assertEquals(Optional.of(ApiResourceURI.ACCOUNTS_BULK), ApiResourceURI.resolve("address/bulk"));
+    assertEquals(Optional.of(ApiResourceURI.ESDT_TOKENS_FOR_ADDRESS), ApiResourceURI.resolve("address/esdt/esdt"));
+    assertEquals(Optional.of(ApiResourceURI.ESDT_BALANCE_FOR_ADDRESS),
+        ApiResourceURI.resolve("address/keys/esdt/TOKEN-123456"));
+  }
+}
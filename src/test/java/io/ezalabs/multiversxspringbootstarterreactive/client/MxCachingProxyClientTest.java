@@ -0,0 +1,158 @@
+package io.ezalabs.multiversxspringbootstarterreactive.client;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountBalance;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.Hyperblock;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.NetworkConfig;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionOnNetwork;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
+import io.ezalabs.multiversxspringbootstarterreactive.util.LruCache;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class MxCachingProxyClientTest {
+
+  MxCachingProxyClient client;
+  AtomicLong clock = new AtomicLong();
+
+  @Mock
+  MxProxyClient delegate;
+
+  String hash = "699ae03e6f9a18cb8b1f131b061a46a8b7dd96dfa3fe24861f03aa824a462920";
+  String address = "erd1h7r2m9c250yncguz3zwq5na6gu5ttwz3vdx40nxkthxaak5v3wcqtpkvkj";
+
+  @BeforeEach
+  void setUp() {
+    client = new MxCachingProxyClient(delegate, new LruCache<>(100, clock::get), Duration.ofNanos(1_000L));
+  }
+
+  @Test
+  void get_hyperblock_isCached() {
+    var uri = format(ApiResourceURI.HYPERBLOCK_BY_NONCE.getURI(), 10);
+    var response = WrappedResponses.QueryHyperblock.builder()
+        .hyperblock(Hyperblock.builder().nonce(10L).build())
+        .build();
+    when(delegate.get(uri, WrappedResponses.QueryHyperblock.class)).thenReturn(Mono.just(response));
+
+    for (var i = 0; i < 3; i++) {
+      StepVerifier.create(client.get(uri, WrappedResponses.QueryHyperblock.class))
+          .expectNext(response)
+          .verifyComplete();
+    }
+
+    verify(delegate, times(1)).get(uri, WrappedResponses.QueryHyperblock.class);
+    assertEquals(2, client.getHits());
+    assertEquals(1, client.getMisses());
+    assertEquals(1, client.getSize());
+  }
+
+  @Test
+  void get_transaction_isCachedOnlyWhenFinal() {
+    var uri = format(ApiResourceURI.TRANSACTION_ON_NETWORK.getURI(), hash, true);
+    when(delegate.get(uri, WrappedResponses.QueryTransactionResponse.class))
+        .thenReturn(Mono.just(transactionResponse("pending")))
+        .thenReturn(Mono.just(transactionResponse("success")));
+
+    StepVerifier.create(client.get(uri, WrappedResponses.QueryTransactionResponse.class))
+        .assertNext(r -> assertEquals("pending", r.getTransaction().getStatus()))
+        .verifyComplete();
+
+    for (var i = 0; i < 2; i++) {
+      StepVerifier.create(client.get(uri, WrappedResponses.QueryTransactionResponse.class))
+          .assertNext(r -> assertEquals("success", r.getTransaction().getStatus()))
+          .verifyComplete();
+    }
+
+    verify(delegate, times(2)).get(uri, WrappedResponses.QueryTransactionResponse.class);
+    assertEquals(1, client.getHits());
+  }
+
+  @Test
+  void get_balance_expiresAfterShortTtl() {
+    var uri = format(ApiResourceURI.ACCOUNT_BALANCE.getURI(), address);
+    var response = AccountBalance.builder().balance(BigInteger.TEN).build();
+    when(delegate.get(uri, AccountBalance.class)).thenReturn(Mono.just(response));
+
+    StepVerifier.create(client.get(uri, AccountBalance.class)).expectNext(response).verifyComplete();
+    StepVerifier.create(client.get(uri, AccountBalance.class)).expectNext(response).verifyComplete();
+
+    clock.addAndGet(1_000L);
+    StepVerifier.create(client.get(uri, AccountBalance.class)).expectNext(response).verifyComplete();
+
+    verify(delegate, times(2)).get(uri, AccountBalance.class);
+    assertEquals(1, client.getEvictions());
+  }
+
+  @Test
+  void get_otherResources_areNotCached() {
+    var uri = ApiResourceURI.NETWORK_CONFIG.getURI();
+    when(delegate.get(uri, NetworkConfig.class)).thenReturn(Mono.just(NetworkConfig.builder().build()));
+
+    StepVerifier.create(client.get(uri, NetworkConfig.class)).expectNextCount(1).verifyComplete();
+    StepVerifier.create(client.get(uri, NetworkConfig.class)).expectNextCount(1).verifyComplete();
+
+    verify(delegate, times(2)).get(uri, NetworkConfig.class);
+    assertEquals(0, client.getMisses());
+  }
+
+  @Test
+  void get_errors_areNotCached() {
+    var uri = format(ApiResourceURI.HYPERBLOCK_BY_HASH.getURI(), hash);
+    when(delegate.get(uri, WrappedResponses.QueryHyperblock.class))
+        .thenReturn(Mono.error(new RuntimeException("timeout")));
+
+    StepVerifier.create(client.get(uri, WrappedResponses.QueryHyperblock.class)).verifyError();
+    StepVerifier.create(client.get(uri, WrappedResponses.QueryHyperblock.class)).verifyError();
+
+    verify(delegate, times(2)).get(uri, WrappedResponses.QueryHyperblock.class);
+    client.invalidateAll();
+    assertEquals(0, client.getSize());
+  }
+
+  @Test
+  void stream_isPassedThrough() {
+    var buffer = DefaultDataBufferFactory.sharedInstance.wrap(new byte[]{1});
+    when(delegate.stream("address/erd1/keys")).thenReturn(Flux.just(buffer));
+
+    StepVerifier.create(client.stream("address/erd1/keys"))
+        .expectNext(buffer)
+        .verifyComplete();
+  }
+
+  @Test
+  void post_and_close_delegate() {
+    when(delegate.post(anyString(), eq("payload"), eq(String.class))).thenReturn(Mono.just("ok"));
+
+    StepVerifier.create(client.post("transaction/send", "payload", String.class))
+        .expectNext("ok")
+        .verifyComplete();
+
+    client.close();
+    verify(delegate).close();
+  }
+
+  private WrappedResponses.QueryTransactionResponse transactionResponse(String status) {
+    return WrappedResponses.QueryTransactionResponse.builder()
+        .transaction(TransactionOnNetwork.builder().status(status).build())
+        .build();
+  }
+}
@@ -0,0 +1,96 @@
+package io.ezalabs.multiversxspringbootstarterreactive.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.NetworkConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class MxCoalescingProxyClientTest {
+
+  MxCoalescingProxyClient client;
+
+  @Mock
+  MxProxyClient delegate;
+
+  @BeforeEach
+  void setUp() {
+    client = new MxCoalescingProxyClient(delegate);
+  }
+
+  @Test
+  void get_coalescesConcurrentRequests() {
+    var sink = Sinks.<NetworkConfig>one();
+    var config = NetworkConfig.builder().chainId("D").build();
+    when(delegate.get("network/config", NetworkConfig.class)).thenReturn(sink.asMono());
+
+    var verifiers = new StepVerifier[3];
+    for (var i = 0; i < verifiers.length; i++) {
+      verifiers[i] = StepVerifier.create(client.get("network/config", NetworkConfig.class))
+          .expectNext(config)
+          .expectComplete()
+          .verifyLater();
+    }
+
+    sink.tryEmitValue(config);
+    for (var verifier : verifiers) {
+      verifier.verify();
+    }
+
+    verify(delegate, times(1)).get("network/config", NetworkConfig.class);
+    assertEquals(1, client.getRequests());
+    assertEquals(2, client.getCoalesced());
+  }
+
+  @Test
+  void get_sequentialRequestsAreNotCoalesced() {
+    when(delegate.get("network/config", NetworkConfig.class))
+        .thenReturn(Mono.just(NetworkConfig.builder().chainId("D").build()))
+        .thenReturn(Mono.just(NetworkConfig.builder().chainId("T").build()));
+
+    StepVerifier.create(client.get("network/config", NetworkConfig.class))
+        .assertNext(r -> assertEquals("D", r.getChainId()))
+        .verifyComplete();
+    StepVerifier.create(client.get("network/config", NetworkConfig.class))
+        .assertNext(r -> assertEquals("T", r.getChainId()))
+        .verifyComplete();
+
+    assertEquals(0, client.getCoalesced());
+  }
+
+  @Test
+  void stream_isPassedThrough() {
+    var buffer = DefaultDataBufferFactory.sharedInstance.wrap(new byte[]{1});
+    when(delegate.stream("address/erd1/keys")).thenReturn(Flux.just(buffer));
+
+    StepVerifier.create(client.stream("address/erd1/keys"))
+        .expectNext(buffer)
+        .verifyComplete();
+  }
+
+  @Test
+  void post_and_close_delegate() {
+    when(delegate.post(anyString(), eq("payload"), eq(String.class))).thenReturn(Mono.just("ok"));
+
+    StepVerifier.create(client.post("transaction/send", "payload", String.class))
+        .expectNext("ok")
+        .verifyComplete();
+
+    client.close();
+    verify(delegate).close();
+  }
+}
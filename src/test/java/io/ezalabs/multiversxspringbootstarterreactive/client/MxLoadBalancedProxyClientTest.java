@@ -0,0 +1,240 @@
+package io.ezalabs.multiversxspringbootstarterreactive.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ResponseException;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class MxLoadBalancedProxyClientTest {
+
+  MxLoadBalancedProxyClient client;
+
+  @Mock
+  MxProxyClient first;
+  @Mock
+  MxProxyClient second;
+
+  @BeforeEach
+  void setUp() {
+    var clients = Map.of("https://first.com", first, "https://second.com", second);
+    client = new MxLoadBalancedProxyClient(List.of("https://first.com", "https://second.com"), clients::get,
+        Duration.ofMinutes(10));
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.close();
+  }
+
+  @Test
+  void get_prefersLowerLatency() {
+    endpoint(0).recordSuccess(1_000_000L);
+    endpoint(1).recordSuccess(100_000_000L);
+
+    when(first.get(anyString(), eq(String.class))).thenReturn(Mono.just("first"));
+
+    for (var i = 0; i < 20; i++) {
+      StepVerifier.create(client.get("network/config", String.class))
+          .expectNext("first")
+          .verifyComplete();
+    }
+
+    verify(second, never()).get(anyString(), any());
+    assertEquals(0, endpoint(0).getInFlight());
+    assertTrue(endpoint(0).getLatencyEwmaMillis() < endpoint(1).getLatencyEwmaMillis());
+  }
+
+  @Test
+  void get_failsOverAndEjects() {
+    lenient().when(first.get(anyString(), eq(String.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("Connection refused")));
+    lenient().when(second.get(anyString(), eq(String.class))).thenReturn(Mono.just("second"));
+
+    for (var i = 0; i < 20; i++) {
+      StepVerifier.create(client.get("network/config", String.class))
+          .expectNext("second")
+          .verifyComplete();
+    }
+
+    assertFalse(endpoint(0).isHealthy());
+    assertTrue(endpoint(1).isHealthy());
+    assertTrue(endpoint(0).getErrorRate() > 0.5);
+  }
+
+  @Test
+  void get_responseErrorDoesNotEject() {
+    when(first.get(anyString(), eq(String.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("not found", new ResponseException("not found"))));
+    endpoint(1).recordSuccess(100_000_000L);
+    endpoint(0).recordSuccess(1_000_000L);
+
+    for (var i = 0; i < 10; i++) {
+      StepVerifier.create(client.get("transaction/abc", String.class))
+          .verifyError(ProxyRequestException.class);
+    }
+
+    verify(first, times(10)).get(anyString(), eq(String.class));
+    verify(second, never()).get(anyString(), any());
+    assertTrue(endpoint(0).isHealthy());
+    assertEquals(0.0, endpoint(0).getErrorRate());
+  }
+
+  @Test
+  void post_isNotRetried() {
+    endpoint(0).recordSuccess(1_000_000L);
+    endpoint(1).recordSuccess(100_000_000L);
+
+    when(first.post(anyString(), any(), eq(String.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("Connection reset")));
+
+    StepVerifier.create(client.post("transaction/send", "payload", String.class))
+        .verifyError(ProxyRequestException.class);
+
+    verify(second, never()).post(anyString(), any(), any());
+  }
+
+  @Test
+  void probeEjected_reinstatesRecoveredEndpoint() {
+    ejectFirst();
+
+    when(first.get(ApiResourceURI.NETWORK_CONFIG.getURI(), WrappedResponses.GetNetworkConfigResponse.class))
+        .thenReturn(Mono.error(new ProxyRequestException("Connection refused")))
+        .thenReturn(Mono.just(WrappedResponses.GetNetworkConfigResponse.builder().build()));
+
+    StepVerifier.create(client.probeEjected()).verifyComplete();
+    assertFalse(endpoint(0).isHealthy());
+
+    StepVerifier.create(client.probeEjected()).verifyComplete();
+    assertTrue(endpoint(0).isHealthy());
+    assertEquals(0.0, endpoint(0).getErrorRate());
+  }
+
+  @Test
+  void probeEjected_timesOutHangingProbe() {
+    ejectFirst();
+
+    when(first.get(ApiResourceURI.NETWORK_CONFIG.getURI(), WrappedResponses.GetNetworkConfigResponse.class))
+        .thenReturn(Mono.never());
+
+    StepVerifier.withVirtualTime(() -> client.probeEjected())
+        .thenAwait(Duration.ofMinutes(10))
+        .verifyComplete();
+    assertFalse(endpoint(0).isHealthy());
+  }
+
+  @Test
+  void probe_runsOnlyWhileEndpointsAreEjected() {
+    var scheduler = VirtualTimeScheduler.create();
+    var clients = Map.of("https://first.com", first, "https://second.com", second);
+    var probed = new MxLoadBalancedProxyClient(List.of("https://first.com", "https://second.com"), clients::get,
+        Duration.ofSeconds(5), scheduler);
+    assertFalse(probed.isProbing());
+
+    when(first.get(anyString(), eq(String.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("Connection refused")));
+    lenient().when(second.get(anyString(), eq(String.class))).thenReturn(Mono.just("second"));
+    while (probed.getEndpoints().get(0).isHealthy()) {
+      probed.get("network/config", String.class).block();
+    }
+    assertTrue(probed.isProbing());
+
+    when(first.get(ApiResourceURI.NETWORK_CONFIG.getURI(), WrappedResponses.GetNetworkConfigResponse.class))
+        .thenReturn(Mono.just(WrappedResponses.GetNetworkConfigResponse.builder().build()));
+    scheduler.advanceTimeBy(Duration.ofSeconds(5));
+
+    assertTrue(probed.getEndpoints().get(0).isHealthy());
+    assertFalse(probed.isProbing());
+    probed.close();
+  }
+
+  @Test
+  void get_allEjected_stillRoutes() {
+    ejectFirst();
+    for (var i = 0; i < 10; i++) {
+      endpoint(1).recordFailure();
+    }
+
+    assertFalse(endpoint(1).isHealthy());
+    lenient().when(first.get(anyString(), eq(String.class))).thenReturn(Mono.just("first"));
+    lenient().when(second.get(anyString(), eq(String.class))).thenReturn(Mono.just("second"));
+
+    StepVerifier.create(client.get("network/config", String.class))
+        .expectNextCount(1)
+        .verifyComplete();
+  }
+
+  @Test
+  void stream_recordsEndpointState() {
+    endpoint(0).recordSuccess(1_000_000L);
+    endpoint(1).recordSuccess(100_000_000L);
+    var buffer = DefaultDataBufferFactory.sharedInstance.wrap(new byte[]{1});
+
+    when(first.stream(anyString()))
+        .thenReturn(Flux.just(buffer))
+        .thenReturn(Flux.error(new ProxyRequestException("Connection reset")));
+
+    StepVerifier.create(client.stream("address/erd1/keys"))
+        .expectNext(buffer)
+        .verifyComplete();
+    StepVerifier.create(client.stream("address/erd1/keys"))
+        .verifyError(ProxyRequestException.class);
+
+    verify(second, never()).stream(anyString());
+    assertEquals(0, endpoint(0).getInFlight());
+    assertTrue(endpoint(0).getErrorRate() > 0);
+  }
+
+  @Test
+  void get_singleEndpoint() {
+    var single = new MxLoadBalancedProxyClient(List.of("https://first.com"), url -> first, Duration.ofMinutes(10));
+    when(first.get(anyString(), eq(String.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("Connection refused")))
+        .thenReturn(Mono.just("first"));
+
+    StepVerifier.create(single.get("network/config", String.class))
+        .expectNext("first")
+        .verifyComplete();
+
+    assertEquals("https://first.com", single.getEndpoints().get(0).getUrl());
+    single.close();
+  }
+
+  private void ejectFirst() {
+    for (var i = 0; i < 10; i++) {
+      endpoint(0).recordFailure();
+    }
+
+    assertFalse(endpoint(0).isHealthy());
+  }
+
+  private MxLoadBalancedProxyClient.Endpoint endpoint(int index) {
+    return client.getEndpoints().get(index);
+  }
+}
@@ -0,0 +1,96 @@
+package io.ezalabs.multiversxspringbootstarterreactive.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.ClientConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import reactor.netty.resources.ConnectionPoolMetrics;
+
+class MxMicrometerClientMetricsTest {
+
+  SimpleMeterRegistry registry;
+  MxMicrometerClientMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    metrics = new MxMicrometerClientMetrics(registry);
+  }
+
+  @Test
+  void start_tracksRequestsInFlight() {
+    var first = metrics.start(ApiResourceURI.NETWORK_CONFIG, HttpMethod.GET);
+    var second = metrics.start(ApiResourceURI.SEND_TRANSACTION, HttpMethod.POST);
+    assertEquals(2, registry.get(ClientConstants.METRIC_REQUESTS_ACTIVE).gauge().value());
+
+    first.stop(null);
+    first.stop(null);
+    second.cancel();
+
+    assertEquals(0, registry.get(ClientConstants.METRIC_REQUESTS_ACTIVE).gauge().value());
+    assertEquals(1, registry.get(ClientConstants.METRIC_REQUESTS).tags("outcome", "SUCCESS").timer().count());
+    assertEquals(1, registry.get(ClientConstants.METRIC_REQUESTS)
+        .tags("resource", "SEND_TRANSACTION", "method", "POST", "outcome", "CANCELLED")
+        .timer().count());
+  }
+
+  @Test
+  void stop_tagsOutcomeAndCode() {
+    metrics.start(ApiResourceURI.NETWORK_CONFIG, HttpMethod.GET)
+        .stop(new ProxyRequestException("fail", new ResponseException("fail", "internal_issue")));
+    metrics.start(ApiResourceURI.NETWORK_CONFIG, HttpMethod.GET).stop(new ResponseException());
+    metrics.start(ApiResourceURI.NETWORK_CONFIG, HttpMethod.GET).stop(new ProxyRequestException("Connection refused"));
+
+    assertEquals(1, registry.get(ClientConstants.METRIC_REQUESTS)
+        .tags("outcome", "GATEWAY_ERROR", "code", "internal_issue").timer().count());
+    assertEquals(1, registry.get(ClientConstants.METRIC_REQUESTS)
+        .tags("outcome", "GATEWAY_ERROR", "code", MxMicrometerClientMetrics.NO_CODE).timer().count());
+    assertEquals(1, registry.get(ClientConstants.METRIC_REQUESTS)
+        .tags("outcome", "ERROR", "code", MxMicrometerClientMetrics.NO_CODE).timer().count());
+    assertNull(registry.find(ClientConstants.METRIC_RESPONSE_SIZE).summary());
+  }
+
+  @Test
+  void start_unknownResource() {
+    metrics.start(null, HttpMethod.GET).stop(null);
+
+    assertEquals(1, registry.get(ClientConstants.METRIC_REQUESTS)
+        .tags("resource", MxMicrometerClientMetrics.UNKNOWN_RESOURCE).timer().count());
+  }
+
+  @Test
+  void connectionPoolRegistrar() {
+    var poolMetrics = mock(ConnectionPoolMetrics.class);
+    when(poolMetrics.acquiredSize()).thenReturn(3);
+    when(poolMetrics.idleSize()).thenReturn(2);
+    var registrar = metrics.getConnectionPoolRegistrar();
+
+    registrar.registerMetrics("multiversx-client", "id",
+        InetSocketAddress.createUnresolved("gateway.multiversx.com", 443), poolMetrics);
+
+    assertEquals(3, registry.get(ClientConstants.METRIC_CONNECTIONS_PREFIX + "active")
+        .tags("pool", "multiversx-client", "remote.address", "gateway.multiversx.com:443")
+        .gauge().value());
+    assertEquals(2, registry.get(ClientConstants.METRIC_CONNECTIONS_PREFIX + "idle").gauge().value());
+    assertEquals(0, registry.get(ClientConstants.METRIC_CONNECTIONS_PREFIX + "max").gauge().value());
+
+    registrar.deRegisterMetrics("multiversx-client", "id", null);
+    registrar.deRegisterMetrics("multiversx-client", "id", null);
+    assertNull(registry.find(ClientConstants.METRIC_CONNECTIONS_PREFIX + "active").gauge());
+
+    registrar.registerMetrics("multiversx-client", "other", null, poolMetrics);
+    assertEquals(3, registry.get(ClientConstants.METRIC_CONNECTIONS_PREFIX + "active")
+        .tags("remote.address", "null").gauge().value());
+  }
+
+}
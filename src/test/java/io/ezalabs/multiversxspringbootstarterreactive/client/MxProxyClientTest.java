@@ -2,14 +2,22 @@ package io.ezalabs.multiversxspringbootstarterreactive.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
 import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResponse;
 import io.ezalabs.multiversxspringbootstarterreactive.config.MxClientConfig;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.ClientConstants;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.EmptyPayloadException;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,12 +26,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -62,10 +73,192 @@ class MxProxyClientTest {
   void get_with_client_error() throws JsonProcessingException {
     setupClient(null, HttpStatus.INTERNAL_SERVER_ERROR);
     StepVerifier.create(proxyClient.get("/account", ResponseData.class))
+        .expectErrorMatches(e -> e instanceof ProxyRequestException p && p.getStatusCode() == 500)
+        .verify();
+  }
+
+  @Test
+  void get_with_proxyUrl() throws JsonProcessingException {
+    var apiResponse = new ApiResponse<ResponseData>();
+    apiResponse.setCode("successful");
+    apiResponse.setData(new ResponseData("all good"));
+    var body = new ObjectMapper().writeValueAsString(apiResponse);
+    var requestedUrls = new ArrayList<String>();
+
+    var webClientBuilder = WebClient.builder()
+        .baseUrl("https://default.com")
+        .exchangeFunction(request -> {
+          requestedUrls.add(request.url().toString());
+          return Mono.just(ClientResponse.create(HttpStatus.OK)
+              .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+              .body(body)
+              .build());
+        });
+    when(clientConfig.getMxClientBuilder()).thenReturn(webClientBuilder);
+
+    var client = new MxProxyClientImpl(clientConfig, "https://other.com");
+    StepVerifier.create(client.get("network/config", ResponseData.class))
+        .assertNext(r -> assertEquals("all good", r.getStatus()))
+        .verifyComplete();
+
+    assertEquals(List.of("https://other.com/network/config"), requestedUrls);
+    client.close();
+  }
+
+  @Test
+  void get_with_expanded_uri() throws JsonProcessingException {
+    var requestedUrls = recordRequestedUrls();
+    when(clientConfig.getProxyUrl()).thenReturn("https://default.com/");
+    var client = new MxProxyClientImpl(clientConfig);
+
+    StepVerifier.create(client.get(ApiResourceURI.ACCOUNT_BALANCE.expand("a b%"), ResponseData.class))
+        .expectNextCount(1)
+        .verifyComplete();
+    StepVerifier.create(client.get("/network/config", ResponseData.class))
+        .expectNextCount(1)
+        .verifyComplete();
+    StepVerifier.create(client.get("address/not encoded", ResponseData.class))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    assertEquals(List.of("https://default.com/address/a%20b%25/balance", "https://default.com/network/config",
+        "https://default.com/address/not%20encoded"), requestedUrls);
+  }
+
+  @Test
+  void get_with_chunked_body() throws JsonProcessingException {
+    var apiResponse = new ApiResponse<ResponseData>();
+    apiResponse.setCode("successful");
+    apiResponse.setData(new ResponseData("all good"));
+
+    var bytes = new ObjectMapper().writeValueAsString(apiResponse).getBytes(StandardCharsets.UTF_8);
+    var half = bytes.length / 2;
+    var chunks = Flux.<DataBuffer>just(
+        DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, 0, half)),
+        DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, half, bytes.length)));
+
+    var clientResponse = ClientResponse
+        .create(HttpStatus.OK)
+        .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+        .body(chunks).build();
+    setupClient(clientResponse);
+
+    StepVerifier.create(proxyClient.get("/account", ResponseData.class))
+        .assertNext(r -> assertEquals(apiResponse.getData().getStatus(), r.getStatus()))
+        .verifyComplete();
+  }
+
+  @Test
+  void stream() {
+    var chunks = Flux.<DataBuffer>just(
+        DefaultDataBufferFactory.sharedInstance.wrap("{\"data\":".getBytes(StandardCharsets.UTF_8)),
+        DefaultDataBufferFactory.sharedInstance.wrap("{}}".getBytes(StandardCharsets.UTF_8)));
+
+    setupClient(ClientResponse.create(HttpStatus.OK).body(chunks).build());
+
+    StepVerifier.create(proxyClient.stream("address/erd1/keys")
+            .map(buffer -> buffer.toString(StandardCharsets.UTF_8)))
+        .expectNext("{\"data\":", "{}}")
+        .verifyComplete();
+  }
+
+  @Test
+  void stream_with_client_error() {
+    var exchangeFunction = new ExchangeFunction() {
+      @Override
+      public @NonNull Mono<ClientResponse> exchange(@NonNull ClientRequest clientRequest) {
+        return Mono.error(new IllegalStateException("Connection refused"));
+      }
+    };
+    when(clientConfig.getMxClientBuilder()).thenReturn(WebClient.builder().exchangeFunction(exchangeFunction));
+    proxyClient = new MxProxyClientImpl(clientConfig);
+
+    StepVerifier.create(proxyClient.stream("address/erd1/keys"))
         .expectError(ProxyRequestException.class)
         .verify();
   }
 
+  @Test
+  void stream_not_supported() {
+    var client = new MxProxyClient() {
+      @Override
+      public <T> Mono<T> get(String uri, Class<T> responseType) {
+        return Mono.empty();
+      }
+
+      @Override
+      public <T, P> Mono<T> post(String uri, P payload, Class<T> responseType) {
+        return Mono.empty();
+      }
+    };
+
+    StepVerifier.create(client.stream("address/erd1/keys"))
+        .expectError(UnsupportedOperationException.class)
+        .verify();
+  }
+
+  @Test
+  void get_with_metrics() throws JsonProcessingException {
+    var registry = new SimpleMeterRegistry();
+    when(clientConfig.getMetrics()).thenReturn(new MxMicrometerClientMetrics(registry));
+
+    var apiResponse = new ApiResponse<ResponseData>();
+    apiResponse.setCode("successful");
+    apiResponse.setData(new ResponseData("all good"));
+    setupClient(apiResponse, HttpStatus.OK);
+
+    StepVerifier.create(proxyClient.get("network/config", ResponseData.class))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    var timer = registry.get(ClientConstants.METRIC_REQUESTS)
+        .tags("resource", "NETWORK_CONFIG", "method", "GET", "outcome", "SUCCESS", "code", "none")
+        .timer();
+    assertEquals(1, timer.count());
+    assertTrue(registry.get(ClientConstants.METRIC_RESPONSE_SIZE).tags("resource", "NETWORK_CONFIG")
+        .summary().totalAmount() > 0);
+    assertEquals(0, registry.get(ClientConstants.METRIC_REQUESTS_ACTIVE).gauge().value());
+  }
+
+  @Test
+  void get_with_metrics_and_api_response_error() throws JsonProcessingException {
+    var registry = new SimpleMeterRegistry();
+    when(clientConfig.getMetrics()).thenReturn(new MxMicrometerClientMetrics(registry));
+
+    var apiResponse = new ApiResponse<ResponseData>();
+    apiResponse.setError("fail");
+    apiResponse.setCode("bad_request");
+    setupClient(apiResponse, HttpStatus.OK);
+
+    StepVerifier.create(proxyClient.get("network/config", ResponseData.class))
+        .expectErrorMessage("fail")
+        .verify();
+
+    assertEquals(1, registry.get(ClientConstants.METRIC_REQUESTS)
+        .tags("resource", "NETWORK_CONFIG", "outcome", "GATEWAY_ERROR", "code", "bad_request")
+        .timer().count());
+  }
+
+  @Test
+  void stream_with_metrics() {
+    var registry = new SimpleMeterRegistry();
+    when(clientConfig.getMetrics()).thenReturn(new MxMicrometerClientMetrics(registry));
+
+    var chunks = Flux.<DataBuffer>just(
+        DefaultDataBufferFactory.sharedInstance.wrap("{\"data\":".getBytes(StandardCharsets.UTF_8)),
+        DefaultDataBufferFactory.sharedInstance.wrap("{}}".getBytes(StandardCharsets.UTF_8)));
+    setupClient(ClientResponse.create(HttpStatus.OK).body(chunks).build());
+
+    StepVerifier.create(proxyClient.stream("unknown/resource"))
+        .expectNextCount(2)
+        .verifyComplete();
+
+    assertEquals(1, registry.get(ClientConstants.METRIC_REQUESTS)
+        .tags("resource", "UNKNOWN", "outcome", "SUCCESS")
+        .timer().count());
+    assertEquals(11, registry.get(ClientConstants.METRIC_RESPONSE_SIZE).summary().totalAmount());
+  }
+
   @Test
   void post() throws JsonProcessingException {
     var apiResponse = new ApiResponse<ResponseData>();
@@ -86,6 +279,27 @@ class MxProxyClientTest {
     assertThrows(EmptyPayloadException.class, () -> proxyClient.post("/transaction", null, ResponseData.class));
   }
 
+  private List<String> recordRequestedUrls() throws JsonProcessingException {
+    var apiResponse = new ApiResponse<ResponseData>();
+    apiResponse.setCode("successful");
+    apiResponse.setData(new ResponseData("all good"));
+    var body = new ObjectMapper().writeValueAsString(apiResponse);
+    var requestedUrls = new ArrayList<String>();
+
+    var webClientBuilder = WebClient.builder()
+        .baseUrl("https://default.com")
+        .exchangeFunction(request -> {
+          requestedUrls.add(request.url().toString());
+          return Mono.just(ClientResponse.create(HttpStatus.OK)
+              .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+              .body(body)
+              .build());
+        });
+    when(clientConfig.getMxClientBuilder()).thenReturn(webClientBuilder);
+
+    return requestedUrls;
+  }
+
   private void setupClient(ApiResponse<ResponseData> response, HttpStatus status) throws JsonProcessingException {
     var apiResponseString = new ObjectMapper().writeValueAsString(response);
     var clientResponse = ClientResponse
@@ -93,6 +307,10 @@ class MxProxyClientTest {
         .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
         .body(apiResponseString).build();
 
+    setupClient(clientResponse);
+  }
+
+  private void setupClient(ClientResponse clientResponse) {
     var exchangeFunction = new ExchangeFunction() {
       @Override
       public @NonNull Mono<ClientResponse> exchange(@NonNull ClientRequest clientRequest) {
@@ -0,0 +1,54 @@
+package io.ezalabs.multiversxspringbootstarterreactive.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountNonce;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.DeserializationException;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+class JsonMapperTest {
+
+  String response = "{\"data\":{\"nonce\":12},\"error\":\"\",\"code\":\"successful\"}";
+
+  @Test
+  void deserializeApiResponse_fromString() {
+    var apiResponse = JsonMapper.deserializeApiResponse(response, AccountNonce.class);
+
+    assertEquals("successful", apiResponse.getCode());
+    assertEquals(12L, apiResponse.getData().getNonce());
+  }
+
+  @Test
+  void deserializeApiResponse_fromDataBuffer() {
+    var buffer = DefaultDataBufferFactory.sharedInstance.wrap(response.getBytes(StandardCharsets.UTF_8));
+    var apiResponse = JsonMapper.deserializeApiResponse(buffer, AccountNonce.class);
+
+    assertEquals("successful", apiResponse.getCode());
+    assertEquals(12L, apiResponse.getData().getNonce());
+  }
+
+  @Test
+  void deserializeApiResponse_invalidJson() {
+    var buffer = DefaultDataBufferFactory.sharedInstance.wrap("{\"data\":".getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(DeserializationException.class,
+        () -> JsonMapper.deserializeApiResponse("{\"data\":", AccountNonce.class));
+    assertThrows(DeserializationException.class,
+        () -> JsonMapper.deserializeApiResponse(buffer, AccountNonce.class));
+  }
+
+  @Test
+  void apiResponseReader_isResolvedOncePerType() {
+    for (var responseType : WrappedResponses.class.getDeclaredClasses()) {
+      assertSame(JsonMapper.apiResponseReader(responseType), JsonMapper.apiResponseReader(responseType));
+    }
+
+    assertSame(JsonMapper.apiResponseReader(AccountNonce.class), JsonMapper.apiResponseReader(AccountNonce.class));
+  }
+
+}
@@ -0,0 +1,71 @@
+package io.ezalabs.multiversxspringbootstarterreactive.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxMicrometerClientMetrics;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.InvalidProxyUrlException;
+import io.ezalabs.multiversxspringbootstarterreactive.properties.MxClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.ConnectionProvider;
+
+class MxClientConfigTest {
+
+  @Test
+  void connectionProvider_withDefaults() {
+    var config = new MxClientConfig(new MxClientProperties());
+
+    assertEquals(MxClientConfig.CONNECTION_PROVIDER_NAME, config.getConnectionProvider().name());
+    assertEquals(ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS, config.getConnectionProvider().maxConnections());
+    assertNull(config.getLoopResources());
+    assertNotNull(config.getMxClientBuilder());
+
+    config.close();
+    assertTrue(config.getConnectionProvider().isDisposed());
+  }
+
+  @Test
+  void connectionProvider_withCustomProperties() {
+    var props = new MxClientProperties();
+    props.setMaxConnections(16);
+    props.setPendingAcquireMaxCount(32);
+    props.setPendingAcquireTimeoutMillis(1_000L);
+    props.setMaxIdleTimeMillis(20_000L);
+    props.setMaxLifeTimeMillis(300_000L);
+    props.setHttp2(true);
+    props.setCompression(true);
+    props.setEventLoopThreads(2);
+
+    var config = new MxClientConfig(props);
+
+    assertEquals(16, config.getConnectionProvider().maxConnections());
+    assertNotNull(config.getLoopResources());
+
+    config.close();
+    assertTrue(config.getLoopResources().isDisposed());
+  }
+
+  @Test
+  void connectionProvider_withMetrics() {
+    var metrics = new MxMicrometerClientMetrics(new SimpleMeterRegistry());
+    var config = new MxClientConfig(new MxClientProperties(), metrics);
+
+    assertSame(metrics, config.getMetrics());
+    assertNull(new MxClientConfig(new MxClientProperties()).getMetrics());
+
+    config.close();
+  }
+
+  @Test
+  void invalidProxyUrl() {
+    var props = new MxClientProperties();
+    props.setCustomProxyUrl("invalid url");
+
+    assertThrows(InvalidProxyUrlException.class, () -> new MxClientConfig(props));
+  }
+}
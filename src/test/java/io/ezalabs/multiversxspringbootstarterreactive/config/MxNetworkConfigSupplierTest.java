@@ -0,0 +1,184 @@
+package io.ezalabs.multiversxspringbootstarterreactive.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.NetworkConfig;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.ShardStatus;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.BlockConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.network.MxNetworkInteractor;
+import io.ezalabs.multiversxspringbootstarterreactive.util.GasUtils;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.PayloadData;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class MxNetworkConfigSupplierTest {
+
+  @Mock
+  MxNetworkInteractor networkInteractor;
+
+  VirtualTimeScheduler scheduler;
+  MxNetworkConfigSupplier supplier;
+  NetworkConfig defaults;
+
+  @BeforeEach
+  void setUp() {
+    defaults = MxNetworkConfigSupplier.getConfig();
+    scheduler = VirtualTimeScheduler.create();
+    supplier = new MxNetworkConfigSupplier(networkInteractor, Duration.ofMinutes(10), Duration.ofSeconds(30),
+        scheduler);
+  }
+
+  @AfterEach
+  void tearDown() {
+    supplier.close();
+    supplier.update(defaults);
+  }
+
+  @Test
+  void sync_refreshesOnEpochChange() {
+    var changes = new ArrayList<NetworkConfig>();
+    supplier.changes().subscribe(changes::add);
+
+    when(networkInteractor.getNetworkConfig())
+        .thenReturn(Mono.just(config(1500L)))
+        .thenReturn(Mono.just(config(2000L)));
+    when(networkInteractor.getShardStatus(BlockConstants.METACHAIN_SHARD_ID))
+        .thenReturn(Mono.just(status(10)))
+        .thenReturn(Mono.just(status(10)))
+        .thenReturn(Mono.just(status(11)));
+
+    supplier.sync();
+    assertEquals(1500L, MxNetworkConfigSupplier.getConfig().getGasPerDataByte());
+
+    scheduler.advanceTimeBy(Duration.ofSeconds(60));
+    assertEquals(1500L, MxNetworkConfigSupplier.getConfig().getGasPerDataByte());
+
+    scheduler.advanceTimeBy(Duration.ofSeconds(30));
+    assertEquals(2000L, MxNetworkConfigSupplier.getConfig().getGasPerDataByte());
+    assertEquals(BigInteger.valueOf(50_000L + 2_000L * 4), GasUtils.computeGasCost(PayloadData.fromString("test")));
+
+    assertEquals(3, changes.size());
+    assertEquals(defaults, changes.get(0));
+    assertEquals(config(2000L), changes.get(2));
+    verify(networkInteractor, times(2)).getNetworkConfig();
+  }
+
+  @Test
+  void sync_refreshesPeriodically() {
+    when(networkInteractor.getNetworkConfig())
+        .thenReturn(Mono.error(new IllegalStateException("unavailable")))
+        .thenReturn(Mono.just(config(1500L)))
+        .thenReturn(Mono.just(config(1500L)));
+    when(networkInteractor.getShardStatus(BlockConstants.METACHAIN_SHARD_ID))
+        .thenReturn(Mono.error(new IllegalStateException("unavailable")))
+        .thenReturn(Mono.just(status(10)));
+
+    supplier.sync();
+    assertEquals(defaults, MxNetworkConfigSupplier.getConfig());
+
+    scheduler.advanceTimeBy(Duration.ofSeconds(60));
+    assertEquals(config(1500L), MxNetworkConfigSupplier.getConfig());
+    verify(networkInteractor, times(2)).getNetworkConfig();
+
+    scheduler.advanceTimeBy(Duration.ofMinutes(10));
+    verify(networkInteractor, times(3)).getNetworkConfig();
+  }
+
+  @Test
+  void sync_retriesFailedEpochRefresh() {
+    when(networkInteractor.getNetworkConfig())
+        .thenReturn(Mono.just(config(1500L)))
+        .thenReturn(Mono.error(new IllegalStateException("unavailable")))
+        .thenReturn(Mono.just(config(2000L)));
+    when(networkInteractor.getShardStatus(BlockConstants.METACHAIN_SHARD_ID))
+        .thenReturn(Mono.just(status(10)))
+        .thenReturn(Mono.just(status(11)));
+
+    supplier.sync();
+    scheduler.advanceTimeBy(Duration.ofSeconds(60));
+    assertEquals(config(1500L), MxNetworkConfigSupplier.getConfig());
+
+    scheduler.advanceTimeBy(Duration.ofSeconds(30));
+    assertEquals(config(2000L), MxNetworkConfigSupplier.getConfig());
+    verify(networkInteractor, times(3)).getNetworkConfig();
+
+    scheduler.advanceTimeBy(Duration.ofSeconds(30));
+    verify(networkInteractor, times(3)).getNetworkConfig();
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void sync_updatesDeprecatedConfig() {
+    when(networkInteractor.getNetworkConfig()).thenReturn(Mono.just(config(1500L)));
+
+    supplier.sync();
+
+    assertEquals(config(1500L), MxNetworkConfigSupplier.config);
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void getConfig_returnsAssignedDeprecatedConfig() {
+    when(networkInteractor.getNetworkConfig())
+        .thenReturn(Mono.just(config(1500L)))
+        .thenReturn(Mono.just(config(2000L)));
+    when(networkInteractor.getShardStatus(BlockConstants.METACHAIN_SHARD_ID))
+        .thenReturn(Mono.just(status(10)))
+        .thenReturn(Mono.just(status(11)));
+
+    MxNetworkConfigSupplier.config = config(1000L);
+    assertEquals(config(1000L), MxNetworkConfigSupplier.getConfig());
+    assertEquals(BigInteger.valueOf(50_000L + 1_000L * 4), GasUtils.computeGasCost(PayloadData.fromString("test")));
+
+    supplier.sync();
+    assertEquals(config(1500L), MxNetworkConfigSupplier.getConfig());
+
+    MxNetworkConfigSupplier.config = config(1200L);
+    assertEquals(config(1200L), MxNetworkConfigSupplier.getConfig());
+
+    scheduler.advanceTimeBy(Duration.ofSeconds(60));
+    assertEquals(config(2000L), MxNetworkConfigSupplier.getConfig());
+    assertEquals(config(2000L), MxNetworkConfigSupplier.config);
+  }
+
+  @Test
+  void sync_withoutRefresh() {
+    supplier = new MxNetworkConfigSupplier(networkInteractor, Duration.ZERO, Duration.ZERO, scheduler);
+    when(networkInteractor.getNetworkConfig()).thenReturn(Mono.just(config(1500L)));
+
+    supplier.sync();
+    scheduler.advanceTimeBy(Duration.ofHours(1));
+
+    assertEquals(config(1500L), MxNetworkConfigSupplier.getConfig());
+    verify(networkInteractor).getNetworkConfig();
+  }
+
+  private static NetworkConfig config(long gasPerDataByte) {
+    return NetworkConfig.builder()
+        .chainId("T")
+        .gasPerDataByte(gasPerDataByte)
+        .minGasLimit(BigInteger.valueOf(50_000L))
+        .minGasPrice(BigInteger.valueOf(1_000_000_000L))
+        .minTransactionVersion(1)
+        .roundDuration(6_000L)
+        .build();
+  }
+
+  private static ShardStatus status(long epoch) {
+    return ShardStatus.builder().epochNumber(epoch).build();
+  }
+
+}
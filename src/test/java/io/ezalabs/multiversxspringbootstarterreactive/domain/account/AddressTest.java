@@ -3,7 +3,11 @@ package io.ezalabs.multiversxspringbootstarterreactive.domain.account;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.ezalabs.multiversxspringbootstarterreactive.config.constants.AddressConstants;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.CannotDecodeBech32AddressException;
@@ -27,6 +31,14 @@ class AddressTest {
   void fromBech32() {
     Assertions.assertDoesNotThrow(() -> Address.fromBech32(bech32));
     assertThrows(CannotDecodeBech32AddressException.class, () -> Address.fromBech32(bech32.concat("123")));
+    assertThrows(CannotDecodeBech32AddressException.class, () -> Address.fromBech32(null));
+  }
+
+  @Test
+  void isSmartContract() {
+    assertFalse(Address.fromBech32(bech32).isSmartContract());
+    assertTrue(Address.fromHex("000000000000000005001e2a1428dd1e3a5146b3960d9e0f4a50369904ee5483").isSmartContract());
+    assertTrue(Address.zero().isSmartContract());
   }
 
   @Test
@@ -51,4 +63,58 @@ class AddressTest {
   void zero() {
     assertEquals(AddressConstants.ZERO_PUBKEY_STRING, Address.zero().getHex());
   }
-}
\ No newline at end of file
+
+  @Test
+  void fromPublicKey() {
+    var publicKey = Hex.decode(hexPublicKey);
+    var address = Address.fromPublicKey(publicKey);
+    publicKey[0] = 0;
+
+    assertEquals(bech32, address.getBech32());
+    assertEquals(hexPublicKey, address.getHex());
+    assertThrows(InvalidHexValueException.class, () -> Address.fromPublicKey(new byte[31]));
+    assertThrows(InvalidHexValueException.class, () -> Address.fromPublicKey(null));
+  }
+
+  @Test
+  void fromBech32_uppercase() {
+    var address = Address.fromBech32(bech32.toUpperCase());
+
+    assertEquals(bech32, address.getBech32());
+  }
+
+  @Test
+  void publicKey_isCopied() {
+    var address = Address.fromHex(hexPublicKey);
+    address.getPublicKey()[0] = 0;
+
+    assertEquals(hexPublicKey, address.getHex());
+  }
+
+  @Test
+  void equalsAndHashCode() {
+    var fromHex = Address.fromHex(hexPublicKey);
+    var fromBech32 = Address.fromBech32(bech32);
+
+    assertEquals(fromHex, fromBech32);
+    assertEquals(fromHex.hashCode(), fromBech32.hashCode());
+    assertNotEquals(fromHex, Address.zero());
+    assertNotEquals(fromHex, bech32);
+    assertEquals(bech32, fromHex.toString());
+  }
+
+  @Test
+  void intern() {
+    var first = Address.fromHex(hexPublicKey).intern();
+    var second = Address.fromBech32(bech32).intern();
+
+    assertSame(first, second);
+  }
+
+  @Test
+  void isZero() {
+    assertTrue(Address.zero().isZero());
+    assertTrue(Address.fromHex(AddressConstants.ZERO_PUBKEY_STRING).isZero());
+    assertFalse(Address.fromHex(hexPublicKey).isZero());
+  }
+}
@@ -1,6 +1,7 @@
 package io.ezalabs.multiversxspringbootstarterreactive.domain.smartcontract;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigInteger;
@@ -26,4 +27,12 @@ class FunctionArgTest {
     assertThrows(IllegalArgumentException.class, () -> FunctionArg.fromNumber(BigInteger.valueOf(-1L)));
   }
 
-}
\ No newline at end of file
+  @Test
+  void equalsAndHashCode() {
+    assertEquals(FunctionArg.fromString("token"), FunctionArg.fromString(" token"));
+    assertEquals(FunctionArg.fromString("token").hashCode(), FunctionArg.fromString("token ").hashCode());
+    assertEquals(FunctionArg.fromNumber(BigInteger.TEN), FunctionArg.fromNumber(BigInteger.TEN));
+    assertNotEquals(FunctionArg.fromNumber(BigInteger.TEN), FunctionArg.fromString("10"));
+  }
+
+}
@@ -14,9 +14,11 @@ class GasTest {
     var expected = BigInteger.TEN;
 
     assertEquals(expected, GasLimit.fromNumber(BigInteger.TEN).getValue());
+    assertEquals(expected, GasLimit.fromNumber(10L).getValue());
     assertEquals(expected, GasPrice.fromNumber(BigInteger.TEN).getValue());
 
     assertThrows(NegativeGasException.class, () -> GasLimit.fromNumber(new BigInteger("-5000")));
+    assertThrows(NegativeGasException.class, () -> GasLimit.fromNumber(-5000L));
     assertThrows(NegativeGasException.class, () -> GasPrice.fromNumber(new BigInteger("-5000")));
   }
 
@@ -0,0 +1,97 @@
+package io.ezalabs.multiversxspringbootstarterreactive.domain.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ezalabs.multiversxspringbootstarterreactive.config.JsonMapper;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.common.Balance;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.common.Nonce;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.ResourceUtils;
+
+class SendableJsonWriterTest {
+
+  String senderAddress = "erd1h7r2m9c250yncguz3zwq5na6gu5ttwz3vdx40nxkthxaak5v3wcqtpkvkj";
+  String receiverAddress = "erd1gklqdv77my5y8n75hszv737gq54q9xk0tmzdh8v5vkfstd64aw7ser9nfr";
+  String signature = "638b94dd2ee6c2e6abc51e393836bc849d8fd3db9cd4d86f1f62a359b8e61fc45dc712d74616e47088d0f1b538faba7aa44fa652be8b9150573c8c946ba1df06";
+
+  @Test
+  void serializeForSigning_matchesGoldenFile() throws IOException {
+    var golden = Files.readAllLines(ResourceUtils.getFile("classpath:transaction-signing-golden.txt").toPath());
+    var transactions = goldenTransactions();
+
+    assertEquals(golden.size(), transactions.size());
+    for (int i = 0; i < golden.size(); i++) {
+      var expected = golden.get(i).getBytes(StandardCharsets.UTF_8);
+      var transaction = transactions.get(i);
+
+      assertArrayEquals(expected, transaction.serializeForSigning());
+      assertArrayEquals(JsonMapper.serializeToJsonBuffer(transaction.toSendable()), transaction.serializeForSigning());
+    }
+  }
+
+  @Test
+  void writeString_escapesLikeJackson() throws JsonProcessingException {
+    var mapper = new ObjectMapper();
+
+    for (var value : List.of("plain", "quote\"d", "back\\slash", "tab\tnew\nline", "\u0001ctrl",
+        "\u00fcn\u00efc\u00f6d\u00e9 \u20ac", "\ud83d\ude00")) {
+      var sendable = mock(Transaction.Sendable.class, invocation -> null);
+      doReturn(value).when(sendable).getChainId();
+
+      var expected = "{\"chainID\":" + mapper.writeValueAsString(value) + "}";
+      assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), new SendableJsonWriter().write(sendable));
+    }
+  }
+
+  private List<Transaction> goldenTransactions() {
+    var transactions = new ArrayList<Transaction>();
+    transactions.add(new Transaction());
+
+    var withData = baseTransaction();
+    transactions.add(withData);
+
+    var estimation = baseTransaction();
+    estimation.setIsEstimation(true);
+    transactions.add(estimation);
+
+    var esdtTransfer = baseTransaction();
+    esdtTransfer.setVersion(TransactionVersion.withTransactionHashSignVersion());
+    esdtTransfer.setChainID(ChainID.fromString("1"));
+    esdtTransfer.setNonce(Nonce.fromLong(123456789L));
+    esdtTransfer.setPayloadData(PayloadData.fromString("ESDTTransfer@4d45582d343535633537@0de0b6b3a7640000"));
+    transactions.add(esdtTransfer);
+
+    var signed = baseTransaction();
+    signed.setVersion(TransactionVersion.withTransactionHashSignVersion());
+    signed.setChainID(ChainID.fromString("1"));
+    signed.setNonce(Nonce.fromLong(123456789L));
+    signed.setPayloadData(PayloadData.fromString("ESDTTransfer@4d45582d343535633537@0de0b6b3a7640000"));
+    signed.applySignature(Signature.fromHex(signature));
+    transactions.add(signed);
+
+    return transactions;
+  }
+
+  private Transaction baseTransaction() {
+    var transaction = new Transaction();
+    transaction.setNonce(Nonce.fromLong(1L));
+    transaction.setChainID(ChainID.fromString("D"));
+    transaction.setValue(Balance.fromString("5100000000000000000"));
+    transaction.setSender(Address.fromBech32(senderAddress));
+    transaction.setReceiver(Address.fromBech32(receiverAddress));
+    transaction.setPayloadData(PayloadData.fromString("crldev x elrond"));
+    return transaction;
+  }
+
+}
@@ -1,7 +1,9 @@
 package io.ezalabs.multiversxspringbootstarterreactive.domain.transaction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.InvalidTransactionStatusException;
 import org.junit.jupiter.api.Test;
@@ -20,4 +22,13 @@ class TransactionStatusTest {
   void error() {
     assertThrows(InvalidTransactionStatusException.class, () -> TransactionStatus.fromString("unrecognized"));
   }
-}
\ No newline at end of file
+
+  @Test
+  void isFinal() {
+    assertTrue(TransactionStatus.SUCCESS.isFinal());
+    assertTrue(TransactionStatus.FAIL.isFinal());
+    assertTrue(TransactionStatus.INVALID.isFinal());
+    assertFalse(TransactionStatus.PENDING.isFinal());
+    assertFalse(TransactionStatus.UNKNOWN.isFinal());
+  }
+}
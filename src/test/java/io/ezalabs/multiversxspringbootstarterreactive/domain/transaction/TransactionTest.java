@@ -67,11 +67,11 @@ class TransactionTest {
 
   private void verifyDefaults(Transaction transaction) {
     assertEquals(0L, (long) transaction.getNonce().getValue());
-    assertEquals(MxNetworkConfigSupplier.config.getChainId(), transaction.getChainID().getValue());
+    assertEquals(MxNetworkConfigSupplier.getConfig().getChainId(), transaction.getChainID().getValue());
     assertEquals(AddressConstants.ZERO_PUBKEY_STRING, transaction.getSender().getHex());
     assertEquals(AddressConstants.ZERO_PUBKEY_STRING, transaction.getReceiver().getHex());
-    assertEquals(MxNetworkConfigSupplier.config.getMinGasPrice(), transaction.getGasPrice().getValue());
-    assertEquals(MxNetworkConfigSupplier.config.getMinGasLimit(), transaction.getGasLimit().getValue());
+    assertEquals(MxNetworkConfigSupplier.getConfig().getMinGasPrice(), transaction.getGasPrice().getValue());
+    assertEquals(MxNetworkConfigSupplier.getConfig().getMinGasLimit(), transaction.getGasLimit().getValue());
     assertTrue(transaction.getPayloadData().isEmpty());
     assertEquals(TransactionConstants.TRANSACTION_VERSION_DEFAULT, transaction.getVersion().getValue());
     assertTrue(transaction.getSignature().isEmpty());
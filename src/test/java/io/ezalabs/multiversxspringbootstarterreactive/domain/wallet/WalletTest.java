@@ -2,6 +2,7 @@ package io.ezalabs.multiversxspringbootstarterreactive.domain.wallet;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
@@ -10,6 +11,8 @@ import io.ezalabs.multiversxspringbootstarterreactive.error.exception.PrivateKey
 import java.io.File;
 import java.io.FileInputStream;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -18,6 +21,7 @@ import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.util.ResourceUtils;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.common.Nonce;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.Transaction;
 
 class WalletTest {
@@ -34,6 +38,14 @@ class WalletTest {
     assertEquals(publicKeyHex, wallet.getPublicKeyHex());
   }
 
+  @Test
+  void getAddress_isPrecomputed() {
+    var wallet = Wallet.fromPrivateKeyHex(privateKeyHex);
+
+    assertSame(wallet.getAddress(), wallet.getAddress());
+    assertEquals(publicKeyHex, wallet.getAddress().getHex());
+  }
+
   @Test
   void fromPrivateKeyHex_sizeException() {
     assertThrows(PrivateKeyHexSizeException.class, () -> Wallet.fromPrivateKeyHex(privateKeyHex.concat("1")));
@@ -115,4 +127,46 @@ class WalletTest {
     wallet.sign(signable);
   }
 
-}
\ No newline at end of file
+  @Test
+  void sign_reusesSignerAcrossSignatures() {
+    var wallet = Wallet.fromPrivateKeyHex(privateKeyHex);
+
+    var first = new Transaction();
+    var second = new Transaction();
+    wallet.sign(first);
+    wallet.sign(second);
+
+    assertEquals(first.getSignature().getHex(), second.getSignature().getHex());
+  }
+
+  @Test
+  void signAll() {
+    var wallet = Wallet.fromPrivateKeyHex(privateKeyHex);
+
+    var small = transactions(3);
+    var large = transactions(100);
+    wallet.signAll(small);
+    wallet.signAll(large);
+
+    var expected = transactions(100);
+    expected.forEach(wallet::sign);
+
+    for (int i = 0; i < small.size(); i++) {
+      assertEquals(expected.get(i).getSignature().getHex(), small.get(i).getSignature().getHex());
+    }
+    for (int i = 0; i < large.size(); i++) {
+      assertEquals(expected.get(i).getSignature().getHex(), large.get(i).getSignature().getHex());
+    }
+  }
+
+  private List<Transaction> transactions(int count) {
+    return LongStream.range(0, count)
+        .mapToObj(nonce -> {
+          var transaction = new Transaction();
+          transaction.setNonce(Nonce.fromLong(nonce));
+          return transaction;
+        })
+        .collect(Collectors.toList());
+  }
+
+}
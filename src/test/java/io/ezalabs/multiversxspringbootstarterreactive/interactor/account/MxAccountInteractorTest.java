@@ -1,6 +1,21 @@
 package io.ezalabs.multiversxspringbootstarterreactive.interactor.account;
 
+import static java.lang.String.format;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
 
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountBalance;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountNonce;
@@ -8,16 +23,31 @@ import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountOnNetwork
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountStorageValue;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionForAddress;
 import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.AddressConstants;
 import io.ezalabs.multiversxspringbootstarterreactive.config.constants.CurrencyConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.DeserializationException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ResponseException;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.Helper;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
@@ -160,4 +190,256 @@ class MxAccountInteractorTest {
         }, HttpMethod.GET);
   }
 
-}
\ No newline at end of file
+  @Test
+  void streamStorage() {
+    var body = "{\"data\":{\"blockInfo\":{\"nonce\":10,\"hash\":\"abcd\"},"
+        + "\"pairs\":{\"6b657931\":\"76616c756531\",\"6b657932\":\"76616c756532\",\"6f74686572\":\"\"}},"
+        + "\"error\":\"\",\"code\":\"successful\"}";
+    mockStream(body, 7);
+
+    StepVerifier.create(accountInteractor.streamStorage(address))
+        .expectNext(Map.entry("6b657931", "76616c756531"))
+        .expectNext(Map.entry("6b657932", "76616c756532"))
+        .expectNext(Map.entry("6f74686572", ""))
+        .verifyComplete();
+  }
+
+  @Test
+  void streamStorage_withPrefix() {
+    var body = "{\"data\":{\"pairs\":{\"6b657931\":\"76616c756531\",\"6f74686572\":\"01\"}},"
+        + "\"code\":\"successful\"}";
+    mockStream(body, 3);
+
+    StepVerifier.create(accountInteractor.streamStorage(address, "6B65"))
+        .expectNext(Map.entry("6b657931", "76616c756531"))
+        .verifyComplete();
+  }
+
+  @Test
+  void streamStorageBytes() {
+    var body = "{\"code\":\"successful\",\"data\":{\"pairs\":{\"6b657931\":\"76616c756531\",\"6f74686572\":\"01\"}}}";
+    mockStream(body, 1024);
+
+    StepVerifier.create(accountInteractor.streamStorageBytes(address, "key".getBytes()))
+        .assertNext(r -> {
+          assertEquals("key1", new String(r.getKey()));
+          assertEquals("value1", new String(r.getValue()));
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  void streamStorageBytes_withoutPrefix() {
+    var body = "{\"code\":\"successful\",\"data\":{\"pairs\":{\"6b657931\":\"76616c756531\",\"6f74686572\":\"01\"}}}";
+    mockStream(body, 1024);
+
+    StepVerifier.create(accountInteractor.streamStorageBytes(address, null).map(r -> new String(r.getKey())))
+        .expectNext("key1", "other")
+        .verifyComplete();
+  }
+
+  @Test
+  void streamStorage_defaultFiltersStorage() {
+    var defaultInteractor = mock(MxAccountInteractor.class, CALLS_REAL_METHODS);
+    doReturn(Mono.just(Map.of("6b657931", "76616c756531", "6f74686572", "01")))
+        .when(defaultInteractor).getStorage(address);
+
+    StepVerifier.create(defaultInteractor.streamStorageBytes(address, "key".getBytes()))
+        .assertNext(r -> {
+          assertEquals("key1", new String(r.getKey()));
+          assertEquals("value1", new String(r.getValue()));
+        })
+        .verifyComplete();
+    StepVerifier.create(defaultInteractor.streamStorage(address, "6F"))
+        .expectNext(Map.entry("6f74686572", "01"))
+        .verifyComplete();
+    StepVerifier.create(defaultInteractor.streamStorage(address).map(Map.Entry::getKey).collect(Collectors.toSet()))
+        .expectNext(Set.of("6b657931", "6f74686572"))
+        .verifyComplete();
+    StepVerifier.create(defaultInteractor.streamStorageBytes(address, null))
+        .expectNextCount(2)
+        .verifyComplete();
+  }
+
+  @Test
+  void streamStorage_emitsEntriesBeforeUnsuccessfulCode() {
+    mockStream("{\"data\":{\"pairs\":{\"6b657931\":\"01\"}},\"code\":\"internal_issue\"}", 5);
+
+    StepVerifier.create(accountInteractor.streamStorage(address))
+        .expectNext(Map.entry("6b657931", "01"))
+        .verifyError(ResponseException.class);
+  }
+
+  @Test
+  void streamStorage_errorResponse() {
+    mockStream("{\"data\":null,\"error\":\"cannot get storage\",\"code\":\"internal_issue\"}", 5);
+
+    StepVerifier.create(accountInteractor.streamStorage(address))
+        .verifyErrorMessage("cannot get storage");
+
+    mockStream("{\"data\":{\"pairs\":[\"a\"]},\"code\":\"internal_issue\"}", 5);
+
+    StepVerifier.create(accountInteractor.streamStorage(address))
+        .verifyError(ResponseException.class);
+  }
+
+  @Test
+  void streamStorage_malformedResponse() {
+    mockStream("{\"data\":{\"pairs\":{\"6b\" 1}}}", 4);
+
+    StepVerifier.create(accountInteractor.streamStorage(address))
+        .verifyError(DeserializationException.class);
+  }
+
+  @Test
+  void getAccounts_bulkDeduplicatedInOrder() {
+    var addresses = addresses(5);
+    var accounts = new HashMap<String, AccountOnNetwork>();
+    addresses.forEach(a -> accounts.put(a.getBech32(), account(a)));
+
+    when(client.post(eq(ApiResourceURI.ACCOUNTS_BULK.getURI()), any(),
+        eq(WrappedResponses.GetAccountsBulkWrapper.class)))
+        .thenReturn(Mono.just(WrappedResponses.GetAccountsBulkWrapper.builder().accounts(accounts).build()));
+
+    var input = Flux.fromIterable(addresses).concatMap(a -> Flux.just(a, a));
+    var options = AccountBatchOptions.builder().batchSize(4).concurrency(3).build();
+
+    StepVerifier.create(accountInteractor.getAccounts(input, options).map(AccountOnNetwork::getAddress))
+        .expectNextSequence(addresses.stream().map(Address::getBech32).toList())
+        .verifyComplete();
+
+    verify(client, times(3)).post(eq(ApiResourceURI.ACCOUNTS_BULK.getURI()), any(), any());
+    verify(client, never()).get(anyString(), any());
+  }
+
+  @Test
+  void getAccounts_fallsBackToSingleQueries() {
+    var addresses = addresses(3);
+    var found = Map.of(addresses.get(1).getBech32(), account(addresses.get(1)));
+
+    when(client.post(eq(ApiResourceURI.ACCOUNTS_BULK.getURI()), any(),
+        eq(WrappedResponses.GetAccountsBulkWrapper.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("404 page not found", null, 404)))
+        .thenReturn(Mono.just(WrappedResponses.GetAccountsBulkWrapper.builder().accounts(found).build()));
+    when(client.get(anyString(), eq(WrappedResponses.GetAccountWrapper.class)))
+        .thenAnswer(invocation -> {
+          var bech32 = invocation.getArgument(0, String.class).substring("address/".length());
+          return Mono.just(WrappedResponses.GetAccountWrapper.builder()
+              .account(account(Address.fromBech32(bech32)))
+              .build());
+        });
+
+    var options = AccountBatchOptions.builder().batchSize(2).concurrency(1).build();
+
+    StepVerifier.create(accountInteractor.getAccounts(Flux.fromIterable(addresses), options)
+            .map(AccountOnNetwork::getAddress))
+        .expectNextSequence(addresses.stream().map(Address::getBech32).toList())
+        .verifyComplete();
+
+    verify(client, times(1)).post(eq(ApiResourceURI.ACCOUNTS_BULK.getURI()), any(), any());
+    verify(client, times(3)).get(anyString(), eq(WrappedResponses.GetAccountWrapper.class));
+  }
+
+  @Test
+  void getAccounts_propagatesBulkErrors() {
+    when(client.post(eq(ApiResourceURI.ACCOUNTS_BULK.getURI()), any(),
+        eq(WrappedResponses.GetAccountsBulkWrapper.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("internal error", null, 500)));
+
+    StepVerifier.create(accountInteractor.getAccounts(Flux.fromIterable(addresses(3))))
+        .expectErrorMessage("internal error")
+        .verify();
+
+    verify(client, never()).get(anyString(), any());
+  }
+
+  @Test
+  void getAccounts_unordered() {
+    var addresses = addresses(4);
+
+    when(client.post(eq(ApiResourceURI.ACCOUNTS_BULK.getURI()), any(),
+        eq(WrappedResponses.GetAccountsBulkWrapper.class)))
+        .thenAnswer(invocation -> {
+          List<String> batch = invocation.getArgument(1);
+          var accounts = new HashMap<String, AccountOnNetwork>();
+          batch.forEach(bech32 -> accounts.put(bech32, account(Address.fromBech32(bech32))));
+          return Mono.just(WrappedResponses.GetAccountsBulkWrapper.builder().accounts(accounts).build());
+        });
+
+    var options = AccountBatchOptions.builder().batchSize(3).ordered(false).build();
+
+    StepVerifier.create(accountInteractor.getAccounts(Flux.fromIterable(addresses), options)
+            .map(AccountOnNetwork::getAddress)
+            .collectList())
+        .assertNext(r -> assertEquals(
+            addresses.stream().map(Address::getBech32).collect(Collectors.toSet()), Set.copyOf(r)))
+        .verifyComplete();
+  }
+
+  @Test
+  void getAccounts_defaultOptions() {
+    when(client.post(eq(ApiResourceURI.ACCOUNTS_BULK.getURI()), any(),
+        eq(WrappedResponses.GetAccountsBulkWrapper.class)))
+        .thenReturn(Mono.just(WrappedResponses.GetAccountsBulkWrapper.builder()
+            .accounts(Map.of(address.getBech32(), account(address)))
+            .build()));
+
+    StepVerifier.create(accountInteractor.getAccounts(Flux.just(address)))
+        .assertNext(r -> assertEquals(address.getBech32(), r.getAddress()))
+        .verifyComplete();
+  }
+
+  @Test
+  void getAccounts_defaultQueriesOneByOne() {
+    var addresses = addresses(3);
+    var defaultInteractor = mock(MxAccountInteractor.class, CALLS_REAL_METHODS);
+    doAnswer(invocation -> Mono.just(account(invocation.getArgument(0))))
+        .when(defaultInteractor).getAccountInfo(any());
+
+    StepVerifier.create(defaultInteractor.getAccounts(Flux.fromIterable(addresses)).map(AccountOnNetwork::getAddress))
+        .expectNextSequence(addresses.stream().map(Address::getBech32).toList())
+        .verifyComplete();
+    StepVerifier.create(defaultInteractor.getAccounts(Flux.fromIterable(addresses),
+                AccountBatchOptions.builder().ordered(false).build())
+            .map(AccountOnNetwork::getAddress)
+            .collect(Collectors.toSet()))
+        .assertNext(r -> assertEquals(addresses.stream().map(Address::getBech32).collect(Collectors.toSet()), r))
+        .verifyComplete();
+    verify(defaultInteractor, times(6)).getAccountInfo(any());
+  }
+
+  @Test
+  void accountBatchOptions_invalid() {
+    assertThrows(IllegalArgumentException.class, () -> AccountBatchOptions.builder().batchSize(0).build());
+    assertThrows(IllegalArgumentException.class, () -> AccountBatchOptions.builder().concurrency(-1).build());
+  }
+
+  private void mockStream(String body, int chunkSize) {
+    var bytes = body.getBytes(StandardCharsets.UTF_8);
+    var chunks = IntStream.iterate(0, i -> i < bytes.length, i -> i + chunkSize)
+        .mapToObj(i -> (DataBuffer) DefaultDataBufferFactory.sharedInstance
+            .wrap(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + chunkSize))))
+        .toList();
+
+    when(client.stream(format(ApiResourceURI.ACCOUNT_STORAGE.getURI(), address.getBech32())))
+        .thenReturn(Flux.fromIterable(chunks));
+  }
+
+  private List<Address> addresses(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> {
+          var publicKey = new byte[AddressConstants.PUBKEY_LENGTH];
+          publicKey[0] = (byte) (i + 1);
+          return Address.fromPublicKey(publicKey);
+        })
+        .toList();
+  }
+
+  private AccountOnNetwork account(Address address) {
+    return AccountOnNetwork.builder()
+        .address(address.getBech32())
+        .nonce(1L)
+        .build();
+  }
+
+}
@@ -1,16 +1,33 @@
 package io.ezalabs.multiversxspringbootstarterreactive.interactor.block;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.Hyperblock;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.ShardBlock;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.ShardStatus;
 import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.BlockConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.Helper;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
 
@@ -90,4 +107,178 @@ class MxBlockInteractorTest {
         }, HttpMethod.GET);
   }
 
-}
\ No newline at end of file
+  @Test
+  void streamHyperblocks_emitsInNonceOrder() {
+    blockInteractor = new MxBlockInteractorImpl(client, Duration.ofSeconds(6), 4);
+    mockTip(BlockConstants.METACHAIN_SHARD_ID, 100L);
+    mockHyperblocks(Duration.ofMillis(20));
+
+    StepVerifier.create(blockInteractor.streamHyperblocks(5, 12L).map(Hyperblock::getNonce))
+        .expectNext(5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L)
+        .verifyComplete();
+  }
+
+  @Test
+  void streamHyperblocks_followsTip() {
+    blockInteractor = new MxBlockInteractorImpl(client, Duration.ofSeconds(6), 2);
+    mockTip(BlockConstants.METACHAIN_SHARD_ID, 6L, 6L, 8L);
+    mockHyperblocks(Duration.ZERO);
+
+    StepVerifier.withVirtualTime(() -> blockInteractor.streamHyperblocks(5, 8L).map(Hyperblock::getNonce))
+        .expectNext(5L, 6L)
+        .expectNoEvent(Duration.ofSeconds(6))
+        .thenAwait(Duration.ofSeconds(6))
+        .expectNext(7L, 8L)
+        .verifyComplete();
+
+    verify(client, times(3)).get(eq("network/status/" + BlockConstants.METACHAIN_SHARD_ID),
+        eq(WrappedResponses.GetShardStatusResponse.class));
+  }
+
+  @Test
+  void streamHyperblocks_appliesBackpressure() {
+    blockInteractor = new MxBlockInteractorImpl(client, Duration.ofSeconds(6), 4);
+    mockTip(BlockConstants.METACHAIN_SHARD_ID, 1_000_000L);
+    mockHyperblocks(Duration.ZERO);
+
+    StepVerifier.create(blockInteractor.streamHyperblocks(1, null).map(Hyperblock::getNonce), 2)
+        .expectNext(1L, 2L)
+        .thenCancel()
+        .verify();
+
+    verify(client, atMost(6)).get(startsWith("hyperblock/by-nonce/"), eq(WrappedResponses.QueryHyperblock.class));
+  }
+
+  @Test
+  void streamHyperblocks_retriesFailedQueries() {
+    blockInteractor = new MxBlockInteractorImpl(client, Duration.ofSeconds(6), 2);
+    mockTip(BlockConstants.METACHAIN_SHARD_ID, 100L);
+    when(client.get("hyperblock/by-nonce/1", WrappedResponses.QueryHyperblock.class))
+        .thenReturn(Mono.error(new ProxyRequestException("block not found")))
+        .thenReturn(Mono.just(hyperblockResponse(1L)));
+
+    StepVerifier.withVirtualTime(() -> blockInteractor.streamHyperblocks(1, 1L).map(Hyperblock::getNonce))
+        .thenAwait(Duration.ofSeconds(10))
+        .expectNext(1L)
+        .verifyComplete();
+  }
+
+  @Test
+  void streamHyperblocks_retriesFailedTipPoll() {
+    blockInteractor = new MxBlockInteractorImpl(client, Duration.ofSeconds(6), 2);
+    when(client.get("network/status/" + BlockConstants.METACHAIN_SHARD_ID, WrappedResponses.GetShardStatusResponse.class))
+        .thenReturn(Mono.error(new ProxyRequestException("proxy unavailable")))
+        .thenReturn(shardStatusResponse(100L));
+    mockHyperblocks(Duration.ZERO);
+
+    StepVerifier.withVirtualTime(() -> blockInteractor.streamHyperblocks(1, 2L).map(Hyperblock::getNonce))
+        .thenAwait(Duration.ofSeconds(10))
+        .expectNext(1L, 2L)
+        .verifyComplete();
+  }
+
+  @Test
+  void streamHyperblocks_keepsFollowingTipAfterPollFailures() {
+    blockInteractor = new MxBlockInteractorImpl(client, Duration.ofSeconds(6), 2);
+    var polls = new AtomicInteger();
+    when(client.get("network/status/" + BlockConstants.METACHAIN_SHARD_ID, WrappedResponses.GetShardStatusResponse.class))
+        .thenAnswer(invocation -> polls.incrementAndGet() <= 5
+            ? Mono.error(new ProxyRequestException("proxy unavailable"))
+            : shardStatusResponse(1L));
+    mockHyperblocks(Duration.ZERO);
+
+    StepVerifier.withVirtualTime(() -> blockInteractor.streamHyperblocks(1, null).map(Hyperblock::getNonce))
+        .thenAwait(Duration.ofMinutes(1))
+        .expectNext(1L)
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  void streamHyperblocks_failsBoundedRangeWhenTipPollKeepsFailing() {
+    blockInteractor = new MxBlockInteractorImpl(client, Duration.ofSeconds(6), 2);
+    when(client.get("network/status/" + BlockConstants.METACHAIN_SHARD_ID, WrappedResponses.GetShardStatusResponse.class))
+        .thenReturn(Mono.error(new ProxyRequestException("proxy unavailable")));
+
+    StepVerifier.withVirtualTime(() -> blockInteractor.streamHyperblocks(1, 2L))
+        .thenAwait(Duration.ofMinutes(1))
+        .expectError(ProxyRequestException.class)
+        .verify();
+  }
+
+  @Test
+  void defaultStreams_queryBoundedRange() {
+    var interactor = mock(MxBlockInteractor.class, CALLS_REAL_METHODS);
+    doAnswer(invocation -> Mono.just(Hyperblock.builder().nonce(invocation.getArgument(0)).build()))
+        .when(interactor).queryHyperblockByNonce(anyLong());
+    doAnswer(invocation -> Mono.just(ShardBlock.builder().nonce(invocation.getArgument(1)).build()))
+        .when(interactor).queryShardBlockByNonceFromShard(eq(1), anyLong());
+
+    StepVerifier.create(interactor.streamHyperblocks(3, 5L).map(Hyperblock::getNonce))
+        .expectNext(3L, 4L, 5L)
+        .verifyComplete();
+    StepVerifier.create(interactor.streamShardBlocks(1, 7, 8L).map(ShardBlock::getNonce))
+        .expectNext(7L, 8L)
+        .verifyComplete();
+    StepVerifier.create(interactor.streamHyperblocks(3, null))
+        .expectError(UnsupportedOperationException.class)
+        .verify();
+  }
+
+  @Test
+  void streamHyperblocks_emptyRange() {
+    StepVerifier.create(blockInteractor.streamHyperblocks(10, 9L))
+        .verifyComplete();
+  }
+
+  @Test
+  void streamShardBlocks() {
+    blockInteractor = new MxBlockInteractorImpl(client, Duration.ofSeconds(6), 2);
+    mockTip("1", 50L);
+    when(client.get(startsWith("block/1/by-nonce/"), eq(WrappedResponses.QueryBlock.class)))
+        .thenAnswer(invocation -> {
+          var nonce = nonceFromUri(invocation.getArgument(0));
+          return Mono.just(WrappedResponses.QueryBlock.builder()
+              .block(ShardBlock.builder().nonce(nonce).build())
+              .build());
+        });
+
+    StepVerifier.create(blockInteractor.streamShardBlocks(1, 48, 50L).map(ShardBlock::getNonce))
+        .expectNext(48L, 49L, 50L)
+        .verifyComplete();
+  }
+
+  private void mockTip(String shardId, Long tip, Long... nextTips) {
+    var stubbing = when(client.get("network/status/" + shardId, WrappedResponses.GetShardStatusResponse.class))
+        .thenReturn(shardStatusResponse(tip));
+    for (var nextTip : nextTips) {
+      stubbing = stubbing.thenReturn(shardStatusResponse(nextTip));
+    }
+  }
+
+  private Mono<WrappedResponses.GetShardStatusResponse> shardStatusResponse(Long tip) {
+    return Mono.just(WrappedResponses.GetShardStatusResponse.builder()
+        .shardStatus(ShardStatus.builder().highestFinalNonce(tip).build())
+        .build());
+  }
+
+  private void mockHyperblocks(Duration maxDelay) {
+    when(client.get(startsWith("hyperblock/by-nonce/"), eq(WrappedResponses.QueryHyperblock.class)))
+        .thenAnswer(invocation -> {
+          var nonce = nonceFromUri(invocation.getArgument(0));
+          var delay = maxDelay.dividedBy(nonce % 3 + 1);
+          return Mono.just(hyperblockResponse(nonce)).delayElement(delay);
+        });
+  }
+
+  private WrappedResponses.QueryHyperblock hyperblockResponse(Long nonce) {
+    return WrappedResponses.QueryHyperblock.builder()
+        .hyperblock(Hyperblock.builder().nonce(nonce).build())
+        .build();
+  }
+
+  private Long nonceFromUri(String uri) {
+    return Long.parseLong(uri.substring(uri.lastIndexOf('/') + 1));
+  }
+
+}
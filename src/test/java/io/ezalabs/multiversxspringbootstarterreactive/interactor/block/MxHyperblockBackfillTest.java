@@ -0,0 +1,213 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.block;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.Hyperblock;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.BlockConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.BackfillCheckpointException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class MxHyperblockBackfillTest {
+
+  @Mock
+  MxBlockInteractor blockInteractor;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void run_emitsRangeInOrder() throws IOException {
+    mockBlocks();
+    var checkpoint = tempDir.resolve("backfill.checkpoint");
+    var backfill = MxHyperblockBackfill.builder()
+        .blockInteractor(blockInteractor)
+        .fromNonce(100)
+        .toNonce(149)
+        .segmentSize(7)
+        .workers(4)
+        .checkpointFile(checkpoint)
+        .build();
+
+    StepVerifier.create(backfill.run().map(Hyperblock::getNonce))
+        .expectNextSequence(LongStream.rangeClosed(100, 149).boxed().toList())
+        .verifyComplete();
+
+    assertEquals(50, backfill.getProcessedBlocks());
+    assertEquals(149, backfill.getCheckpointNonce());
+    assertEquals("149", Files.readString(checkpoint));
+    assertTrue(backfill.getBlocksPerSecond() > 0);
+  }
+
+  @Test
+  void run_boundsBlocksFetchedAhead() {
+    var fetched = new AtomicInteger();
+    when(blockInteractor.queryHyperblockByNonce(anyLong())).thenAnswer(invocation -> {
+      fetched.incrementAndGet();
+      return Mono.just(Hyperblock.builder().nonce(invocation.getArgument(0)).build());
+    });
+    var backfill = MxHyperblockBackfill.builder()
+        .blockInteractor(blockInteractor)
+        .fromNonce(0)
+        .toNonce(9_999)
+        .segmentSize(1_000)
+        .workers(4)
+        .build();
+
+    StepVerifier.create(backfill.run(), 1)
+        .expectNextCount(1)
+        .thenCancel()
+        .verify();
+
+    assertTrue(fetched.get() <= 5 * (BlockConstants.BACKFILL_PREFETCH + 1), "fetched " + fetched.get());
+  }
+
+  @Test
+  void run_resumesFromCheckpoint() throws IOException {
+    mockBlocks();
+    var checkpoint = tempDir.resolve("backfill.checkpoint");
+    Files.writeString(checkpoint, "104\n");
+
+    var backfill = MxHyperblockBackfill.builder()
+        .blockInteractor(blockInteractor)
+        .fromNonce(100)
+        .toNonce(110)
+        .checkpointFile(checkpoint)
+        .build();
+
+    StepVerifier.create(backfill.run().map(Hyperblock::getNonce))
+        .expectNext(105L, 106L, 107L, 108L, 109L, 110L)
+        .verifyComplete();
+
+    StepVerifier.create(backfill.run()).verifyComplete();
+    assertEquals(0, backfill.getProcessedBlocks());
+  }
+
+  @Test
+  void run_retriesFailedNonces() {
+    var attempts = new AtomicInteger();
+    when(blockInteractor.queryHyperblockByNonce(anyLong())).thenAnswer(invocation -> {
+      long nonce = invocation.getArgument(0);
+      if (nonce == 3 && attempts.getAndIncrement() < 2) {
+        return Mono.error(new ProxyRequestException("timeout"));
+      }
+
+      return Mono.just(Hyperblock.builder().nonce(nonce).build());
+    });
+
+    var backfill = MxHyperblockBackfill.builder()
+        .blockInteractor(blockInteractor)
+        .fromNonce(0)
+        .toNonce(5)
+        .segmentSize(2)
+        .retryBackoff(Duration.ofMillis(1))
+        .build();
+
+    StepVerifier.create(backfill.run().map(Hyperblock::getNonce))
+        .expectNext(0L, 1L, 2L, 3L, 4L, 5L)
+        .verifyComplete();
+
+    assertEquals(2, backfill.getRetries());
+    assertEquals(5, backfill.getCheckpointNonce());
+  }
+
+  @Test
+  void run_failsAfterRetriesAndKeepsCheckpoint() throws IOException {
+    when(blockInteractor.queryHyperblockByNonce(anyLong())).thenAnswer(invocation -> {
+      long nonce = invocation.getArgument(0);
+      return nonce == 4
+          ? Mono.error(new ProxyRequestException("timeout"))
+          : Mono.just(Hyperblock.builder().nonce(nonce).build());
+    });
+
+    var checkpoint = tempDir.resolve("backfill.checkpoint");
+    var backfill = MxHyperblockBackfill.builder()
+        .blockInteractor(blockInteractor)
+        .fromNonce(0)
+        .toNonce(5)
+        .segmentSize(2)
+        .workers(1)
+        .maxRetries(0)
+        .checkpointFile(checkpoint)
+        .build();
+
+    StepVerifier.create(backfill.run().map(Hyperblock::getNonce))
+        .expectNext(0L, 1L, 2L, 3L)
+        .verifyError(ProxyRequestException.class);
+
+    assertEquals("1", Files.readString(checkpoint));
+  }
+
+  @Test
+  void run_deliversBlocksOffTheNetworkThreads() {
+    mockBlocks();
+    var backfill = MxHyperblockBackfill.builder()
+        .blockInteractor(blockInteractor)
+        .fromNonce(0)
+        .toNonce(5)
+        .segmentSize(3)
+        .checkpointFile(tempDir.resolve("backfill.checkpoint"))
+        .build();
+
+    StepVerifier.create(backfill.run()
+            .filter(block -> block.getNonce() == 3)
+            .map(block -> Thread.currentThread().getName()))
+        .assertNext(thread -> assertTrue(thread.startsWith("boundedElastic"), thread))
+        .verifyComplete();
+
+    assertEquals(5, backfill.getCheckpointNonce());
+  }
+
+  @Test
+  void run_withInvalidCheckpoint() throws IOException {
+    var checkpoint = tempDir.resolve("backfill.checkpoint");
+    Files.writeString(checkpoint, "not a nonce");
+
+    var backfill = MxHyperblockBackfill.builder()
+        .blockInteractor(blockInteractor)
+        .fromNonce(0)
+        .toNonce(5)
+        .checkpointFile(checkpoint)
+        .build();
+
+    StepVerifier.create(backfill.run()).verifyError(BackfillCheckpointException.class);
+    verify(blockInteractor, never()).queryHyperblockByNonce(anyLong());
+  }
+
+  @Test
+  void build_withInvalidOptions() {
+    assertThrows(IllegalArgumentException.class, () -> MxHyperblockBackfill.builder()
+        .blockInteractor(blockInteractor).fromNonce(10).toNonce(9).build());
+    assertThrows(IllegalArgumentException.class, () -> MxHyperblockBackfill.builder()
+        .blockInteractor(blockInteractor).fromNonce(0).toNonce(9).workers(0).build());
+    assertThrows(IllegalArgumentException.class, () -> MxHyperblockBackfill.builder()
+        .blockInteractor(blockInteractor).fromNonce(0).toNonce(9).segmentSize(0).build());
+  }
+
+  private void mockBlocks() {
+    when(blockInteractor.queryHyperblockByNonce(anyLong())).thenAnswer(invocation -> {
+      long nonce = invocation.getArgument(0);
+      return Mono.just(Hyperblock.builder().nonce(nonce).build())
+          .delayElement(Duration.ofMillis(nonce % 5));
+    });
+  }
+}
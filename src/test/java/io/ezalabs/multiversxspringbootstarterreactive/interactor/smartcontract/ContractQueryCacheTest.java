@@ -0,0 +1,169 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.smartcontract;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.ShardStatus;
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.BlockConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.smartcontract.ContractQuery;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.smartcontract.FunctionArg;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.smartcontract.FunctionName;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ContractQueryCacheTest {
+
+  ContractQueryCache cache;
+  AtomicLong clock = new AtomicLong(1_000_000_000L);
+  AtomicInteger requests = new AtomicInteger();
+
+  @Mock
+  MxProxyClient client;
+
+  Address scAddress = Address.fromBech32("erd1gklqdv77my5y8n75hszv737gq54q9xk0tmzdh8v5vkfstd64aw7ser9nfr");
+
+  @BeforeEach
+  void setUp() {
+    cache = new ContractQueryCache(client, 100, Duration.ofSeconds(30), Duration.ofSeconds(2), clock::get);
+  }
+
+  @Test
+  void get_sameContents_isCached() {
+    mockNonce(10L);
+
+    StepVerifier.create(cache.get(ApiResourceURI.QUERY_SMART_CONTRACT_INT, query("getValue", 1), String.class,
+            this::request))
+        .expectNext("result-1")
+        .verifyComplete();
+    StepVerifier.create(cache.get(ApiResourceURI.QUERY_SMART_CONTRACT_INT, query("getValue", 1), String.class,
+            this::request))
+        .expectNext("result-1")
+        .verifyComplete();
+
+    assertEquals(10L, cache.getObservedNonce());
+    assertEquals(1, requests.get());
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+  }
+
+  @Test
+  void get_differentContentsOrResource_areNotShared() {
+    mockNonce(10L);
+
+    cache.get(ApiResourceURI.QUERY_SMART_CONTRACT_INT, query("getValue", 1), String.class, this::request).block();
+    cache.get(ApiResourceURI.QUERY_SMART_CONTRACT_INT, query("getValue", 2), String.class, this::request).block();
+    cache.get(ApiResourceURI.QUERY_SMART_CONTRACT_HEX, query("getValue", 1), String.class, this::request).block();
+    cache.get(ApiResourceURI.QUERY_SMART_CONTRACT_INT, query("getOther", 1), String.class, this::request).block();
+
+    assertEquals(4, requests.get());
+    assertEquals(4, cache.getSize());
+  }
+
+  @Test
+  void get_nonceAdvance_invalidates() {
+    when(client.get(format(ApiResourceURI.SHARD_STATUS.getURI(), BlockConstants.METACHAIN_SHARD_ID),
+        WrappedResponses.GetShardStatusResponse.class))
+        .thenReturn(status(10L))
+        .thenReturn(status(11L));
+
+    cache.get(ApiResourceURI.QUERY_SMART_CONTRACT, query("getValue", 1), String.class, this::request).block();
+
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    StepVerifier.create(cache.get(ApiResourceURI.QUERY_SMART_CONTRACT, query("getValue", 1), String.class,
+            this::request))
+        .expectNext("result-1")
+        .verifyComplete();
+
+    clock.addAndGet(Duration.ofSeconds(2).toNanos());
+    StepVerifier.create(cache.get(ApiResourceURI.QUERY_SMART_CONTRACT, query("getValue", 1), String.class,
+            this::request))
+        .expectNext("result-2")
+        .verifyComplete();
+
+    assertEquals(11L, cache.getObservedNonce());
+  }
+
+  @Test
+  void get_expiresAfterTtl() {
+    when(client.get(format(ApiResourceURI.SHARD_STATUS.getURI(), BlockConstants.METACHAIN_SHARD_ID),
+        WrappedResponses.GetShardStatusResponse.class))
+        .thenReturn(Mono.error(new ProxyRequestException("Connection refused")));
+
+    cache.get(ApiResourceURI.QUERY_SMART_CONTRACT, query("getValue", 1), String.class, this::request).block();
+    clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+    StepVerifier.create(cache.get(ApiResourceURI.QUERY_SMART_CONTRACT, query("getValue", 1), String.class,
+            this::request))
+        .expectNext("result-2")
+        .verifyComplete();
+
+    assertEquals(-1L, cache.getObservedNonce());
+    cache.invalidateAll();
+    assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  void get_coalescesConcurrentQueries() {
+    mockNonce(10L);
+    var response = Sinks.<String>one();
+
+    var first = StepVerifier.create(cache.get(ApiResourceURI.QUERY_SMART_CONTRACT, query("getValue", 1),
+            String.class, response::asMono))
+        .expectNext("shared")
+        .expectComplete()
+        .verifyLater();
+    var second = StepVerifier.create(cache.get(ApiResourceURI.QUERY_SMART_CONTRACT, query("getValue", 1),
+            String.class, response::asMono))
+        .expectNext("shared")
+        .expectComplete()
+        .verifyLater();
+
+    response.tryEmitValue("shared");
+    first.verify(Duration.ofSeconds(5));
+    second.verify(Duration.ofSeconds(5));
+
+    assertEquals(1, cache.getCoalesced());
+  }
+
+  private Mono<String> request() {
+    return Mono.fromSupplier(() -> "result-" + requests.incrementAndGet());
+  }
+
+  private void mockNonce(Long nonce) {
+    when(client.get(format(ApiResourceURI.SHARD_STATUS.getURI(), BlockConstants.METACHAIN_SHARD_ID),
+        WrappedResponses.GetShardStatusResponse.class))
+        .thenReturn(status(nonce));
+  }
+
+  private Mono<WrappedResponses.GetShardStatusResponse> status(Long nonce) {
+    return Mono.just(WrappedResponses.GetShardStatusResponse.builder()
+        .shardStatus(ShardStatus.builder().nonce(nonce).build())
+        .build());
+  }
+
+  private ContractQuery query(String function, long arg) {
+    return ContractQuery.builder()
+        .smartContractAddress(Address.fromBech32(scAddress.getBech32()))
+        .functionName(FunctionName.fromString(function))
+        .args(List.of(FunctionArg.fromNumber(BigInteger.valueOf(arg)), FunctionArg.fromString("token")))
+        .build();
+  }
+}
@@ -15,8 +15,11 @@ import io.ezalabs.multiversxspringbootstarterreactive.api.model.ContractQueryRes
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.ContractQueryResultString;
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionHash;
 import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.SmartContractConstants;
 import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ResponseException;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -124,6 +127,57 @@ class MxSmartContractInteractorTest {
         }, HttpMethod.POST);
   }
 
+  @Test
+  void query_withCache() {
+    var queryCache = new ContractQueryCache(client, 100, Duration.ofSeconds(30), Duration.ofDays(1));
+    interactor = new MxSmartContractInteractorImpl(client, tInteractor, queryCache);
+
+    when(client.get(any(), eq(WrappedResponses.GetShardStatusResponse.class))).thenReturn(Mono.empty());
+    when(client.post(any(), any(), eq(ContractQueryResultInt.class)))
+        .thenReturn(Mono.just(ContractQueryResultInt.builder().value(BigInteger.TEN).build()));
+    when(client.post(any(), any(), eq(ContractQueryResultString.class)))
+        .thenReturn(Mono.just(ContractQueryResultString.builder().value("ten").build()));
+
+    for (var i = 0; i < 3; i++) {
+      StepVerifier.create(interactor.queryInt(query))
+          .assertNext(r -> assertEquals(BigInteger.TEN, r.getValue()))
+          .verifyComplete();
+      StepVerifier.create(interactor.queryString(query))
+          .assertNext(r -> assertEquals("ten", r.getValue()))
+          .verifyComplete();
+    }
+
+    verify(client).post(eq(ApiResourceURI.QUERY_SMART_CONTRACT_INT.getURI()), any(), any());
+    verify(client).post(eq(ApiResourceURI.QUERY_SMART_CONTRACT_STRING.getURI()), any(), any());
+    assertEquals(4, queryCache.getHits());
+  }
+
+  @Test
+  void queryAll() {
+    var first = ContractQueryResult.builder().code("ok").data(List.of("first")).build();
+    var second = ContractQueryResult.builder().code("ok").data(List.of("second")).build();
+
+    when(client.post(any(), any(), eq(WrappedResponses.ScQueryResponse.class)))
+        .thenReturn(Mono.delay(Duration.ofMillis(50))
+            .thenReturn(WrappedResponses.ScQueryResponse.builder().result(first).build()))
+        .thenReturn(Mono.error(new ResponseException("unavailable")))
+        .thenReturn(Mono.just(WrappedResponses.ScQueryResponse.builder().result(second).build()))
+        .thenReturn(Mono.empty());
+
+    StepVerifier.create(interactor.queryAll(List.of(query, query, query, query), 2))
+        .assertNext(r -> assertEquals(first, r))
+        .assertNext(r -> {
+          assertEquals(SmartContractConstants.QUERY_FAILED_RETURN_CODE, r.getCode());
+          assertEquals("unavailable", r.getMessage());
+        })
+        .assertNext(r -> assertEquals(second, r))
+        .assertNext(r -> assertEquals(SmartContractConstants.QUERY_FAILED_RETURN_CODE, r.getCode()))
+        .verifyComplete();
+
+    StepVerifier.create(interactor.queryAll(List.of()))
+        .verifyComplete();
+  }
+
   @Test
   void queryHex() {
     var apiResponse = ContractQueryResultHex.builder().value("hexValue").build();
@@ -0,0 +1,245 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.Hyperblock;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.ShardStatus;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionOnNetwork;
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.BlockConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.TransactionTrackingTimeoutException;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.block.MxBlockInteractor;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class MxHyperblockTransactionTrackerTest {
+
+  MxHyperblockTransactionTracker tracker;
+  Sinks.Many<Hyperblock> hyperblocks;
+
+  @Mock
+  MxProxyClient client;
+  @Mock
+  MxBlockInteractor blockInteractor;
+
+  String hash = "699ae03e6f9a18cb8b1f131b061a46a8b7dd96dfa3fe24861f03aa824a462920";
+  Duration timeout = Duration.ofSeconds(5);
+
+  @BeforeEach
+  void setUp() {
+    hyperblocks = Sinks.many().multicast().onBackpressureBuffer();
+    tracker = new MxHyperblockTransactionTracker(client, blockInteractor, 100, Duration.ofMillis(10));
+  }
+
+  @AfterEach
+  void tearDown() {
+    tracker.close();
+  }
+
+  @Test
+  void awaitCompletion_completesFromHyperblock() {
+    mockTip(100L);
+    when(blockInteractor.streamHyperblocks(95L, null)).thenReturn(hyperblocks.asFlux());
+    mockTransaction(hash, Mono.just(transaction(hash, "success")));
+
+    StepVerifier.create(tracker.awaitCompletion(hash))
+        .then(() -> hyperblocks.tryEmitNext(hyperblock(95L, transaction("other", "success"))))
+        .then(() -> assertEquals(1, tracker.getPending()))
+        .then(() -> hyperblocks.tryEmitNext(hyperblock(96L, transaction(hash, "pending"))))
+        .then(() -> assertEquals(1, tracker.getPending()))
+        .then(() -> hyperblocks.tryEmitNext(hyperblock(97L, transaction(hash, "success"))))
+        .assertNext(r -> assertEquals("success", r.getStatus()))
+        .expectComplete()
+        .verify(timeout);
+
+    assertEquals(0, tracker.getPending());
+    assertEquals(98L, tracker.getNextNonce());
+    assertFalse(tracker.isStreaming());
+  }
+
+  @Test
+  void awaitCompletion_restartsStreamFromLastBlock() {
+    mockTip(100L);
+    when(blockInteractor.streamHyperblocks(95L, null)).thenReturn(hyperblocks.asFlux());
+    mockTransaction(hash, Mono.just(transaction(hash, "success")));
+
+    StepVerifier.create(tracker.awaitCompletion(hash))
+        .then(() -> hyperblocks.tryEmitNext(hyperblock(95L, transaction(hash, "success"))))
+        .expectNextCount(1)
+        .expectComplete()
+        .verify(timeout);
+    assertFalse(tracker.isStreaming());
+
+    var next = Sinks.many().multicast().<Hyperblock>onBackpressureBuffer();
+    when(blockInteractor.streamHyperblocks(96L, null)).thenReturn(next.asFlux());
+    mockTransaction("other", Mono.just(transaction("other", "success")));
+
+    StepVerifier.create(tracker.awaitCompletion("other"))
+        .then(() -> assertTrue(tracker.isStreaming()))
+        .then(() -> next.tryEmitNext(hyperblock(96L, transaction("other", "success"))))
+        .expectNextCount(1)
+        .expectComplete()
+        .verify(timeout);
+  }
+
+  @Test
+  void awaitCompletion_timesOut() {
+    tracker = new MxHyperblockTransactionTracker(client, blockInteractor, 100, Duration.ofMillis(10), Duration.ZERO);
+    mockTip(100L);
+    when(blockInteractor.streamHyperblocks(95L, null)).thenReturn(hyperblocks.asFlux());
+
+    StepVerifier.create(tracker.awaitCompletion(hash))
+        .then(() -> hyperblocks.tryEmitNext(hyperblock(95L, transaction("other", "success"))))
+        .expectError(TransactionTrackingTimeoutException.class)
+        .verify(timeout);
+
+    assertEquals(0, tracker.getPending());
+    assertFalse(tracker.isStreaming());
+  }
+
+  @Test
+  void awaitCompletion_timesOutWhileStreamFails() {
+    tracker = new MxHyperblockTransactionTracker(client, blockInteractor, 100, Duration.ofMillis(10),
+        Duration.ofMillis(100));
+    mockTip(100L);
+    when(blockInteractor.streamHyperblocks(95L, null))
+        .thenReturn(Flux.error(new ProxyRequestException("connection reset")));
+
+    StepVerifier.create(tracker.awaitCompletion(hash))
+        .expectError(TransactionTrackingTimeoutException.class)
+        .verify(timeout);
+
+    assertEquals(0, tracker.getPending());
+  }
+
+  @Test
+  void awaitCompletion_alreadySeenTransaction() {
+    mockTip(100L);
+    when(blockInteractor.streamHyperblocks(95L, null)).thenReturn(hyperblocks.asFlux());
+    mockTransaction(hash, Mono.error(new ProxyRequestException("timeout")));
+
+    tracker.awaitCompletion("other").subscribe();
+    hyperblocks.tryEmitNext(hyperblock(95L, transaction(hash, "fail"), transaction(null, "success")));
+
+    StepVerifier.create(tracker.awaitCompletion(hash))
+        .assertNext(r -> {
+          assertEquals(hash, r.getHash());
+          assertEquals("fail", r.getStatus());
+        })
+        .expectComplete()
+        .verify(timeout);
+
+    verify(blockInteractor, times(1)).streamHyperblocks(anyLong(), any());
+  }
+
+  @Test
+  void awaitCompletion_sharesBetweenSubscribers() {
+    mockTip(100L);
+    when(blockInteractor.streamHyperblocks(95L, null)).thenReturn(hyperblocks.asFlux());
+    mockTransaction(hash, Mono.just(transaction(hash, "invalid")));
+
+    var first = StepVerifier.create(tracker.awaitCompletion(hash))
+        .assertNext(r -> assertEquals("invalid", r.getStatus()))
+        .expectComplete()
+        .verifyLater();
+    var second = StepVerifier.create(tracker.awaitCompletion(hash))
+        .assertNext(r -> assertEquals("invalid", r.getStatus()))
+        .expectComplete()
+        .verifyLater();
+
+    assertEquals(1, tracker.getPending());
+    hyperblocks.tryEmitNext(hyperblock(95L, transaction(hash, "invalid")));
+
+    first.verify(timeout);
+    second.verify(timeout);
+  }
+
+  @Test
+  void awaitCompletion_resumesStreamAfterError() {
+    mockTip(100L);
+    when(blockInteractor.streamHyperblocks(95L, null))
+        .thenReturn(Flux.just(hyperblock(95L, transaction("other", "success")))
+            .concatWith(Flux.error(new ProxyRequestException("connection reset"))));
+    when(blockInteractor.streamHyperblocks(96L, null)).thenReturn(hyperblocks.asFlux());
+    mockTransaction(hash, Mono.just(transaction(hash, "success")));
+
+    StepVerifier.create(tracker.awaitCompletion(hash))
+        .then(() -> verify(blockInteractor, org.mockito.Mockito.timeout(1_000)).streamHyperblocks(96L, null))
+        .then(() -> hyperblocks.tryEmitNext(hyperblock(96L, transaction(hash, "success"))))
+        .assertNext(r -> assertEquals("success", r.getStatus()))
+        .expectComplete()
+        .verify(timeout);
+  }
+
+  @Test
+  void awaitCompletion_cancelStopsTracking() {
+    mockTip(100L);
+    when(blockInteractor.streamHyperblocks(95L, null)).thenReturn(hyperblocks.asFlux());
+
+    var subscription = tracker.awaitCompletion(hash).subscribe();
+    assertEquals(1, tracker.getPending());
+
+    subscription.dispose();
+    assertEquals(0, tracker.getPending());
+    assertFalse(tracker.isStreaming());
+  }
+
+  @Test
+  void onHyperblock_withoutTransactions() {
+    tracker.onHyperblock(Hyperblock.builder().nonce(10L).build());
+
+    assertEquals(11L, tracker.getNextNonce());
+  }
+
+  private void mockTip(Long tip) {
+    when(client.get(format(ApiResourceURI.SHARD_STATUS.getURI(), BlockConstants.METACHAIN_SHARD_ID),
+        WrappedResponses.GetShardStatusResponse.class))
+        .thenReturn(Mono.just(WrappedResponses.GetShardStatusResponse.builder()
+            .shardStatus(ShardStatus.builder().highestFinalNonce(tip).build())
+            .build()));
+  }
+
+  private void mockTransaction(String hash, Mono<TransactionOnNetwork> transaction) {
+    when(client.get(format(ApiResourceURI.TRANSACTION_ON_NETWORK.getURI(), hash, true),
+        WrappedResponses.QueryTransactionResponse.class))
+        .thenReturn(transaction.map(t -> WrappedResponses.QueryTransactionResponse.builder()
+            .transaction(t)
+            .build()));
+  }
+
+  private Hyperblock hyperblock(Long nonce, TransactionOnNetwork... transactions) {
+    return Hyperblock.builder()
+        .nonce(nonce)
+        .transactions(List.of(transactions))
+        .build();
+  }
+
+  private TransactionOnNetwork transaction(String hash, String status) {
+    return TransactionOnNetwork.builder()
+        .hash(hash)
+        .status(status)
+        .build();
+  }
+}
@@ -0,0 +1,108 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.AccountNonce;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.account.MxAccountInteractor;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class MxNonceManagerTest {
+
+  MxNonceManager nonceManager;
+
+  @Mock
+  MxAccountInteractor accountInteractor;
+
+  Address address = Address.fromBech32("erd1h7r2m9c250yncguz3zwq5na6gu5ttwz3vdx40nxkthxaak5v3wcqtpkvkj");
+
+  @BeforeEach
+  void setUp() {
+    nonceManager = new MxNonceManager(accountInteractor);
+  }
+
+  @Test
+  void acquire_fetchesOnceAndIncrements() {
+    mockNonce(Mono.just(AccountNonce.builder().nonce(10L).build()));
+
+    StepVerifier.create(nonceManager.acquire(address)).expectNext(10L).verifyComplete();
+    StepVerifier.create(nonceManager.acquire(address)).expectNext(11L).verifyComplete();
+    StepVerifier.create(nonceManager.acquire(address, 5)).expectNext(12L).verifyComplete();
+    StepVerifier.create(nonceManager.acquire(address)).expectNext(17L).verifyComplete();
+
+    verify(accountInteractor, times(1)).getNonce(any(Address.class));
+    assertEquals(1, nonceManager.getNonceFetches());
+    assertEquals(8, nonceManager.getAssignedNonces());
+    assertEquals(1, nonceManager.getTrackedAddresses());
+  }
+
+  @Test
+  void acquire_concurrentCallsGetDistinctNonces() {
+    mockNonce(Mono.just(AccountNonce.builder().nonce(0L).build()));
+
+    List<Long> nonces = Flux.range(0, 200)
+        .parallel()
+        .runOn(Schedulers.parallel())
+        .flatMap(i -> nonceManager.acquire(address))
+        .sequential()
+        .collectList()
+        .block();
+
+    Set<Long> distinct = nonces.stream().collect(Collectors.toSet());
+    assertEquals(200, distinct.size());
+    assertEquals(0L, distinct.stream().min(Long::compare).orElseThrow());
+    assertEquals(199L, distinct.stream().max(Long::compare).orElseThrow());
+    assertEquals(1, nonceManager.getNonceFetches());
+  }
+
+  @Test
+  void resync_fetchesNonceAgain() {
+    when(accountInteractor.getNonce(any(Address.class)))
+        .thenReturn(Mono.just(AccountNonce.builder().nonce(10L).build()))
+        .thenReturn(Mono.just(AccountNonce.builder().nonce(10L).build()));
+
+    StepVerifier.create(nonceManager.acquire(address)).expectNext(10L).verifyComplete();
+    StepVerifier.create(nonceManager.acquire(address)).expectNext(11L).verifyComplete();
+
+    nonceManager.resync(address);
+    nonceManager.resync(address);
+
+    StepVerifier.create(nonceManager.acquire(address)).expectNext(10L).verifyComplete();
+    assertEquals(2, nonceManager.getNonceFetches());
+    assertEquals(1, nonceManager.getResyncs());
+  }
+
+  @Test
+  void acquire_fetchError_isNotCached() {
+    when(accountInteractor.getNonce(any(Address.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("fail")))
+        .thenReturn(Mono.just(AccountNonce.builder().nonce(3L).build()));
+
+    StepVerifier.create(nonceManager.acquire(address)).verifyError(ProxyRequestException.class);
+    assertEquals(0, nonceManager.getTrackedAddresses());
+
+    StepVerifier.create(nonceManager.acquire(address)).expectNext(3L).verifyComplete();
+  }
+
+  private void mockNonce(Mono<AccountNonce> nonce) {
+    when(accountInteractor.getNonce(any(Address.class))).thenReturn(nonce);
+  }
+
+}
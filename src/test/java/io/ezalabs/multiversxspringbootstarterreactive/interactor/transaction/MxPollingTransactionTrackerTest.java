@@ -0,0 +1,217 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.ApiResourceURI;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionOnNetwork;
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionStatus;
+import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.TransactionTrackingTimeoutException;
+import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class MxPollingTransactionTrackerTest {
+
+  MxPollingTransactionTracker tracker;
+  VirtualTimeScheduler scheduler;
+
+  @Mock
+  MxProxyClient client;
+
+  String hash = "699ae03e6f9a18cb8b1f131b061a46a8b7dd96dfa3fe24861f03aa824a462920";
+  Duration round = Duration.ofSeconds(6);
+  Duration timeout = Duration.ofSeconds(5);
+
+  @BeforeEach
+  void setUp() {
+    scheduler = VirtualTimeScheduler.create();
+    tracker = new MxPollingTransactionTracker(client, () -> round, Duration.ofSeconds(1), 2, scheduler);
+  }
+
+  @AfterEach
+  void tearDown() {
+    tracker.close();
+  }
+
+  @Test
+  void awaitCompletion_pollsUntilFinal() {
+    mockStatus(hash, Mono.just(status("pending")), Mono.just(status("success")));
+    mockTransaction(hash, "success");
+
+    StepVerifier.create(tracker.awaitCompletion(hash))
+        .then(() -> scheduler.advanceTimeBy(round))
+        .then(() -> assertEquals(1, tracker.getPolls()))
+        .then(() -> scheduler.advanceTimeBy(round))
+        .assertNext(r -> assertEquals("success", r.getStatus()))
+        .expectComplete()
+        .verify(timeout);
+
+    assertEquals(2, tracker.getPolls());
+    assertEquals(1, tracker.getCompleted());
+    assertEquals(0, tracker.getPending());
+
+    scheduler.advanceTimeBy(Duration.ofSeconds(1));
+    assertFalse(tracker.isPolling());
+  }
+
+  @Test
+  void awaitCompletion_restartsAfterIdle() {
+    mockStatus(hash, Mono.just(status("success")));
+    mockTransaction(hash, "success");
+    mockStatus("other", Mono.just(status("success")));
+    mockTransaction("other", "success");
+
+    StepVerifier.create(tracker.awaitCompletion(hash))
+        .then(() -> scheduler.advanceTimeBy(round.plusSeconds(1)))
+        .expectNextCount(1)
+        .expectComplete()
+        .verify(timeout);
+    assertFalse(tracker.isPolling());
+
+    StepVerifier.create(tracker.awaitCompletion("other"))
+        .then(() -> assertTrue(tracker.isPolling()))
+        .then(() -> scheduler.advanceTimeBy(round))
+        .expectNextCount(1)
+        .expectComplete()
+        .verify(timeout);
+  }
+
+  @Test
+  void awaitCompletion_timesOut() {
+    tracker = new MxPollingTransactionTracker(client, () -> round, Duration.ofSeconds(1), 2,
+        round.multipliedBy(3), scheduler);
+    when(client.get(format(ApiResourceURI.TRANSACTION_STATUS.getURI(), hash), TransactionStatus.class))
+        .thenReturn(Mono.error(new ProxyRequestException("transaction not found")));
+
+    StepVerifier.create(tracker.awaitCompletion(hash))
+        .then(() -> scheduler.advanceTimeBy(round.multipliedBy(3)))
+        .expectError(TransactionTrackingTimeoutException.class)
+        .verify(timeout);
+
+    assertEquals(0, tracker.getPending());
+    scheduler.advanceTimeBy(Duration.ofSeconds(1));
+    assertFalse(tracker.isPolling());
+  }
+
+  @Test
+  void awaitCompletion_sharesPollsBetweenSubscribers() {
+    mockStatus(hash, Mono.just(status("fail")));
+    mockTransaction(hash, "fail");
+
+    var first = StepVerifier.create(tracker.awaitCompletion(hash))
+        .assertNext(r -> assertEquals("fail", r.getStatus()))
+        .expectComplete()
+        .verifyLater();
+    var second = StepVerifier.create(tracker.awaitCompletion(hash))
+        .assertNext(r -> assertEquals("fail", r.getStatus()))
+        .expectComplete()
+        .verifyLater();
+
+    assertEquals(1, tracker.getPending());
+    scheduler.advanceTimeBy(round);
+
+    first.verify(timeout);
+    second.verify(timeout);
+    assertEquals(1, tracker.getPolls());
+  }
+
+  @Test
+  void awaitCompletion_boundsPollsPerTick() {
+    when(client.get(startsWith("transaction/"), eq(TransactionStatus.class)))
+        .thenReturn(Mono.just(status("pending")));
+
+    for (var i = 0; i < 5; i++) {
+      tracker.awaitCompletion("hash" + i).subscribe();
+    }
+
+    scheduler.advanceTimeBy(round);
+    assertEquals(2, tracker.getPolls());
+
+    scheduler.advanceTimeBy(Duration.ofSeconds(2));
+    assertEquals(5, tracker.getPolls());
+    assertEquals(5, tracker.getPending());
+  }
+
+  @Test
+  void awaitCompletion_backsOffOnErrors() {
+    mockStatus(hash,
+        Mono.error(new ProxyRequestException("transaction not found")),
+        Mono.just(status("received")),
+        Mono.just(status("pending")),
+        Mono.just(status("invalid")));
+    mockTransaction(hash, "invalid");
+
+    StepVerifier.create(tracker.awaitCompletion(hash))
+        .then(() -> scheduler.advanceTimeBy(round))
+        .then(() -> scheduler.advanceTimeBy(round))
+        .then(() -> scheduler.advanceTimeBy(round.multipliedBy(2)))
+        .then(() -> assertEquals(3, tracker.getPolls()))
+        .then(() -> scheduler.advanceTimeBy(round.multipliedBy(3)))
+        .then(() -> assertEquals(3, tracker.getPolls()))
+        .then(() -> scheduler.advanceTimeBy(round))
+        .assertNext(r -> assertEquals("invalid", r.getStatus()))
+        .expectComplete()
+        .verify(timeout);
+  }
+
+  @Test
+  void awaitCompletion_cancelStopsTracking() {
+    var subscription = tracker.awaitCompletion(hash).subscribe();
+    assertEquals(1, tracker.getPending());
+
+    subscription.dispose();
+    assertEquals(0, tracker.getPending());
+
+    scheduler.advanceTimeBy(round.multipliedBy(2));
+    assertEquals(0, tracker.getPolls());
+  }
+
+  @Test
+  void close_stopsPolling() {
+    tracker.awaitCompletion(hash).subscribe();
+    tracker.close();
+
+    scheduler.advanceTimeBy(round.multipliedBy(2));
+    assertEquals(0, tracker.getPolls());
+  }
+
+  @SafeVarargs
+  private void mockStatus(String hash, Mono<TransactionStatus> first, Mono<TransactionStatus>... next) {
+    var stubbing = when(client.get(format(ApiResourceURI.TRANSACTION_STATUS.getURI(), hash), TransactionStatus.class))
+        .thenReturn(first);
+    for (var response : next) {
+      stubbing = stubbing.thenReturn(response);
+    }
+  }
+
+  private void mockTransaction(String hash, String status) {
+    when(client.get(format(ApiResourceURI.TRANSACTION_ON_NETWORK.getURI(), hash, true),
+        WrappedResponses.QueryTransactionResponse.class))
+        .thenReturn(Mono.just(WrappedResponses.QueryTransactionResponse.builder()
+            .transaction(TransactionOnNetwork.builder().status(status).build())
+            .build()));
+  }
+
+  private TransactionStatus status(String status) {
+    return TransactionStatus.builder().status(status).build();
+  }
+}
@@ -1,10 +1,16 @@
 package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static io.ezalabs.multiversxspringbootstarterreactive.interactor.Helper.verifyInteractionException;
 import static io.ezalabs.multiversxspringbootstarterreactive.interactor.Helper.verifyInteractionOk;
@@ -20,11 +26,17 @@ import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionStatu
 import io.ezalabs.multiversxspringbootstarterreactive.api.model.TransactionsSentResult;
 import io.ezalabs.multiversxspringbootstarterreactive.client.MxProxyClient;
 import io.ezalabs.multiversxspringbootstarterreactive.config.constants.CurrencyConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ProxyRequestException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.ResponseException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.TransactionChunkSkippedException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.TransactionTrackingTimeoutException;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +44,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpMethod;
 import reactor.core.publisher.Mono;
@@ -40,6 +53,7 @@ import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.common.Balance;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.PayloadData;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.Transaction;
+import io.ezalabs.multiversxspringbootstarterreactive.util.GasModel;
 import io.ezalabs.multiversxspringbootstarterreactive.domain.wallet.Wallet;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.WrappedResponses;
 import io.ezalabs.multiversxspringbootstarterreactive.interactor.account.MxAccountInteractor;
@@ -110,6 +124,66 @@ class MxTransactionInteractorTest {
         .verifyComplete();
   }
 
+  @Test
+  void sendTransaction_withTransactionRequest_assignsNoncesLocally() {
+    mockNonce();
+
+    var request = buildRequest(1.00, dataValueText);
+
+    when(client.post(ArgumentMatchers.eq(ApiResourceURI.SEND_TRANSACTION.getURI()), sendableCaptor.capture(), eq(TransactionHash.class)))
+        .thenReturn(Mono.just(TransactionHash.builder().hash("1234").build()));
+
+    StepVerifier.create(interactor.sendTransaction(wallet, request).then(interactor.sendTransaction(wallet, request)))
+        .assertNext(r -> {
+          var sendables = sendableCaptor.getAllValues();
+
+          assertEquals(nonceValue, sendables.get(0).getNonce());
+          assertEquals(nonceValue + 1, sendables.get(1).getNonce());
+        })
+        .verifyComplete();
+
+    verify(accountInteractor, times(1)).getNonce(any(Address.class));
+  }
+
+  @Test
+  void sendTransaction_withTransactionRequest_resyncsNonceOnError() {
+    mockNonce();
+
+    var request = buildRequest(1.00, dataValueText);
+
+    when(client.post(ArgumentMatchers.eq(ApiResourceURI.SEND_TRANSACTION.getURI()), sendableCaptor.capture(), eq(TransactionHash.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("lowerNonceInTx",
+            new ResponseException("transaction generation failed: lowerNonceInTx: true", "bad_request"))))
+        .thenReturn(Mono.just(TransactionHash.builder().hash("1234").build()));
+
+    StepVerifier.create(interactor.sendTransaction(wallet, request))
+        .verifyError(ProxyRequestException.class);
+    StepVerifier.create(interactor.sendTransaction(wallet, request))
+        .assertNext(r -> assertEquals(nonceValue, sendableCaptor.getValue().getNonce()))
+        .verifyComplete();
+
+    verify(accountInteractor, times(2)).getNonce(any(Address.class));
+  }
+
+  @Test
+  void sendTransaction_withTransactionRequest_keepsNonceOnTransportError() {
+    mockNonce();
+
+    var request = buildRequest(1.00, dataValueText);
+
+    when(client.post(ArgumentMatchers.eq(ApiResourceURI.SEND_TRANSACTION.getURI()), sendableCaptor.capture(), eq(TransactionHash.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("timeout")))
+        .thenReturn(Mono.just(TransactionHash.builder().hash("1234").build()));
+
+    StepVerifier.create(interactor.sendTransaction(wallet, request))
+        .verifyError(ProxyRequestException.class);
+    StepVerifier.create(interactor.sendTransaction(wallet, request))
+        .assertNext(r -> assertEquals(nonceValue + 1, sendableCaptor.getValue().getNonce()))
+        .verifyComplete();
+
+    verify(accountInteractor, times(1)).getNonce(any(Address.class));
+  }
+
   @Test
   void sendMultipleTransactions_withSendableArg() {
     var apiResponse = TransactionsSentResult.builder()
@@ -181,6 +255,218 @@ class MxTransactionInteractorTest {
         .verifyComplete();
   }
 
+  @Test
+  void sendMultipleTransactions_withTransactionRequest_sendsInChunks() {
+    mockNonce();
+    interactor = new MxTransactionInteractorImpl(client, accountInteractor, new MxNonceManager(accountInteractor),
+        TransactionBatchOptions.builder().chunkSize(2).concurrency(2).build());
+
+    var listOfRequests = List.of(
+        buildRequest(1.00, dataValueText),
+        buildRequest(2.00, dataValueText),
+        buildRequest(3.00, dataValueText),
+        buildRequest(4.00, dataValueText),
+        buildRequest(5.00, dataValueText));
+
+    when(client.post(eq(ApiResourceURI.SEND_MULTIPLE_TRANSACTIONS.getURI()), sendablesCaptor.capture(),
+        eq(TransactionsSentResult.class)))
+        .thenAnswer(invocation -> Mono.just(sentResultFor(invocation.getArgument(1))));
+
+    StepVerifier.create(interactor.sendMultipleTransactions(wallet, listOfRequests))
+        .assertNext(r -> {
+          assertEquals(3, sendablesCaptor.getAllValues().size());
+          assertEquals(5, r.getNumberOfSentTransactions());
+          assertEquals(5, r.getTransactionsHashes().size());
+
+          for (var i = 0; i < listOfRequests.size(); i++) {
+            assertEquals("hash-" + (nonceValue + i), r.getTransactionsHashes().get(String.valueOf(i)));
+          }
+        })
+        .verifyComplete();
+
+    verify(accountInteractor, times(1)).getNonce(any(Address.class));
+  }
+
+  @Test
+  void sendMultipleTransactions_withTransactionRequest_mergesPartialChunks() {
+    mockNonce();
+    var nonceManager = new MxNonceManager(accountInteractor);
+    interactor = new MxTransactionInteractorImpl(client, accountInteractor, nonceManager,
+        TransactionBatchOptions.builder().chunkSize(2).concurrency(1).build());
+
+    var listOfRequests = List.of(
+        buildRequest(1.00, dataValueText),
+        buildRequest(2.00, dataValueText),
+        buildRequest(3.00, dataValueText));
+
+    when(client.post(eq(ApiResourceURI.SEND_MULTIPLE_TRANSACTIONS.getURI()), sendablesCaptor.capture(),
+        eq(TransactionsSentResult.class)))
+        .thenAnswer(invocation -> {
+          var sendables = (Object[]) invocation.getArgument(1);
+          return sendables.length == 1
+              ? Mono.error(new ProxyRequestException("timeout"))
+              : Mono.just(sentResultFor(sendables));
+        });
+
+    StepVerifier.create(interactor.sendMultipleTransactions(wallet, listOfRequests))
+        .assertNext(r -> {
+          assertEquals(2, r.getNumberOfSentTransactions());
+          assertEquals("hash-" + nonceValue, r.getTransactionsHashes().get("0"));
+          assertEquals("hash-" + (nonceValue + 1), r.getTransactionsHashes().get("1"));
+          assertNull(r.getTransactionsHashes().get("2"));
+        })
+        .verifyComplete();
+
+    assertEquals(0, nonceManager.getResyncs());
+  }
+
+  @Test
+  void sendMultipleTransactions_withTransactionRequest_resyncsNonceOnNonceRejection() {
+    mockNonce();
+    var nonceManager = new MxNonceManager(accountInteractor);
+    interactor = new MxTransactionInteractorImpl(client, accountInteractor, nonceManager,
+        TransactionBatchOptions.builder().chunkSize(1).concurrency(1).build());
+
+    when(client.post(eq(ApiResourceURI.SEND_MULTIPLE_TRANSACTIONS.getURI()), sendablesCaptor.capture(),
+        eq(TransactionsSentResult.class)))
+        .thenAnswer(invocation -> Mono.just(sentResultFor(invocation.getArgument(1))))
+        .thenReturn(Mono.error(new ProxyRequestException("rejected", new ResponseException("invalid", "nonce"))));
+
+    StepVerifier.create(interactor.sendTransactionChunks(wallet,
+            List.of(buildRequest(1.00, dataValueText), buildRequest(2.00, dataValueText))))
+        .assertNext(r -> assertTrue(r.isComplete()))
+        .assertNext(r -> assertEquals("rejected", r.getError().getMessage()))
+        .verifyComplete();
+
+    assertEquals(1, nonceManager.getResyncs());
+  }
+
+  @Test
+  void sendTransactionChunks_skipsChunksAfterRejectedTransactions() {
+    mockNonce();
+    interactor = new MxTransactionInteractorImpl(client, accountInteractor, new MxNonceManager(accountInteractor),
+        TransactionBatchOptions.builder().chunkSize(2).concurrency(1).build());
+
+    when(client.post(eq(ApiResourceURI.SEND_MULTIPLE_TRANSACTIONS.getURI()), sendablesCaptor.capture(),
+        eq(TransactionsSentResult.class)))
+        .thenReturn(Mono.just(TransactionsSentResult.builder()
+            .numberOfSentTransactions(1)
+            .transactionsHashes(Map.of("0", "hash"))
+            .build()));
+
+    StepVerifier.create(interactor.sendTransactionChunks(wallet, List.of(buildRequest(1.00, dataValueText),
+            buildRequest(2.00, dataValueText), buildRequest(3.00, dataValueText))))
+        .assertNext(r -> {
+          assertFalse(r.isComplete());
+          assertEquals(Map.of("0", "hash"), r.getTransactionsHashes());
+        })
+        .assertNext(r -> {
+          assertEquals(2, r.getOffset());
+          assertEquals(0, r.getNumberOfSentTransactions());
+          assertTrue(r.getError() instanceof TransactionChunkSkippedException);
+        })
+        .verifyComplete();
+
+    verify(client, times(1)).post(eq(ApiResourceURI.SEND_MULTIPLE_TRANSACTIONS.getURI()), any(), any());
+  }
+
+  @Test
+  void sendTransactionChunks_skipsChunksAfterFailedChunk() {
+    mockNonce();
+    interactor = new MxTransactionInteractorImpl(client, accountInteractor, new MxNonceManager(accountInteractor),
+        TransactionBatchOptions.builder().chunkSize(1).concurrency(1).build());
+
+    when(client.post(eq(ApiResourceURI.SEND_MULTIPLE_TRANSACTIONS.getURI()), sendablesCaptor.capture(),
+        eq(TransactionsSentResult.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("timeout")));
+
+    var requests = List.of(buildRequest(1.00, dataValueText), buildRequest(2.00, dataValueText),
+        buildRequest(3.00, dataValueText));
+
+    StepVerifier.create(interactor.sendTransactionChunks(wallet, requests))
+        .assertNext(r -> assertEquals("timeout", r.getError().getMessage()))
+        .assertNext(r -> assertTrue(r.getError() instanceof TransactionChunkSkippedException))
+        .assertNext(r -> assertTrue(r.getError() instanceof TransactionChunkSkippedException))
+        .verifyComplete();
+    StepVerifier.create(interactor.sendMultipleTransactions(wallet, requests))
+        .verifyError(ProxyRequestException.class);
+
+    verify(client, times(2)).post(eq(ApiResourceURI.SEND_MULTIPLE_TRANSACTIONS.getURI()), any(), any());
+  }
+
+  @Test
+  void sendTransactionChunks_defaultSendsSingleChunk() {
+    var requests = List.of(buildRequest(1.00, dataValueText), buildRequest(2.00, dataValueText));
+    var defaultInteractor = Mockito.mock(MxTransactionInteractor.class, Mockito.CALLS_REAL_METHODS);
+    Mockito.doReturn(Mono.just(TransactionsSentResult.builder()
+            .numberOfSentTransactions(2)
+            .transactionsHashes(Map.of("0", "hash-0", "1", "hash-1"))
+            .build()))
+        .doReturn(Mono.error(new ProxyRequestException("timeout")))
+        .when(defaultInteractor).sendMultipleTransactions(wallet, requests);
+
+    StepVerifier.create(defaultInteractor.sendTransactionChunks(wallet, requests))
+        .assertNext(r -> assertTrue(r.isComplete()))
+        .verifyComplete();
+    StepVerifier.create(defaultInteractor.sendTransactionChunks(wallet, requests))
+        .assertNext(r -> assertEquals("timeout", r.getError().getMessage()))
+        .verifyComplete();
+  }
+
+  @Test
+  void awaitCompletion_defaultPollsStatus() {
+    var hash = "hash";
+    var defaultInteractor = Mockito.mock(MxTransactionInteractor.class, Mockito.CALLS_REAL_METHODS);
+    Mockito.doReturn(Mono.error(new ProxyRequestException("timeout")))
+        .doReturn(Mono.just(TransactionStatus.builder().status("pending").build()))
+        .doReturn(Mono.just(TransactionStatus.builder().status("success").build()))
+        .when(defaultInteractor).queryTransactionStatus(hash);
+    Mockito.doReturn(Mono.just(TransactionOnNetwork.builder().hash(hash).build()))
+        .when(defaultInteractor).queryTransactionInfo(hash, true);
+
+    StepVerifier.withVirtualTime(() -> defaultInteractor.awaitCompletion(hash))
+        .thenAwait(Duration.ofSeconds(18))
+        .assertNext(r -> assertEquals(hash, r.getHash()))
+        .verifyComplete();
+  }
+
+  @Test
+  void awaitCompletion_defaultTimesOut() {
+    var defaultInteractor = Mockito.mock(MxTransactionInteractor.class, Mockito.CALLS_REAL_METHODS);
+    Mockito.doReturn(Mono.just(TransactionStatus.builder().status("pending").build()))
+        .when(defaultInteractor).queryTransactionStatus("hash");
+
+    StepVerifier.withVirtualTime(() -> defaultInteractor.awaitCompletion("hash"))
+        .thenAwait(Duration.ofMillis(TransactionConstants.TRACKER_TIMEOUT_MILLIS))
+        .verifyError(TransactionTrackingTimeoutException.class);
+  }
+
+  @Test
+  void sendMultipleTransactions_withTransactionRequest_allChunksFail() {
+    mockNonce();
+    interactor = new MxTransactionInteractorImpl(client, accountInteractor, new MxNonceManager(accountInteractor),
+        TransactionBatchOptions.builder().chunkSize(1).build());
+
+    when(client.post(eq(ApiResourceURI.SEND_MULTIPLE_TRANSACTIONS.getURI()), sendablesCaptor.capture(),
+        eq(TransactionsSentResult.class)))
+        .thenReturn(Mono.error(new ProxyRequestException("timeout")))
+        .thenReturn(Mono.just(TransactionsSentResult.builder().numberOfSentTransactions(0).build()));
+
+    StepVerifier.create(interactor.sendMultipleTransactions(wallet,
+            List.of(buildRequest(1.00, dataValueText), buildRequest(2.00, dataValueText))))
+        .verifyError(ProxyRequestException.class);
+  }
+
+  @Test
+  void transactionBatchOptions() {
+    var defaults = TransactionBatchOptions.defaults();
+
+    assertEquals(100, defaults.getChunkSize());
+    assertEquals(4, defaults.getConcurrency());
+    assertThrows(IllegalArgumentException.class, () -> TransactionBatchOptions.builder().chunkSize(0).build());
+    assertThrows(IllegalArgumentException.class, () -> TransactionBatchOptions.builder().concurrency(-1).build());
+  }
+
   @Test
   void simulateTransaction_withSendableArg() {
     var apiResponse = WrappedResponses.SimulateTransactionResponse
@@ -301,6 +587,36 @@ class MxTransactionInteractorTest {
         ProxyRequestException.class, HttpMethod.POST);
   }
 
+  @Test
+  void estimateTransactionCost_offline() {
+    interactor = new MxTransactionInteractorImpl(client, accountInteractor, new MxNonceManager(accountInteractor),
+        TransactionBatchOptions.defaults(), new MxPollingTransactionTracker(client), new TransactionCostEstimator());
+
+    var transaction = new Transaction();
+    transaction.setSender(senderAddress);
+    transaction.setReceiver(Address.fromBech32(receiverAddressBech32));
+    transaction.setPayloadData(PayloadData.fromString(dataValueText));
+
+    StepVerifier.create(interactor.estimateTransactionCost(transaction.toSendable()))
+        .assertNext(r -> assertEquals(String.valueOf(GasModel.current().moveBalanceGas(dataValueText.length())),
+            r.getTransactionGasUnits()))
+        .verifyComplete();
+
+    verifyNoInteractions(client);
+  }
+
+  @Test
+  void estimateTransactionCost_offline_fallsBackToGateway() {
+    interactor = new MxTransactionInteractorImpl(client, accountInteractor, new MxNonceManager(accountInteractor),
+        TransactionBatchOptions.defaults(), new MxPollingTransactionTracker(client), new TransactionCostEstimator());
+
+    verifyInteractionOk(
+        client,
+        TransactionCostEstimation.builder().transactionGasUnits("12345").build(),
+        () -> interactor.estimateTransactionCost(sendable),
+        (r) -> assertEquals("12345", r.getTransactionGasUnits()), HttpMethod.POST);
+  }
+
   @Test
   void queryTransaction() {
     var addressBech32 = senderAddress.getBech32();
@@ -345,11 +661,37 @@ class MxTransactionInteractorTest {
         (r) -> assertEquals(status, r.getStatus()), HttpMethod.GET);
   }
 
+  @Test
+  void awaitCompletion() {
+    var tracker = Mockito.mock(MxTransactionTracker.class);
+    interactor = new MxTransactionInteractorImpl(client, accountInteractor, new MxNonceManager(accountInteractor),
+        TransactionBatchOptions.defaults(), tracker);
+
+    when(tracker.awaitCompletion(hash))
+        .thenReturn(Mono.just(TransactionOnNetwork.builder().status("success").build()));
+
+    StepVerifier.create(interactor.awaitCompletion(hash))
+        .assertNext(r -> assertEquals("success", r.getStatus()))
+        .verifyComplete();
+  }
+
   private void mockNonce() {
     when(accountInteractor.getNonce(any(Address.class)))
         .thenReturn(Mono.just(AccountNonce.builder().nonce(nonceValue).build()));
   }
 
+  private TransactionsSentResult sentResultFor(Object[] sendables) {
+    var hashes = new HashMap<String, String>();
+    for (var i = 0; i < sendables.length; i++) {
+      hashes.put(String.valueOf(i), "hash-" + ((Transaction.Sendable) sendables[i]).getNonce());
+    }
+
+    return TransactionsSentResult.builder()
+        .numberOfSentTransactions(sendables.length)
+        .transactionsHashes(hashes)
+        .build();
+  }
+
   private TransactionRequest buildRequest(Double value, String data) {
     return TransactionRequest.builder()
         .value(Balance.fromEgld(value))
@@ -0,0 +1,95 @@
+package io.ezalabs.multiversxspringbootstarterreactive.interactor.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.ezalabs.multiversxspringbootstarterreactive.domain.account.Address;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.PayloadData;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.Transaction;
+import io.ezalabs.multiversxspringbootstarterreactive.util.GasModel;
+import org.junit.jupiter.api.Test;
+
+class TransactionCostEstimatorTest {
+
+  TransactionCostEstimator estimator = new TransactionCostEstimator();
+
+  Address sender = Address.fromBech32("erd1h7r2m9c250yncguz3zwq5na6gu5ttwz3vdx40nxkthxaak5v3wcqtpkvkj");
+  Address receiver = Address.fromBech32("erd1gklqdv77my5y8n75hszv737gq54q9xk0tmzdh8v5vkfstd64aw7ser9nfr");
+  Address contract = Address.fromHex("000000000000000005001e2a1428dd1e3a5146b3960d9e0f4a50369904ee5483");
+
+  @Test
+  void estimate_egldTransfer() {
+    assertGas(GasModel.current().moveBalanceGas(0), receiver, "");
+    assertGas(GasModel.current().moveBalanceGas(5), receiver, "hello");
+  }
+
+  @Test
+  void estimate_esdtTransfer() {
+    var data = "ESDTTransfer@544f4b454e2d616263646566@0a";
+
+    assertGas(GasModel.current().esdtTransferEstimate(data.length()), receiver, data);
+  }
+
+  @Test
+  void estimate_nftTransfer() {
+    var data = "ESDTNFTTransfer@4e46542d616263646566@01@01@" + receiver.getHex();
+
+    assertGas(GasModel.current().esdtNftTransferEstimate(data.length()), sender, data);
+  }
+
+  @Test
+  void estimate_multiTransfer() {
+    var data = "MultiESDTNFTTransfer@" + receiver.getHex()
+        + "@02@544f4b454e2d616263646566@@0a@4e46542d616263646566@01@01";
+
+    assertGas(GasModel.current().multiEsdtTransferEstimate(data.length(), 2), sender, data);
+  }
+
+  @Test
+  void estimate_notEstimated() {
+    assertEmpty(contract, "");
+    assertEmpty(contract, "ESDTTransfer@544f4b454e2d616263646566@0a");
+    assertEmpty(receiver, "ESDTTransfer@544f4b454e2d616263646566@0a@66756e63");
+    assertEmpty(sender, "ESDTNFTTransfer@4e46542d616263646566@01@01@" + contract.getHex());
+    assertEmpty(receiver, "ESDTNFTTransfer@4e46542d616263646566@01@01@" + receiver.getHex());
+    assertEmpty(sender, "MultiESDTNFTTransfer@" + contract.getHex() + "@01@544f4b454e2d616263646566@@0a");
+    assertEmpty(sender, "MultiESDTNFTTransfer@" + receiver.getHex() + "@02@544f4b454e2d616263646566@@0a");
+    assertEmpty(sender, "MultiESDTNFTTransfer@" + receiver.getHex() + "@00");
+    assertEmpty(receiver, "MultiESDTNFTTransfer@" + receiver.getHex() + "@01@544f4b454e2d616263646566@@0a");
+    assertEmpty(sender, "MultiESDTNFTTransfer@" + receiver.getHex());
+    assertEmpty(sender, "MultiESDTNFTTransfer@" + receiver.getHex() + "@zz");
+    assertEmpty(sender, "ESDTLocalMint@544f4b454e2d616263646566@0a");
+    assertEmpty(receiver, "claim@01");
+    assertEmpty(sender, "hello");
+  }
+
+  @Test
+  void estimate_invalidPayload() {
+    var sendable = mock(Transaction.Sendable.class);
+    when(sendable.getSender()).thenReturn(sender.getBech32());
+    when(sendable.getReceiver()).thenReturn("erd1invalid");
+
+    assertTrue(estimator.estimate(sendable).isEmpty());
+  }
+
+  private void assertGas(long expected, Address to, String data) {
+    var estimation = estimator.estimate(transaction(to, data).toSendable());
+
+    assertEquals(String.valueOf(expected), estimation.orElseThrow().getTransactionGasUnits());
+  }
+
+  private void assertEmpty(Address to, String data) {
+    assertTrue(estimator.estimate(transaction(to, data).toSendable()).isEmpty());
+  }
+
+  private Transaction transaction(Address to, String data) {
+    var transaction = new Transaction();
+    transaction.setSender(sender);
+    transaction.setReceiver(to);
+    transaction.setPayloadData(PayloadData.fromString(data));
+    return transaction;
+  }
+
+}
@@ -1,6 +1,8 @@
 package io.ezalabs.multiversxspringbootstarterreactive.properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.ezalabs.multiversxspringbootstarterreactive.error.exception.GatewayException;
@@ -28,4 +30,23 @@ class MxClientPropertiesTest {
 
     assertThrows(GatewayException.class, () -> props.setGateway("invalid"));
   }
-}
\ No newline at end of file
+
+  @Test
+  void defaults() {
+    var props = new MxClientProperties();
+
+    assertEquals(10_000L, props.getReadTimeoutMillis());
+    assertEquals(10_000L, props.getWriteTimeoutMillis());
+    assertNull(props.getMaxConnections());
+    assertNull(props.getPendingAcquireMaxCount());
+    assertNull(props.getPendingAcquireTimeoutMillis());
+    assertNull(props.getMaxIdleTimeMillis());
+    assertNull(props.getMaxLifeTimeMillis());
+    assertFalse(props.isHttp2());
+    assertFalse(props.isCompression());
+    assertFalse(props.isCoalescingEnabled());
+    assertEquals(0, props.getEventLoopThreads());
+    assertEquals(100, props.getSendMultipleChunkSize());
+    assertEquals(4, props.getSendMultipleConcurrency());
+  }
+}
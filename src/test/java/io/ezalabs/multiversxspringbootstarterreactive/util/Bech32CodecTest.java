@@ -0,0 +1,101 @@
+package io.ezalabs.multiversxspringbootstarterreactive.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.AddressConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.CannotDecodeBech32AddressException;
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.WrongNetworkAddressException;
+import java.util.Random;
+import org.bitcoinj.core.Bech32;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.Test;
+
+class Bech32CodecTest {
+
+  String hexPublicKey = "bf86ad970aa3c93c2382889c0a4fba4728b5b851634d57ccd65dcddeda8c8bb0";
+  String bech32 = "erd1h7r2m9c250yncguz3zwq5na6gu5ttwz3vdx40nxkthxaak5v3wcqtpkvkj";
+
+  @Test
+  void encodeAddress() {
+    assertEquals(bech32, Bech32Codec.encodeAddress(AddressConstants.HRP, Hex.decode(hexPublicKey)));
+    assertThrows(CannotDecodeBech32AddressException.class,
+        () -> Bech32Codec.encodeAddress(AddressConstants.HRP, new byte[31]));
+  }
+
+  @Test
+  void decodeAddress() {
+    assertArrayEquals(Hex.decode(hexPublicKey), Bech32Codec.decodeAddress(AddressConstants.HRP, bech32));
+    assertArrayEquals(Hex.decode(hexPublicKey),
+        Bech32Codec.decodeAddress(AddressConstants.HRP, bech32.toUpperCase()));
+  }
+
+  @Test
+  void encodeAndDecode_matchReferenceImplementation() {
+    var random = new Random(42);
+
+    for (var i = 0; i < 2_000; i++) {
+      var publicKey = new byte[AddressConstants.PUBKEY_LENGTH];
+      random.nextBytes(publicKey);
+
+      var expected = Bech32.encode(Bech32.Encoding.BECH32, AddressConstants.HRP,
+          BitsConverter.convertBits(publicKey, 8, 5, true));
+      var encoded = Bech32Codec.encodeAddress(AddressConstants.HRP, publicKey);
+
+      assertEquals(expected, encoded);
+      assertArrayEquals(publicKey, Bech32Codec.decodeAddress(AddressConstants.HRP, encoded));
+      assertArrayEquals(publicKey,
+          BitsConverter.convertBits(Bech32.decode(encoded).data, 5, 8, false));
+    }
+  }
+
+  @Test
+  void decodeAddress_rejectsCorruptedChecksum() {
+    var random = new Random(7);
+    var charset = "qpzry9x8gf2tvdw0s3jn54khce6mua7l";
+
+    for (var i = 0; i < 500; i++) {
+      var position = 4 + random.nextInt(bech32.length() - 4);
+      var replacement = charset.charAt(random.nextInt(charset.length()));
+      if (replacement == bech32.charAt(position)) {
+        continue;
+      }
+
+      var corrupted = bech32.substring(0, position) + replacement + bech32.substring(position + 1);
+      assertThrows(CannotDecodeBech32AddressException.class,
+          () -> Bech32Codec.decodeAddress(AddressConstants.HRP, corrupted));
+    }
+  }
+
+  @Test
+  void decodeAddress_invalidInput() {
+    assertThrows(CannotDecodeBech32AddressException.class,
+        () -> Bech32Codec.decodeAddress(AddressConstants.HRP, "erd1"));
+    assertThrows(CannotDecodeBech32AddressException.class,
+        () -> Bech32Codec.decodeAddress(AddressConstants.HRP, bech32.concat("qqq")));
+    assertThrows(CannotDecodeBech32AddressException.class,
+        () -> Bech32Codec.decodeAddress(AddressConstants.HRP, "E" + bech32.substring(1)));
+    assertThrows(CannotDecodeBech32AddressException.class,
+        () -> Bech32Codec.decodeAddress(AddressConstants.HRP, bech32.replace('q', 'b')));
+    assertThrows(CannotDecodeBech32AddressException.class,
+        () -> Bech32Codec.decodeAddress(AddressConstants.HRP, bech32.replace('1', ' ')));
+    assertThrows(CannotDecodeBech32AddressException.class,
+        () -> Bech32Codec.decodeAddress(AddressConstants.HRP, "1" + bech32.substring(4)));
+    assertThrows(CannotDecodeBech32AddressException.class,
+        () -> Bech32Codec.decodeAddress(AddressConstants.HRP, "erd1qqqqqq" + "q".repeat(90)));
+  }
+
+  @Test
+  void decodeAddress_wrongNetworkOrLength() {
+    var otherNetwork = Bech32.encode(Bech32.Encoding.BECH32, "tb",
+        BitsConverter.convertBits(Hex.decode(hexPublicKey), 8, 5, true));
+    var shortKey = Bech32.encode(Bech32.Encoding.BECH32, AddressConstants.HRP,
+        BitsConverter.convertBits(new byte[20], 8, 5, true));
+
+    assertThrows(WrongNetworkAddressException.class,
+        () -> Bech32Codec.decodeAddress(AddressConstants.HRP, otherNetwork));
+    assertThrows(CannotDecodeBech32AddressException.class,
+        () -> Bech32Codec.decodeAddress(AddressConstants.HRP, shortKey));
+  }
+}
@@ -0,0 +1,63 @@
+package io.ezalabs.multiversxspringbootstarterreactive.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.ezalabs.multiversxspringbootstarterreactive.error.exception.CannotConvertBitsException;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BitsConverterTest {
+
+  @Test
+  void convertBits_matchesReferenceImplementation() {
+    var random = new Random(42);
+
+    for (var i = 0; i < 2_000; i++) {
+      var data = new byte[random.nextInt(100)];
+      random.nextBytes(data);
+
+      var converted = BitsConverter.convertBits(data, 8, 5, true);
+      assertArrayEquals(reference(data, 8, 5, true), converted);
+
+      var truncated = reference(converted, 5, 8, true);
+      assertArrayEquals(truncated, BitsConverter.convertBits(converted, 5, 8, true));
+      if (data.length * 8 % 5 == 0) {
+        assertArrayEquals(data, BitsConverter.convertBits(converted, 5, 8, false));
+      }
+    }
+  }
+
+  @Test
+  void convertBits_invalidInput() {
+    assertThrows(CannotConvertBitsException.class,
+        () -> BitsConverter.convertBits(new byte[]{32}, 5, 8, true));
+    assertThrows(CannotConvertBitsException.class,
+        () -> BitsConverter.convertBits(new byte[]{1, 1}, 5, 8, false));
+  }
+
+  private static byte[] reference(byte[] data, int fromBits, int toBits, boolean pad) {
+    int acc = 0;
+    int bits = 0;
+    var ret = new ByteArrayOutputStream();
+    int maxv = (1 << toBits) - 1;
+    int maxAcc = (1 << (fromBits + toBits - 1)) - 1;
+
+    for (byte value : data) {
+      acc = ((acc << fromBits) | (value & 0xff)) & maxAcc;
+      bits += fromBits;
+
+      while (bits >= toBits) {
+        bits -= toBits;
+        ret.write((acc >>> bits) & maxv);
+      }
+    }
+
+    if (pad && bits > 0) {
+      ret.write((acc << (toBits - bits)) & maxv);
+    }
+
+    return ret.toByteArray();
+  }
+}
@@ -0,0 +1,79 @@
+package io.ezalabs.multiversxspringbootstarterreactive.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.ezalabs.multiversxspringbootstarterreactive.api.model.NetworkConfig;
+import io.ezalabs.multiversxspringbootstarterreactive.config.MxNetworkConfigSupplier;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.ESDTConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.config.constants.TransactionConstants;
+import io.ezalabs.multiversxspringbootstarterreactive.domain.transaction.GasLimit;
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+
+class GasModelTest {
+
+  @Test
+  void fromNetworkConfig() {
+    var model = GasModel.fromNetworkConfig(config(50_000L, 1_000L));
+
+    assertEquals(50_000L, model.getMinGasLimit());
+    assertEquals(1_000L, model.getGasPerDataByte());
+    assertEquals(15_000L, model.dataGas(15));
+    assertEquals(65_000L, model.moveBalanceGas(15));
+    assertEquals(50_000L, model.moveBalanceGas(0));
+  }
+
+  @Test
+  void current() {
+    var model = GasModel.current();
+
+    assertSame(model, GasModel.current());
+    assertEquals(MxNetworkConfigSupplier.getConfig().getMinGasLimit().longValue(), model.getMinGasLimit());
+    assertEquals(MxNetworkConfigSupplier.getConfig().getGasPerDataByte(), model.getGasPerDataByte());
+  }
+
+  @Test
+  void builtInFunctionCosts() {
+    var model = GasModel.current();
+
+    assertEquals(ESDTConstants.ESDT_TRANSFER_GAS_COST, GasLimit.defaultEsdtTransfer().getValue());
+    assertEquals(ESDTConstants.ESDT_MULTI_TRANSFER_GAS_COST_BASE.multiply(BigInteger.valueOf(3)),
+        GasLimit.multiEsdtTransfer(3).getValue());
+    assertEquals(ESDTConstants.ESDT_ISSUANCE_GAS_COST.longValue(), model.esdtIssuanceGas());
+    assertEquals(ESDTConstants.ESDT_LOCAL_OP_GAS_COST.longValue(), model.esdtLocalOpGas());
+    assertEquals(ESDTConstants.ESDT_GLOBAL_OP_GAS_COST.longValue(), model.esdtGlobalOpGas());
+    assertEquals(ESDTConstants.ESDT_NFT_CREATE_COST.longValue(), model.nftCreateGas());
+    assertEquals(TransactionConstants.SC_CALL_GAS_LIMIT.longValue(), model.smartContractCallGas());
+  }
+
+  @Test
+  void transferEstimates() {
+    var model = GasModel.fromNetworkConfig(config(50_000L, 1_000L));
+
+    assertEquals(50_000L + 10_000L + 300_000L, model.esdtTransferEstimate(10));
+    assertEquals(50_000L + 10_000L + 1_000_000L, model.esdtNftTransferEstimate(10));
+    assertEquals(50_000L + 10_000L + 2 * 200_000L + 800_000L, model.multiEsdtTransferEstimate(10, 2));
+  }
+
+  @Test
+  void overflow() {
+    var model = GasModel.fromNetworkConfig(config(Long.MAX_VALUE - 1, Long.MAX_VALUE / 2));
+
+    assertThrows(ArithmeticException.class, () -> model.dataGas(3));
+    assertThrows(ArithmeticException.class, () -> model.moveBalanceGas(1));
+    assertThrows(ArithmeticException.class, () -> GasModel.fromNetworkConfig(NetworkConfig.builder()
+        .minGasLimit(BigInteger.TWO.pow(64))
+        .gasPerDataByte(0L)
+        .build()));
+  }
+
+  private static NetworkConfig config(long minGasLimit, long gasPerDataByte) {
+    return NetworkConfig.builder()
+        .minGasLimit(BigInteger.valueOf(minGasLimit))
+        .gasPerDataByte(gasPerDataByte)
+        .build();
+  }
+
+}
@@ -0,0 +1,70 @@
+package io.ezalabs.multiversxspringbootstarterreactive.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+  @Test
+  void get_and_put() {
+    var cache = new LruCache<String, String>(10);
+
+    assertNull(cache.get("a"));
+    cache.put("a", "1", Long.MAX_VALUE);
+    assertEquals("1", cache.get("a"));
+
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void evictsLeastRecentlyUsed() {
+    var cache = new LruCache<String, String>(2);
+
+    cache.put("a", "1", Long.MAX_VALUE);
+    cache.put("b", "2", Long.MAX_VALUE);
+    cache.get("a");
+    cache.put("c", "3", Long.MAX_VALUE);
+
+    assertEquals("1", cache.get("a"));
+    assertNull(cache.get("b"));
+    assertEquals("3", cache.get("c"));
+    assertEquals(1, cache.getEvictions());
+  }
+
+  @Test
+  void expiresAfterTtl() {
+    var clock = new AtomicLong(-5_000L);
+    var cache = new LruCache<String, String>(10, clock::get);
+
+    cache.put("short", "1", 1_000L);
+    cache.put("eternal", "2", Long.MAX_VALUE);
+
+    clock.addAndGet(999L);
+    assertEquals("1", cache.get("short"));
+
+    clock.addAndGet(1L);
+    assertNull(cache.get("short"));
+    assertEquals("2", cache.get("eternal"));
+    assertEquals(1, cache.getEvictions());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void invalidate() {
+    var cache = new LruCache<String, String>(10);
+
+    cache.put("a", "1", Long.MAX_VALUE);
+    cache.put("b", "2", Long.MAX_VALUE);
+    cache.invalidate("a");
+    assertNull(cache.get("a"));
+    assertEquals("2", cache.get("b"));
+
+    cache.invalidateAll();
+    assertEquals(0, cache.size());
+  }
+}
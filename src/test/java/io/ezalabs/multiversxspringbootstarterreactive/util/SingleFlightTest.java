@@ -0,0 +1,78 @@
+package io.ezalabs.multiversxspringbootstarterreactive.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class SingleFlightTest {
+
+  @Test
+  void execute_sharesInFlightExecution() {
+    var singleFlight = new SingleFlight<String, String>();
+    var calls = new AtomicInteger();
+    var sink = Sinks.<String>one();
+
+    var first = singleFlight.execute("key", () -> {
+      calls.incrementAndGet();
+      return sink.asMono();
+    });
+    var second = singleFlight.execute("key", () -> {
+      calls.incrementAndGet();
+      return Mono.just("other");
+    });
+
+    var firstVerifier = StepVerifier.create(first).expectNext("value").expectComplete().verifyLater();
+    var secondVerifier = StepVerifier.create(second).expectNext("value").expectComplete().verifyLater();
+
+    assertEquals(1, singleFlight.getInFlight());
+    sink.tryEmitValue("value");
+
+    firstVerifier.verify();
+    secondVerifier.verify();
+    assertEquals(1, calls.get());
+    assertEquals(1, singleFlight.getExecutions());
+    assertEquals(1, singleFlight.getShared());
+    assertEquals(0, singleFlight.getInFlight());
+  }
+
+  @Test
+  void execute_startsNewExecutionAfterCompletion() {
+    var singleFlight = new SingleFlight<String, Integer>();
+    var calls = new AtomicInteger();
+
+    var mono = singleFlight.execute("key", () -> Mono.fromCallable(calls::incrementAndGet));
+
+    StepVerifier.create(mono).expectNext(1).verifyComplete();
+    StepVerifier.create(mono).expectNext(2).verifyComplete();
+    assertEquals(0, singleFlight.getShared());
+  }
+
+  @Test
+  void execute_differentKeysAreNotShared() {
+    var singleFlight = new SingleFlight<String, String>();
+
+    StepVerifier.create(singleFlight.execute("a", () -> Mono.just("a"))).expectNext("a").verifyComplete();
+    StepVerifier.create(singleFlight.execute("b", () -> Mono.just("b"))).expectNext("b").verifyComplete();
+    assertEquals(2, singleFlight.getExecutions());
+  }
+
+  @Test
+  void execute_errorIsSharedAndForgotten() {
+    var singleFlight = new SingleFlight<String, String>();
+    var sink = Sinks.<String>one();
+
+    var first = StepVerifier.create(singleFlight.execute("key", sink::asMono)).expectError().verifyLater();
+    var second = StepVerifier.create(singleFlight.execute("key", sink::asMono)).expectError().verifyLater();
+    sink.tryEmitError(new RuntimeException("timeout"));
+
+    first.verify();
+    second.verify();
+    assertEquals(0, singleFlight.getInFlight());
+
+    StepVerifier.create(singleFlight.execute("key", () -> Mono.just("value"))).expectNext("value").verifyComplete();
+  }
+}